@@ -172,6 +172,18 @@ public abstract class AbstractAssertWithValues <E extends AbstractAssertWithValu
     return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public E isEqualTo(LobDigest expected) {
+    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public E isEqualTo(BytesContent expected) {
+    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+  }
+
   /** {@inheritDoc} */
   @Override
   public E isEqualTo(String expected) {
@@ -95,7 +95,7 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRows(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, column.getNumberOfValues(), expected);
   }
 
   /** {@inheritDoc} */
@@ -167,12 +167,20 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNullValues() {
+    // Evaluated by the database if the rows are not loaded : the values are only needed for the failure message
+    if (column.getNumberOfNotNullValues() == 0) {
+      return myself;
+    }
     return AssertionsOnColumnNullity.hasOnlyNullValues(myself, info, getValuesList());
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNotNullValues() {
+    // Evaluated by the database if the rows are not loaded : the values are only needed for the failure message
+    if (column.getNumberOfNullValues() == 0) {
+      return myself;
+    }
     return AssertionsOnColumnNullity.hasOnlyNotNullValues(myself, info, getValuesList());
   }
 
@@ -12,8 +12,10 @@
  */
 package org.assertj.db.api;
 
+import org.assertj.db.api.assertions.AssertOnExpectedRows;
 import org.assertj.db.api.assertions.AssertOnNumberOfColumns;
 import org.assertj.db.api.assertions.AssertOnNumberOfRows;
+import org.assertj.db.api.assertions.impl.AssertionsOnExpectedRows;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfColumns;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfRows;
 import org.assertj.db.navigation.Position;
@@ -23,6 +25,7 @@ import org.assertj.db.type.AbstractDbData;
 import org.assertj.db.type.Column;
 import org.assertj.db.type.Row;
 
+import java.io.File;
 import java.util.List;
 
 import static org.assertj.db.util.Descriptions.getColumnDescription;
@@ -44,7 +47,8 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
         extends AbstractAssert<A>
         implements OriginWithColumnsAndRows<C, R>,
                    AssertOnNumberOfColumns<A>,
-                   AssertOnNumberOfRows<A> {
+                   AssertOnNumberOfRows<A>,
+                   AssertOnExpectedRows<A> {
 
   /**
    * The actual value on which the assertion is.
@@ -112,14 +116,14 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
   /** {@inheritDoc} */
   @Override
   public C column(String columnName) {
-    return columnPosition.getInstance(actual.getColumnsList(), actual.getColumnsNameList(), columnName);
+    return columnPosition.getInstance(actual.getColumnsList(), actual.getColumnsNameList(), columnName,
+                                      actual.getDialect());
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRows(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, size, expected);
   }
 
@@ -130,4 +134,16 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
     int size = columnsNameList.size();
     return AssertionsOnNumberOfColumns.hasNumberOfColumns(myself, info, size, expected);
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public A isEqualToSnapshot(File file) {
+    return AssertionsOnExpectedRows.isEqualToSnapshot(myself, info, actual, file);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public A isEqualToCsv(File file) {
+    return AssertionsOnExpectedRows.isEqualToCsv(myself, info, actual, file);
+  }
 }
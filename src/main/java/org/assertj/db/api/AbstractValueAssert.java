@@ -190,6 +190,18 @@ public abstract class AbstractValueAssert<D extends AbstractDbData<D>, A extends
     return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public V isEqualTo(LobDigest expected) {
+    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public V isEqualTo(BytesContent expected) {
+    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+  }
+
   /** {@inheritDoc} */
   @Override
   public V isEqualTo(String expected) {
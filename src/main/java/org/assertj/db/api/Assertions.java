@@ -13,13 +13,19 @@
 package org.assertj.db.api;
 
 import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.BytesContent;
 import org.assertj.db.type.Changes;
+import org.assertj.db.type.Dialect;
+import org.assertj.db.type.LobDigest;
 import org.assertj.db.type.Request;
 import org.assertj.db.type.Source;
 import org.assertj.db.type.Table;
 import org.assertj.db.util.DialectHelper;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 import static org.assertj.db.util.Descriptions.getDescription;
 import static org.assertj.db.util.DialectHelper.ASSERTJ_DB_DIALECT_PROPERTY_NAME;
@@ -104,6 +110,11 @@ import static org.assertj.db.util.DialectHelper.ASSERTJ_DB_DIALECT_PROPERTY_NAME
  */
 public final class Assertions {
 
+  /**
+   * The size of the buffer used to read a stream.
+   */
+  private static final int BUFFER_SIZE = 8192;
+
   /**
    * Private constructor of the entry point.
    */
@@ -143,12 +154,18 @@ public final class Assertions {
 
   /**
    * Set current dialect to given one
+   * <p>
+   * The dialect is the default dialect ({@link Dialect#setDefault(Dialect)}) of the elements without dialect. To use
+   * different dialects at the same time, the dialect can be set on each element with
+   * {@link org.assertj.db.type.AbstractDbElement#setDialect(Dialect)}.
+   * </p>
    *
    * @param dialectName dialectName
    * @return the name of the current dialect
      */
   public static String usingDialect(String dialectName){
     System.setProperty(ASSERTJ_DB_DIALECT_PROPERTY_NAME, dialectName);
+    Dialect.setDefault(Dialect.forName(dialectName));
     return System.getProperty(ASSERTJ_DB_DIALECT_PROPERTY_NAME);
   }
 
@@ -166,10 +183,11 @@ public final class Assertions {
     try {
       ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
 
-      int byteInt = inputStream.read();
-      while (byteInt != -1) {
-        byteArrayOutputStream.write(byteInt);
-        byteInt = inputStream.read();
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int read = inputStream.read(buffer);
+      while (read != -1) {
+        byteArrayOutputStream.write(buffer, 0, read);
+        read = inputStream.read(buffer);
       }
 
       return byteArrayOutputStream.toByteArray();
@@ -191,8 +209,17 @@ public final class Assertions {
       throw new NullPointerException("File must be not null");
     }
 
-    try (InputStream inputStream = new FileInputStream(file)) {
-      return read(inputStream);
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new AssertJDBException("File %s is too big to be read in an array of bytes", file);
+      }
+      // The array is allocated once with the size of the file
+      ByteBuffer buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+        // Reads until the end of the file
+      }
+      return buffer.array();
     } catch (IOException e) {
       throw new AssertJDBException(e);
     }
@@ -221,4 +248,84 @@ public final class Assertions {
       throw new AssertJDBException(e);
     }
   }
+
+  /**
+   * Reads a file as a stream and returns the digest of its bytes.
+   * <p>
+   * The digest is compared to a {@code BLOB} without keeping the content of the file in memory.
+   * </p>
+   *
+   * @param file The {@link File}
+   * @return The digest of the bytes of the file.
+   * @throws NullPointerException If the {@code file} field is {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link IOException} during the loading.
+   * @see org.assertj.db.api.assertions.AssertOnValueEquality#isEqualTo(LobDigest)
+   * @since 1.1.0
+   */
+  public static LobDigest digestOf(File file) {
+    if (file == null) {
+      throw new NullPointerException("File must be not null");
+    }
+
+    try (InputStream inputStream = new FileInputStream(file)) {
+      return LobDigest.of(inputStream, 0);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Reads a file in the classpath as a stream and returns the digest of its bytes.
+   *
+   * @param resource The name of the file in the classpath.
+   * @return The digest of the bytes of the file.
+   * @throws NullPointerException If the {@code resource} field is {@code null}.
+   * @throws AssertJDBException If the file is not found or if it can not be read.
+   * @see org.assertj.db.api.assertions.AssertOnValueEquality#isEqualTo(LobDigest)
+   * @since 1.1.0
+   */
+  public static LobDigest digestFromClassPathOf(String resource) {
+    if (resource == null) {
+      throw new NullPointerException("Resource must be not null");
+    }
+
+    ClassLoader classLoader = Assertions.class.getClassLoader();
+    try (InputStream inputStream = classLoader.getResourceAsStream(resource)) {
+      if (inputStream == null) {
+        throw new AssertJDBException("Resource %s not found in the classpath", resource);
+      }
+
+      return LobDigest.of(inputStream, 0);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns the content of a file to compare to a value without loading the file in an array of bytes.
+   *
+   * @param file The {@link File}
+   * @return The content of the file.
+   * @throws NullPointerException If the {@code file} field is {@code null}.
+   * @see org.assertj.db.api.assertions.AssertOnValueEquality#isEqualTo(BytesContent)
+   * @since 1.1.0
+   */
+  public static BytesContent contentOf(File file) {
+    return BytesContent.of(file);
+  }
+
+  /**
+   * Returns the content of a file in the classpath to compare to a value without loading the file in an array of
+   * bytes.
+   *
+   * @param resource The name of the file in the classpath.
+   * @return The content of the file.
+   * @throws NullPointerException If the {@code resource} field is {@code null}.
+   * @throws AssertJDBException If the file is not found in the classpath.
+   * @see org.assertj.db.api.assertions.AssertOnValueEquality#isEqualTo(BytesContent)
+   * @since 1.1.0
+   */
+  public static BytesContent contentFromClassPathOf(String resource) {
+    return BytesContent.fromClassPath(resource);
+  }
 }
@@ -153,7 +153,7 @@ public class ChangeAssert
       throw new NullPointerException("Column name must be not null");
     }
     List<String> columnsNameList = change.getColumnsNameList();
-    int index = columnsNameList.indexOf(getColumnName(columnName));
+    int index = columnsNameList.indexOf(getColumnName(columnsNameList, columnName, change.getDialect()));
     if (index == -1) {
       throw new AssertJDBException("Column <%s> does not exist", columnName);
     }
@@ -0,0 +1,64 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import java.io.File;
+
+/**
+ * Defines the assertion methods on the rows compared to the expected rows of a file.
+ *
+ * @param <T> The "self" type of this assertion class. Please read &quot;<a href="http://bit.ly/1IZIRcY"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API implementation</a>&quot;
+ *            for more details.
+ * @author Régis Pouiller
+ * @since 1.1.0
+ * @see org.assertj.db.type.RowsComparison
+ */
+public interface AssertOnExpectedRows<T extends AssertOnExpectedRows<T>> {
+
+  /**
+   * Verifies that the rows are equal to the rows of a snapshot file.
+   * <p>
+   * Example where the assertion verifies that the table has the same rows than the snapshot written before :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * SnapshotFile.write(file, table);
+   * // Do something in the database
+   * assertThat(new Table(source, "movie")).isEqualToSnapshot(file);
+   * </code></pre>
+   *
+   * @param file The snapshot file.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the rows are different to the rows of the file.
+   * @see org.assertj.db.type.RowsComparison#compareWithSnapshot(org.assertj.db.type.AbstractDbData, File)
+   */
+  T isEqualToSnapshot(File file);
+
+  /**
+   * Verifies that the rows are equal to the rows of a CSV file.
+   * <p>
+   * Example where the assertion verifies that the table has the rows of a CSV file :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).isEqualToCsv(new File("src/test/resources/movie.csv"));
+   * </code></pre>
+   *
+   * @param file The CSV file.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the rows are different to the rows of the file.
+   * @see org.assertj.db.type.RowsComparison#compareWithCsv(org.assertj.db.type.AbstractDbData, File)
+   */
+  T isEqualToCsv(File file);
+}
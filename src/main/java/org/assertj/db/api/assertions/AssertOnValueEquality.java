@@ -12,8 +12,10 @@
  */
 package org.assertj.db.api.assertions;
 
+import org.assertj.db.type.BytesContent;
 import org.assertj.db.type.DateTimeValue;
 import org.assertj.db.type.DateValue;
+import org.assertj.db.type.LobDigest;
 import org.assertj.db.type.TimeValue;
 
 import java.util.UUID;
@@ -213,6 +215,57 @@ public interface AssertOnValueEquality<T extends AssertOnValueEquality<T>> {
    */
   T isEqualTo(byte[] expected);
 
+  /**
+   * Verifies that the value is equal to the content of a LOB represented by its digest.
+   * <p>
+   * Example where the assertion verifies that the value in the first {@code Column} of the first {@code Row} of the
+   * {@code Table} is equal to the content of a file (the file is read as a stream) :
+   * </p>
+   *
+   * <pre>
+   * <code class='java'>
+   * assertThat(table).row().value().isEqualTo(digestOf(new File(&quot;document.pdf&quot;)));
+   * </code>
+   * </pre>
+   * <p>
+   * The value can be a {@link LobDigest} (if the LOBs are read as digests), an array of bytes or a text.
+   * </p>
+   *
+   * @param expected The expected digest.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the value is not equal to the content represented by the digest in parameter.
+   * @see org.assertj.db.api.AbstractValueAssert#isEqualTo(LobDigest)
+   * @see org.assertj.db.api.AbstractAssertWithValues#isEqualTo(LobDigest)
+   * @see org.assertj.db.type.LoadOptions#setLobDigest(boolean)
+   * @since 1.1.0
+   */
+  T isEqualTo(LobDigest expected);
+
+  /**
+   * Verifies that the value is equal to the content of a file.
+   * <p>
+   * Example where the assertion verifies that the value in the first {@code Column} of the first {@code Row} of the
+   * {@code Table} is equal to the content of a file in the classpath :
+   * </p>
+   *
+   * <pre>
+   * <code class='java'>
+   * assertThat(table).row().value().isEqualTo(contentFromClassPathOf(&quot;file.png&quot;));
+   * </code>
+   * </pre>
+   * <p>
+   * The file is not loaded in an array of bytes : it is mapped in memory and compared part by part.
+   * </p>
+   *
+   * @param expected The expected content.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the value is not equal to the content in parameter.
+   * @see org.assertj.db.api.AbstractValueAssert#isEqualTo(BytesContent)
+   * @see org.assertj.db.api.AbstractAssertWithValues#isEqualTo(BytesContent)
+   * @since 1.1.0
+   */
+  T isEqualTo(BytesContent expected);
+
   /**
    * Verifies that the value is equal to a text.
    * <p>
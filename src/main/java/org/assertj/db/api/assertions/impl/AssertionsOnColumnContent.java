@@ -16,6 +16,7 @@ import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.core.internal.Failures;
 import org.assertj.db.api.AbstractAssert;
 import org.assertj.db.type.*;
+import org.assertj.db.util.ExpectedValue;
 import org.assertj.db.util.Values;
 
 import java.util.ArrayList;
@@ -61,11 +62,13 @@ public class AssertionsOnColumnContent {
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
     List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
-    for (Object val : expected) {
+    // Each expected value is converted once to be compared to the values of the column
+    for (ExpectedValue expectedValue : ExpectedValue.arrayOf(expected)) {
+      Object val = expectedValue.getExpected();
       boolean found = false;
       List<Value> newList = new ArrayList<>();
       for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
+        if (found || !expectedValue.isEqualTo(obj)) {
           newList.add(obj);
         }
         else {
@@ -226,11 +229,13 @@ public class AssertionsOnColumnContent {
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
     List<Value> list = new ArrayList<>(valuesList);
     int index = 0;
-    for (String val : expected) {
+    // Each expected value is converted once to be compared to the values of the column
+    for (ExpectedValue expectedValue : ExpectedValue.arrayOf(expected)) {
+      String val = (String) expectedValue.getExpected();
       boolean found = false;
       List<Value> newList = new ArrayList<>();
       for (Value obj : list) {
-        if (found || !Values.areEqual(obj, val)) {
+        if (found || !expectedValue.isEqualTo(obj)) {
           newList.add(obj);
         }
         else {
@@ -0,0 +1,98 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.db.api.AbstractAssert;
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Change;
+import org.assertj.db.type.RowsComparison;
+
+import java.io.File;
+import java.util.List;
+
+import static org.assertj.db.error.ShouldBeEqualToExpectedRows.shouldBeEqualToExpectedRows;
+
+/**
+ * Implements the assertion methods on the rows compared to the expected rows of a file.
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ * @see org.assertj.db.api.assertions.AssertOnExpectedRows
+ */
+public class AssertionsOnExpectedRows {
+
+  /**
+   * To notice failures in the assertion.
+   */
+  private final static Failures failures = Failures.instance();
+
+  /**
+   * Private constructor.
+   */
+  private AssertionsOnExpectedRows() {
+    // Empty
+  }
+
+  /**
+   * Verifies that the rows are equal to the rows of a snapshot file.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param data      The actual data.
+   * @param file      The snapshot file.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the rows are different to the rows of the file.
+   */
+  public static <A extends AbstractAssert> A isEqualToSnapshot(A assertion, WritableAssertionInfo info,
+                                                               AbstractDbData<?> data, File file) {
+    return isEqualTo(assertion, info, file, RowsComparison.compareWithSnapshot(data, file));
+  }
+
+  /**
+   * Verifies that the rows are equal to the rows of a CSV file.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param data      The actual data.
+   * @param file      The CSV file.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the rows are different to the rows of the file.
+   */
+  public static <A extends AbstractAssert> A isEqualToCsv(A assertion, WritableAssertionInfo info,
+                                                          AbstractDbData<?> data, File file) {
+    return isEqualTo(assertion, info, file, RowsComparison.compareWithCsv(data, file));
+  }
+
+  /**
+   * Verifies that there is no difference.
+   *
+   * @param <A>             The type of the assertion which call this method.
+   * @param assertion       The assertion which call this method.
+   * @param info            Writable information about an assertion.
+   * @param file            The file.
+   * @param differencesList The differences.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If there are differences.
+   */
+  private static <A extends AbstractAssert> A isEqualTo(A assertion, WritableAssertionInfo info, File file,
+                                                        List<Change> differencesList) {
+    if (!differencesList.isEmpty()) {
+      throw failures.failure(info, shouldBeEqualToExpectedRows(file, differencesList));
+    }
+    return assertion;
+  }
+}
@@ -76,7 +76,7 @@ public class AssertionsOnPrimaryKey {
       if (name == null) {
         throw new NullPointerException("Column name must be not null");
       }
-      namesList.add(getColumnName(name));
+      namesList.add(getColumnName(change.getColumnsNameList(), name, change.getDialect()));
     }
     Collections.sort(namesList);
 
@@ -164,6 +164,52 @@ public class AssertionsOnValueEquality {
     throw failures.failure(info, shouldBeEqual());
   }
 
+  /**
+   * Verifies that the value is equal to the content of a LOB represented by its digest.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param value     The value.
+   * @param expected  The expected digest.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the value is not equal to the content represented by the digest in parameter.
+   * @since 1.1.0
+   */
+  public static <A extends AbstractAssert> A isEqualTo(A assertion, WritableAssertionInfo info, Value value,
+                                                       LobDigest expected) {
+    if (expected != null) {
+      AssertionsOnValueType.isOfType(assertion, info, value, expected.isText() ? ValueType.TEXT : ValueType.BYTES);
+    }
+    if (areEqual(value, expected)) {
+      return assertion;
+    }
+    throw failures.failure(info, shouldBeEqual());
+  }
+
+  /**
+   * Verifies that the value is equal to the content of a file.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param value     The value.
+   * @param expected  The expected content.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the value is not equal to the content in parameter.
+   * @since 1.1.0
+   */
+  public static <A extends AbstractAssert> A isEqualTo(A assertion, WritableAssertionInfo info, Value value,
+                                                       BytesContent expected) {
+    if (expected != null) {
+      AssertionsOnValueType.isBytes(assertion, info, value);
+    }
+    if (areEqual(value, expected)) {
+      return assertion;
+    }
+    throw failures.failure(info, shouldBeEqual());
+  }
+
   /**
    * Verifies that the value is equal to a text.
    *
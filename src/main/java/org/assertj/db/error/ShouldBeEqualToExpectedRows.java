@@ -0,0 +1,117 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.db.type.Change;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the rows are equal to the expected rows of
+ * a file failed.
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public class ShouldBeEqualToExpectedRows extends BasicErrorMessageFactory {
+
+  /**
+   * The maximum number of differences in the message.
+   */
+  private static final int MAX_DIFFERENCES = 10;
+
+  /**
+   * Creates a new <code>{@link ShouldBeEqualToExpectedRows}</code>.
+   *
+   * @param expected        The file of the expected rows.
+   * @param differencesList The differences.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeEqualToExpectedRows(Object expected, List<Change> differencesList) {
+    StringBuilder stringBuilder = new StringBuilder(
+            "%nExpecting the rows to be equal to the rows of :%n   <%s>%nbut there are %s differences :");
+    List<Object> argumentsList = new ArrayList<>();
+    argumentsList.add(expected);
+    argumentsList.add(differencesList.size());
+    for (int index = 0; index < differencesList.size() && index < MAX_DIFFERENCES; index++) {
+      stringBuilder.append("%n   %s");
+      argumentsList.add(getDescription(differencesList.get(index)));
+    }
+    if (differencesList.size() > MAX_DIFFERENCES) {
+      stringBuilder.append("%n   ...");
+    }
+    return new ShouldBeEqualToExpectedRows(stringBuilder.toString(), argumentsList.toArray());
+  }
+
+  /**
+   * Returns the description of a difference.
+   *
+   * @param change The difference.
+   * @return The description.
+   */
+  private static String getDescription(Change change) {
+    switch (change.getChangeType()) {
+      case CREATION:
+        return "unexpected row " + getDescription(change.getRowAtEndPoint());
+      case DELETION:
+        return "missing row " + getDescription(change.getRowAtStartPoint());
+      default:
+        return "different row " + getDescription(change.getRowAtEndPoint()) + " instead of "
+               + getDescription(change.getRowAtStartPoint());
+    }
+  }
+
+  /**
+   * Returns the description of a row.
+   *
+   * @param row The row.
+   * @return The description.
+   */
+  private static String getDescription(Row row) {
+    StringBuilder stringBuilder = new StringBuilder();
+    List<Value> pksValuesList = row.getPksValueList();
+    if (!pksValuesList.isEmpty()) {
+      stringBuilder.append("with primary keys ").append(getValues(pksValuesList)).append(" ");
+    }
+    return stringBuilder.append(getValues(row.getValuesList())).toString();
+  }
+
+  /**
+   * Returns the representation of values.
+   *
+   * @param valuesList The values.
+   * @return The representation.
+   */
+  private static String getValues(List<Value> valuesList) {
+    List<Object> objectsList = new ArrayList<>();
+    for (Value value : valuesList) {
+      objectsList.add(value.getValue());
+    }
+    return objectsList.toString();
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param format    The format of the message.
+   * @param arguments The arguments of the format.
+   */
+  private ShouldBeEqualToExpectedRows(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.internal;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * H2 trigger which captures the changes on a table for a {@link org.assertj.db.type.Changes}.
+ * <p>
+ * Note : you never use directly this class. The triggers are created and dropped by the
+ * {@link org.assertj.db.type.Changes} when the capture by triggers is enabled. This class is the only one which uses
+ * the API of H2 : it is in a package which is not exported and it is only referenced by its name.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ * @see org.assertj.db.type.Changes#setTriggerCapture(boolean)
+ */
+public class H2CaptureTrigger implements Trigger {
+
+  /**
+   * The capture of the table (or {@code null} if the trigger is not installed by a
+   * {@link org.assertj.db.type.Changes} of this JVM).
+   */
+  private TriggerCaptures.Capture tableCapture;
+
+  /** {@inheritDoc} */
+  @Override
+  public void init(Connection conn, String schemaName, String triggerName, String tableName, boolean before,
+                   int type) {
+    tableCapture = TriggerCaptures.get(schemaName, triggerName);
+    if (tableCapture != null) {
+      tableCapture.setInitialized();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+    if (tableCapture != null) {
+      tableCapture.capture(oldRow, newRow);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void close() {
+    tableCapture = null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void remove() {
+    tableCapture = null;
+  }
+}
@@ -0,0 +1,108 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.internal;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the captures of the changes by triggers (by qualified name of trigger).
+ * <p>
+ * Note : you never use directly this class. The captures are registered by the {@link org.assertj.db.type.Changes}
+ * when the capture by triggers is enabled and the triggers (like {@link H2CaptureTrigger}) find their capture here.
+ * This class does not depend on the API of a database.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public final class TriggerCaptures {
+
+  /**
+   * The captures by qualified name of trigger.
+   */
+  private static final Map<String, Capture> CAPTURES_MAP = new ConcurrentHashMap<>();
+
+  /**
+   * Private constructor.
+   */
+  private TriggerCaptures() {
+    // Empty
+  }
+
+  /**
+   * Returns the qualified and quoted name of a trigger (or of a table).
+   *
+   * @param schema The schema (can be {@code null}).
+   * @param name The name.
+   * @return The qualified name.
+   */
+  public static String getQualifiedName(String schema, String name) {
+    if (schema == null) {
+      return "\"" + name + "\"";
+    }
+    return "\"" + schema + "\".\"" + name + "\"";
+  }
+
+  /**
+   * Registers a capture.
+   *
+   * @param triggerName The qualified name of the trigger.
+   * @param capture The capture.
+   */
+  public static void register(String triggerName, Capture capture) {
+    CAPTURES_MAP.put(triggerName, capture);
+  }
+
+  /**
+   * Unregisters a capture.
+   *
+   * @param triggerName The qualified name of the trigger.
+   */
+  public static void unregister(String triggerName) {
+    CAPTURES_MAP.remove(triggerName);
+  }
+
+  /**
+   * Returns the capture of a trigger.
+   *
+   * @param schemaName The name of the schema of the trigger.
+   * @param triggerName The name of the trigger (as given to the trigger by the database).
+   * @return The capture, or {@code null} if the trigger is not installed by a {@link org.assertj.db.type.Changes} of
+   *         this JVM.
+   */
+  public static Capture get(String schemaName, String triggerName) {
+    return CAPTURES_MAP.get(getQualifiedName(schemaName, triggerName));
+  }
+
+  /**
+   * Capture of the changes on a table, called by its trigger.
+   */
+  public interface Capture {
+
+    /**
+     * Notes that the trigger is initialized (in the same JVM).
+     */
+    void setInitialized();
+
+    /**
+     * Captures a change.
+     *
+     * @param oldRow The row before the change ({@code null} for an insertion).
+     * @param newRow The row after the change ({@code null} for a deletion).
+     * @throws SQLException SQL Exception.
+     */
+    void capture(Object[] oldRow, Object[] newRow) throws SQLException;
+  }
+}
@@ -15,6 +15,7 @@ package org.assertj.db.navigation;
 import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.global.AbstractElement;
 import org.assertj.db.type.DbElement;
+import org.assertj.db.type.Dialect;
 import org.assertj.db.util.DialectHelper;
 
 import java.util.List;
@@ -52,10 +53,25 @@ public abstract class PositionWithColumns<E extends AbstractElement & Navigation
    * @return The instance of element of navigation.
    */
   public N getInstance(List<D> elementsList, List<String> columnsNameList, String columnName) {
+    return getInstance(elementsList, columnsNameList, columnName, null);
+  }
+
+  /**
+   * Gets an instance of element of navigation corresponding to the column name normalized with a dialect.
+   * If this instance is already instanced, the method returns it from the cache.
+   *
+   * @param elementsList    List of elements.
+   * @param columnsNameList List of the columns name.
+   * @param columnName      Name of the column of the element on which is the instance of element of navigation.
+   * @param dialect         The dialect of the columns names ({@code null} for the default dialect).
+   * @return The instance of element of navigation.
+   * @since 1.1.0
+   */
+  public N getInstance(List<D> elementsList, List<String> columnsNameList, String columnName, Dialect dialect) {
     if (columnName == null) {
       throw new NullPointerException("Column name must be not null");
     }
-    int index = columnsNameList.indexOf(getColumnName(columnName));
+    int index = columnsNameList.indexOf(getColumnName(columnsNameList, columnName, dialect));
     if (index == -1) {
       throw new AssertJDBException("Column <%s> does not exist", columnName);
     }
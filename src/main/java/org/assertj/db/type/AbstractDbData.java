@@ -15,14 +15,18 @@ package org.assertj.db.type;
 import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.util.DialectHelper;
 import org.assertj.db.util.RowComparator;
+import org.assertj.db.util.Values;
 
 import javax.sql.DataSource;
 import java.sql.*;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-
-import static org.assertj.db.util.DialectHelper.getColumnName;
+import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * This class represents data from the database (either a {@link Table} or a {@link Request}).
@@ -49,6 +53,10 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * List of the column names.
    */
   private List<String> columnsNameList;
+  /**
+   * List of the column labels as in the database ({@code null} if they are not known).
+   */
+  private List<String> columnsLabelList;
   /**
    * List of the primary key names.
    */
@@ -61,6 +69,16 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * List of the columns.
    */
   private List<Column> columnsList;
+  /**
+   * Index of the rows by the normalized primary keys values.
+   * @see #getRowFromPksValues(Value...)
+   */
+  private Map<List<Object>, Row> rowsByPksValuesMap;
+  /**
+   * Types of the primary keys values in the index of the rows.
+   * @see #getRowFromPksValues(Value...)
+   */
+  private ValueType[] pksValueTypes;
 
   /**
    * Default constructor.
@@ -128,7 +146,8 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
   private void load() {
-    try (Connection connection = getConnection()) {
+    try (Connection connection = getConnection();
+         LoadOptions.ConnectionSettings settings = getLoadOptionsOrDefault().apply(connection)) {
       // Call the specific loading depending of Table or Request.
       loadImpl(connection);
       if (pksNameList == null) {
@@ -139,11 +158,98 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     }
   }
 
+  /**
+   * Loads the names of the columns from the database without loading the rows.
+   * <p>
+   * This method gets a {@link Connection} and calls {@link AbstractDbData#loadColumnsNameImpl(Connection)} for
+   * specific loading depending of being a {@link Table} or a {@link Request}.
+   * </p>
+   *
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  private void loadColumnsName() {
+    try (Connection connection = getConnection();
+         LoadOptions.ConnectionSettings settings = getLoadOptionsOrDefault().apply(connection)) {
+      loadColumnsNameImpl(connection);
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Counts the rows of the data in the database.
+   * <p>
+   * This method gets a {@link Connection} and calls {@link AbstractDbData#countImpl(Connection, String)} for specific
+   * counting depending of being a {@link Table} or a {@link Request}.
+   * </p>
+   *
+   * @param condition The condition on the rows to count ({@code null} to count all the rows).
+   * @return The number of rows.
+   * @throws SQLException SQL Exception.
+   */
+  private int count(String condition) throws SQLException {
+    try (Connection connection = getConnection();
+         LoadOptions.ConnectionSettings settings = getLoadOptionsOrDefault().apply(connection)) {
+      return countImpl(connection, condition);
+    }
+  }
+
+  /**
+   * Returns if all the rows can be counted by the database (for example a request can not always be a subquery).
+   *
+   * @param connection The {@link Connection} to the database.
+   * @return {@code true} if the rows can be counted, {@code false} otherwise.
+   */
+  private boolean isCountable(Connection connection) {
+    try {
+      countImpl(connection, null);
+      return true;
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns if the rows can be counted by the database with a condition.
+   *
+   * @return {@code true} by default.
+   */
+  boolean isCountableWithCondition() {
+    return true;
+  }
+
+  /**
+   * Prepares a statement according to the options of the loading and sets its parameters.
+   *
+   * @see LoadOptions
+   * @param connection The {@link Connection} to the database.
+   * @param request The SQL request.
+   * @param parameters The parameters of the request.
+   * @return The statement.
+   * @throws SQLException SQL Exception.
+   */
+  PreparedStatement prepareStatement(Connection connection, String request, Object[] parameters)
+          throws SQLException {
+
+    PreparedStatement statement = getLoadOptionsOrDefault().prepareStatement(connection, request);
+    try {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+    } catch (SQLException e) {
+      statement.close();
+      throw e;
+    }
+    return statement;
+  }
+
   /**
    * Sorts the list of rows.
    */
   protected void sortRows() {
     Collections.sort(rowsList, RowComparator.INSTANCE);
+    rowsByPksValuesMap = null;
   }
 
   /**
@@ -161,6 +267,35 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   protected abstract void loadImpl(Connection connection) throws SQLException;
 
+  /**
+   * Implementation of the loading of the names of the columns that depends of the kind of data.
+   * <p>
+   * This method is called by the {@link AbstractDbData#getColumnsList()} method when the rows are not loaded yet.
+   * </p>
+   *
+   * @see Table#loadColumnsNameImpl(Connection)
+   * @see Request#loadColumnsNameImpl(Connection)
+   * @param connection {@link Connection} to the database provided by {@link #loadColumnsName()} method.
+   * @throws SQLException SQL Exception.
+   */
+  protected abstract void loadColumnsNameImpl(Connection connection) throws SQLException;
+
+  /**
+   * Implementation of the counting of the rows that depends of the kind of data.
+   * <p>
+   * This method is called by the {@link AbstractDbData#getNumberOfRows()} method (and by the columns to count their
+   * {@code null} values) when the rows are not loaded yet.
+   * </p>
+   *
+   * @see Table#countImpl(Connection, String)
+   * @see Request#countImpl(Connection, String)
+   * @param connection {@link Connection} to the database provided by {@link #count(String)} method.
+   * @param condition The SQL condition on the rows to count ({@code null} to count all the rows).
+   * @return The number of rows.
+   * @throws SQLException SQL Exception.
+   */
+  protected abstract int countImpl(Connection connection, String condition) throws SQLException;
+
   /**
    * Collects rows from a {@link ResultSet}.
    * <p>
@@ -173,45 +308,142 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   protected void collectRowsFromResultSet(ResultSet resultSet) throws SQLException {
     ResultSetMetaData metaData = resultSet.getMetaData();
+    int[] columnsIndex = getColumnsIndex(metaData);
+    int[] columnsType = getColumnsType(metaData, columnsIndex);
     rowsList = new ArrayList<>();
+    rowsByPksValuesMap = null;
     while (resultSet.next()) {
-      List<Value> valuesList = new ArrayList<>();
-      for (String columnName : columnsNameList) {
-        // TODO Improve the check of the type
-        int index = -1;
-        for (int i = 1; i <= metaData.getColumnCount(); i++) {
-          if (columnName.equalsIgnoreCase(metaData.getColumnLabel(i))) {
-            index = i;
-            break;
-          }
-        }
-        Object object;
-        int type = metaData.getColumnType(index);
-        switch (type) {
-          case Types.DATE:
-            object = resultSet.getDate(columnName);
-            break;
-          case Types.TIME:
-            object = resultSet.getTime(columnName);
-            break;
-          case Types.TIMESTAMP:
-            object = resultSet.getTimestamp(columnName);
-            break;
-          case Types.BLOB:
-            object = resultSet.getBytes(columnName);
-            break;
-          case Types.CLOB:
-            object = resultSet.getString(columnName);
-            break;
-
-          default:
-            object = resultSet.getObject(columnName);
-            break;
+      rowsList.add(getRowFromResultSet(resultSet, columnsIndex, columnsType));
+    }
+  }
+
+  /**
+   * Browses the rows from a {@link ResultSet} without keeping them.
+   * <p>
+   * This method browse the {@link ResultSet} in parameter and calls the {@code rowHandler} for each {@link Row}. The
+   * list of {@link Row} ({@link #rowsList}) is not filled.
+   * </p>
+   *
+   * @param resultSet The {@link ResultSet}.
+   * @param rowHandler The handler called for each row.
+   * @throws SQLException A SQL Exception.
+   */
+  void browseRowsFromResultSet(ResultSet resultSet, RowHandler rowHandler) throws SQLException {
+    ResultSetMetaData metaData = resultSet.getMetaData();
+    int[] columnsIndex = getColumnsIndex(metaData);
+    int[] columnsType = getColumnsType(metaData, columnsIndex);
+    while (resultSet.next()) {
+      rowHandler.handle(getRowFromResultSet(resultSet, columnsIndex, columnsType));
+    }
+  }
+
+  /**
+   * Returns the index in the {@link ResultSet} of each column of the list of the columns name.
+   * <p>
+   * The index are resolved once for all the rows : then the values are read by index and not by name.
+   * </p>
+   *
+   * @param metaData The meta data of the {@link ResultSet}.
+   * @return The index of the columns (starting at {@code 1} like in JDBC).
+   * @throws SQLException A SQL Exception.
+   */
+  private int[] getColumnsIndex(ResultSetMetaData metaData) throws SQLException {
+    int columnCount = metaData.getColumnCount();
+    String[] columnsLabel = new String[columnCount];
+    for (int i = 1; i <= columnCount; i++) {
+      columnsLabel[i - 1] = metaData.getColumnLabel(i);
+    }
+    int[] columnsIndex = new int[columnsNameList.size()];
+    int index = 0;
+    for (String columnName : columnsNameList) {
+      columnsIndex[index] = -1;
+      for (int i = 1; i <= columnCount; i++) {
+        if (columnName.equalsIgnoreCase(columnsLabel[i - 1])) {
+          columnsIndex[index] = i;
+          break;
         }
-        valuesList.add(new Value(columnName, object));
       }
-      rowsList.add(new Row(pksNameList, columnsNameList, valuesList));
+      index++;
     }
+    return columnsIndex;
+  }
+
+  /**
+   * Returns the SQL type (from {@link Types}) of each column.
+   *
+   * @param metaData The meta data of the {@link ResultSet}.
+   * @param columnsIndex The index of the columns.
+   * @return The SQL type of the columns.
+   * @throws SQLException A SQL Exception.
+   */
+  private static int[] getColumnsType(ResultSetMetaData metaData, int[] columnsIndex) throws SQLException {
+    int[] columnsType = new int[columnsIndex.length];
+    for (int index = 0; index < columnsIndex.length; index++) {
+      columnsType[index] = metaData.getColumnType(columnsIndex[index]);
+    }
+    return columnsType;
+  }
+
+  /**
+   * Returns the {@link Row} at the current position of a {@link ResultSet}.
+   *
+   * @param resultSet The {@link ResultSet}.
+   * @param columnsIndex The index of the columns.
+   * @param columnsType The SQL type of the columns.
+   * @return The {@link Row}.
+   * @throws SQLException A SQL Exception.
+   */
+  private Row getRowFromResultSet(ResultSet resultSet, int[] columnsIndex, int[] columnsType) throws SQLException {
+    LoadOptions loadOptions = getLoadOptionsOrDefault();
+    List<Value> valuesList = new ArrayList<>(columnsIndex.length);
+    for (int index = 0; index < columnsIndex.length; index++) {
+      int columnIndex = columnsIndex[index];
+      Object object;
+      switch (columnsType[index]) {
+        case Types.DATE:
+          object = resultSet.getDate(columnIndex);
+          break;
+        case Types.TIME:
+          object = resultSet.getTime(columnIndex);
+          break;
+        case Types.TIMESTAMP:
+          object = resultSet.getTimestamp(columnIndex);
+          break;
+        case Types.BLOB:
+          if (loadOptions.isLobDigest()) {
+            object = loadOptions.getLobDigest(resultSet.getBlob(columnIndex));
+          } else {
+            object = resultSet.getBytes(columnIndex);
+          }
+          break;
+        case Types.CLOB:
+          if (loadOptions.isLobDigest()) {
+            object = loadOptions.getLobDigest(resultSet.getClob(columnIndex));
+          } else {
+            object = resultSet.getString(columnIndex);
+          }
+          break;
+
+        default:
+          object = resultSet.getObject(columnIndex);
+          break;
+      }
+      valuesList.add(new Value(columnsNameList.get(index), object));
+    }
+    return new Row(pksNameList, columnsNameList, valuesList, getDialect());
+  }
+
+  /**
+   * Handler of the rows browsed by {@link #browseRowsFromResultSet(ResultSet, RowHandler)}.
+   */
+  interface RowHandler {
+
+    /**
+     * Handles a row.
+     *
+     * @param row The row.
+     */
+    void handle(Row row);
   }
 
   /**
@@ -238,7 +470,18 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @param columnsNameList The list of the columns name.
    */
   protected void setColumnsNameList(List<String> columnsNameList) {
+    setColumnsNameList(columnsNameList, null);
+  }
+
+  /**
+   * Sets the list of the columns name with the list of the columns label as in the database.
+   *
+   * @param columnsNameList The list of the columns name.
+   * @param columnsLabelList The list of the columns label as in the database ({@code null} if they are not known).
+   */
+  protected void setColumnsNameList(List<String> columnsNameList, List<String> columnsLabelList) {
     this.columnsNameList = columnsNameList;
+    this.columnsLabelList = columnsLabelList;
   }
 
   /**
@@ -284,7 +527,7 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   protected void setPksNameList(List<String> pksNameList) {
     this.pksNameList = new ArrayList<>();
     for (String pkName : pksNameList) {
-      String pkNameUp = getColumnName(pkName);
+      String pkNameUp = getDialectOrDefault().getIdentifier(pkName);
       this.pksNameList.add(pkNameUp);
     }
     if (rowsList != null) {
@@ -292,9 +535,39 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
         row.setPksNameList(this.pksNameList);
       }
     }
+    rowsByPksValuesMap = null;
     controlIfAllThePksNameExistInTheColumns();
   }
 
+  /**
+   * Sets the rows of the data without reading the database (the data are considered as loaded).
+   *
+   * @param columnsNameList The list of the columns name.
+   * @param pksNameList The list of the primary keys name.
+   * @param rowsList The list of the rows.
+   * @throws AssertJDBException If one the primary keys do not exist in the columns name.
+   */
+  void setRowsList(List<String> columnsNameList, List<String> pksNameList, List<Row> rowsList) {
+    this.columnsNameList = columnsNameList;
+    columnsLabelList = null;
+    this.rowsList = rowsList;
+    columnsList = null;
+    for (Row row : rowsList) {
+      row.setDialect(getDialect());
+    }
+    setPksNameList(pksNameList);
+    sortRows();
+  }
+
+  /**
+   * Returns if the rows of the data are loaded.
+   *
+   * @return {@code true} if the rows are loaded, {@code false} otherwise.
+   */
+  boolean isLoaded() {
+    return rowsList != null;
+  }
+
   /**
    * Returns the list of the values in rows for the data from database.
    * <p>
@@ -313,13 +586,79 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     return rowsList;
   }
 
+  /**
+   * Returns the number of rows of the data from database.
+   * <p>
+   * If the rows are already loaded, this method returns the size of {@link #getRowsList()}. Otherwise the rows are
+   * counted by the database (with a {@code SELECT COUNT(*)}) without being loaded. If the database can not count the
+   * rows (for example if the request can not be used as a subquery), the rows are loaded.
+   * </p>
+   *
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  public int getNumberOfRows() {
+    if (rowsList == null) {
+      try {
+        return count(null);
+      } catch (SQLException e) {
+        // The rows are loaded instead
+      }
+    }
+    return getRowsList().size();
+  }
+
+  /**
+   * Returns the number of {@code null} (or not {@code null}) values in a column.
+   * <p>
+   * Like for {@link #getNumberOfRows()}, the values are counted by the database while the rows are not loaded (the
+   * column is quoted by the dialect with its label as in the database). The rows are loaded instead only if the data
+   * can not be counted at all : an error on the condition is thrown.
+   * </p>
+   *
+   * @param index The column index.
+   * @param nullValues {@code true} to count the {@code null} values, {@code false} to count the not {@code null} values.
+   * @return The number of values.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading
+   *           or the counting.
+   */
+  int getNumberOfValues(int index, boolean nullValues) {
+    if (rowsList == null && isCountableWithCondition()) {
+      List<String> columnsNameList = getColumnsNameList();
+      String label = columnsLabelList == null ? columnsNameList.get(index) : columnsLabelList.get(index);
+      try (Connection connection = getConnection();
+           LoadOptions.ConnectionSettings settings = getLoadOptionsOrDefault().apply(connection)) {
+        String condition = getDialect(connection).quoteIdentifier(label) + (nullValues ? " IS NULL" : " IS NOT NULL");
+        try {
+          return countImpl(connection, condition);
+        } catch (SQLException e) {
+          if (isCountable(connection)) {
+            throw new AssertJDBException(e);
+          }
+          // The data can not be counted by the database : the rows are loaded instead
+        }
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+    int count = 0;
+    for (Row row : getRowsList()) {
+      if ((row.getColumnValue(index).getValue() == null) == nullValues) {
+        count++;
+      }
+    }
+    return count;
+  }
+
   /**
    * Returns the list of the values in columns for the data from database.
    * <p>
-   * This method calls {@link #getColumnsNameList()} and {@link #getValuesList(int)} which calls {@link #getRowsList()}.
-   * <br>
-   * If it is the first call to {@link #getColumnsNameList()} or {@link #getRowsList()}, the data are loaded from
-   * database by calling the {@link #load()} private method.
+   * If the data are not loaded yet, only the names of the columns are loaded from database : the values of the columns
+   * are views on {@link #getRowsList()} and the data are loaded by calling the {@link #load()} private method at the
+   * first access to a value. So the columns can be navigated (and some of their assertions can be evaluated by the
+   * database) without loading the rows.
    * </p>
    *
    * @return The list of the values in columns.
@@ -328,12 +667,15 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   public List<Column> getColumnsList() {
     if (columnsList == null) {
+      if (rowsList == null && columnsNameList == null) {
+        loadColumnsName();
+      }
       columnsList = new ArrayList<>();
       List<String> columnsNameList = getColumnsNameList();
       int index = 0;
       for (String name : columnsNameList) {
         List<Value> valuesList = getValuesList(index);
-        Column column = new Column(name, valuesList);
+        Column column = new Column(name, valuesList, this, index);
         columnsList.add(column);
         index++;
       }
@@ -379,9 +721,8 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   /**
    * Returns the values of the column corresponding to the column name.
    * <p>
-   * This method calls {@link #getColumnsNameList()} and {@link #getRowsList()}.<br>
-   * If it is the first call to {@link #getColumnsNameList()} or {@link #getRowsList()}, the data are loaded from
-   * database by calling the {@link #load()} private method.
+   * The list which is returned is a view on the rows : the values are not copied. If it is the first access to a
+   * value, the data are loaded from database by calling {@link #getRowsList()}.
    * </p>
    * 
    * @param index The column index
@@ -390,26 +731,119 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
   private List<Value> getValuesList(int index) {
-    List<Value> valuesList = new ArrayList<>();
-    for (Row row : getRowsList()) {
-      valuesList.add(row.getColumnValue(index));
+    return new ColumnValuesList(this, index);
+  }
+
+  /**
+   * Unmodifiable view on the values of a column in the rows of a data.
+   */
+  private static class ColumnValuesList extends AbstractList<Value> implements RandomAccess {
+
+    /**
+     * The data containing the rows.
+     */
+    private final AbstractDbData<?> data;
+    /**
+     * The index of the column.
+     */
+    private final int index;
+
+    /**
+     * Constructor.
+     *
+     * @param data The data containing the rows.
+     * @param index The index of the column.
+     */
+    private ColumnValuesList(AbstractDbData<?> data, int index) {
+      this.data = data;
+      this.index = index;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Value get(int rowIndex) {
+      return data.getRowsList().get(rowIndex).getColumnValue(index);
     }
 
-    return valuesList;
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+      return data.getRowsList().size();
+    }
   }
 
   /**
    * Returns the {@link Row} with the primary keys values in parameter.
+   * <p>
+   * The first call builds an index of the rows by their primary keys values, so the next calls do not browse all the
+   * rows. The values of another type than the primary keys (like a {@code String} for a number) are compared to the
+   * values of each row.
+   * </p>
    * 
    * @param pksValues The primary keys values.
    * @return The {@link Row} with the same primary keys values.
    */
   public Row getRowFromPksValues(Value... pksValues) {
-    for (Row row : getRowsList()) {
-      if (row.hasPksValuesEqualTo(pksValues)) {
-        return row;
+    if (rowsByPksValuesMap == null) {
+      Map<List<Object>, Row> map = new HashMap<>();
+      ValueType[] valueTypes = null;
+      for (Row row : getRowsList()) {
+        Value[] rowPksValues = row.getPksValues();
+        if (rowPksValues.length != 0) {
+          if (valueTypes == null) {
+            valueTypes = getValueTypes(rowPksValues);
+          }
+          List<Object> key = getPksKey(rowPksValues);
+          // Keep the first row like a sequential search would do
+          if (!map.containsKey(key)) {
+            map.put(key, row);
+          }
+        }
+      }
+      rowsByPksValuesMap = map;
+      pksValueTypes = valueTypes;
+    }
+    Row row = rowsByPksValuesMap.get(getPksKey(pksValues));
+    if (row != null && row.hasPksValuesEqualTo(pksValues)) {
+      return row;
+    }
+    if (pksValueTypes != null && !Arrays.equals(pksValueTypes, getValueTypes(pksValues))) {
+      // The values are of other types than the primary keys (like a String for a number or an UUID) :
+      // the index can not find them, so they are compared like before the index
+      for (Row rowInList : getRowsList()) {
+        if (rowInList.hasPksValuesEqualTo(pksValues)) {
+          return rowInList;
+        }
       }
     }
     return null;
   }
+
+  /**
+   * Returns the types of the values.
+   *
+   * @param values The values.
+   * @return The types.
+   */
+  private static ValueType[] getValueTypes(Value[] values) {
+    ValueType[] valueTypes = new ValueType[values.length];
+    for (int index = 0; index < values.length; index++) {
+      valueTypes[index] = values[index].getValueType();
+    }
+    return valueTypes;
+  }
+
+  /**
+   * Returns the key in the index of the rows from the primary keys values.
+   *
+   * @param pksValues The primary keys values.
+   * @return The key.
+   */
+  private static List<Object> getPksKey(Value[] pksValues) {
+    List<Object> key = new ArrayList<>(pksValues.length);
+    for (Value value : pksValues) {
+      key.add(Values.getNormalizedObject(value));
+    }
+    return key;
+  }
 }
@@ -13,6 +13,10 @@
 package org.assertj.db.type;
 
 import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -41,6 +45,19 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
    * Data source.
    */
   private DataSource dataSource;
+  /**
+   * Connection shared with other elements.
+   * @see #setSharedConnection(Connection)
+   */
+  private Connection sharedConnection;
+  /**
+   * Options of the loading ({@code null} to use the default options).
+   */
+  private LoadOptions loadOptions;
+  /**
+   * Dialect of the database ({@code null} to use the default dialect and the dialect of the database).
+   */
+  private Dialect dialect;
 
   /**
    * Default constructor.
@@ -126,13 +143,108 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
     return myself;
   }
 
+  /**
+   * Returns the options of the loading.
+   *
+   * @see #setLoadOptions(LoadOptions)
+   * @return The options of the loading ({@code null} if the default options are used).
+   */
+  public LoadOptions getLoadOptions() {
+    return loadOptions;
+  }
+
+  /**
+   * Sets the options of the loading.
+   *
+   * @see #getLoadOptions()
+   * @param loadOptions The options of the loading ({@code null} to use the default options of
+   *                    {@link LoadOptions#getDefault()}).
+   * @return The actual instance.
+   */
+  public D setLoadOptions(LoadOptions loadOptions) {
+    this.loadOptions = loadOptions;
+    return myself;
+  }
+
+  /**
+   * Returns the options used for the loading : the options of this element or the default options.
+   *
+   * @return The options used for the loading.
+   */
+  LoadOptions getLoadOptionsOrDefault() {
+    if (loadOptions != null) {
+      return loadOptions;
+    }
+    return LoadOptions.getDefault();
+  }
+
+  /**
+   * Returns the dialect of the database.
+   *
+   * @see #setDialect(Dialect)
+   * @return The dialect ({@code null} if no dialect is set).
+   * @since 1.1.0
+   */
+  public Dialect getDialect() {
+    return dialect;
+  }
+
+  /**
+   * Sets the dialect of the database.
+   * <p>
+   * The dialect normalizes the names of the columns and gives the SQL specific to the database.
+   * </p>
+   *
+   * @see #getDialect()
+   * @param dialect The dialect ({@code null} to normalize the names with {@link Dialect#getDefault()} and to use the
+   *                SQL of the dialect of the database).
+   * @return The actual instance.
+   * @since 1.1.0
+   */
+  public D setDialect(Dialect dialect) {
+    this.dialect = dialect;
+    return myself;
+  }
+
+  /**
+   * Returns the dialect used to normalize the names : the dialect of this element or the default dialect.
+   *
+   * @return The dialect used to normalize the names.
+   */
+  Dialect getDialectOrDefault() {
+    if (dialect != null) {
+      return dialect;
+    }
+    return Dialect.getDefault();
+  }
+
+  /**
+   * Returns the dialect used for the SQL : the dialect of this element or the dialect of the database.
+   *
+   * @param connection The {@link Connection} to the database.
+   * @return The dialect used for the SQL.
+   * @throws SQLException SQL Exception.
+   */
+  Dialect getDialect(Connection connection) throws SQLException {
+    if (dialect != null) {
+      return dialect;
+    }
+    return Dialect.forDatabase(MetadataCache.getDatabaseProductName(getDatabaseKey(), connection));
+  }
+
   /**
    * Returns a {@link Connection} from a {@link DataSource} or from a {@link Source}.
+   * <p>
+   * The connections from a {@link Source} are borrowed from its {@link ConnectionPool} (if the pools are enabled).
+   * </p>
    * 
    * @return A {@link Connection} differently, depending if it is a {@link DataSource} or a {@link Source}.
    * @throws SQLException SQL Exception
    */
   protected Connection getConnection() throws SQLException {
+    if (sharedConnection != null) {
+      return sharedConnection;
+    }
     if (dataSource == null && source == null) {
       throw new NullPointerException("connection or dataSource must be not null");
     }
@@ -140,11 +252,60 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
     // Get a Connection differently, depending if it is a DataSource or a Source.
     if (dataSource != null) {
       return dataSource.getConnection();
+    } else if (ConnectionPool.isEnabled()) {
+      return ConnectionPool.of(source).getConnection();
     } else {
       return DriverManager.getConnection(source.getUrl(), source.getUser(), source.getPassword());
     }
   }
 
+  /**
+   * Returns the key identifying the database in the {@link MetadataCache}.
+   *
+   * @return The {@link DataSource} or a key built from the url, the user and the password of the {@link Source}.
+   * @throws NullPointerException If the {@link DataSource} and the {@link Source} are {@code null}.
+   */
+  Object getDatabaseKey() {
+    if (dataSource != null) {
+      return dataSource;
+    }
+    if (source == null) {
+      throw new NullPointerException("connection or dataSource must be not null");
+    }
+    return MetadataCache.getDatabaseKey(source);
+  }
+
+  /**
+   * Sets a connection shared with other elements.
+   * <p>
+   * While it is set, {@link #getConnection()} returns this connection instead of a new one from the {@link Source} or
+   * the {@link DataSource}, and closing the returned connection has no effect : the owner of the shared connection is
+   * in charge of closing it.
+   * </p>
+   *
+   * @param connection The shared connection ({@code null} to get again a new connection for each loading).
+   */
+  void setSharedConnection(final Connection connection) {
+    if (connection == null) {
+      sharedConnection = null;
+      return;
+    }
+    sharedConnection = (Connection) Proxy.newProxyInstance(AbstractDbElement.class.getClassLoader(),
+        new Class<?>[] { Connection.class }, new InvocationHandler() {
+          @Override
+          public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && method.getParameterTypes().length == 0) {
+              return null;
+            }
+            try {
+              return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+              throw e.getCause();
+            }
+          }
+        });
+  }
+
   /**
    * Returns the catalog from a connection.
    * @param connection The connection with the catalog
@@ -0,0 +1,252 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+
+/**
+ * This class represents the expected content of a file (or of a file in the classpath) to compare to a value.
+ * <p>
+ * The content is not copied in an array of bytes : the file is mapped in memory part by part and each part is
+ * compared to the value (or added to the digest if the value is a {@link LobDigest}). A file in a jar is read as a
+ * stream.
+ * </p>
+ * <pre><code class='java'>
+ * assertThat(table).row().value(&quot;document&quot;).isEqualTo(contentOf(new File(&quot;document.pdf&quot;)));
+ * </code></pre>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ * @see org.assertj.db.api.Assertions#contentOf(File)
+ * @see org.assertj.db.api.Assertions#contentFromClassPathOf(String)
+ */
+public final class BytesContent {
+
+  /**
+   * The size of the part of the file which is mapped in memory at the same time.
+   */
+  private static final int MAPPED_SIZE = 64 * 1024 * 1024;
+  /**
+   * The size of the buffer of the reading of a stream.
+   */
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * The file ({@code null} if the content is a resource which is not in a file).
+   */
+  private final File file;
+  /**
+   * The name of the resource in the classpath ({@code null} if the content is a file).
+   */
+  private final String resource;
+
+  /**
+   * Constructor.
+   *
+   * @param file The file.
+   * @param resource The name of the resource in the classpath.
+   */
+  private BytesContent(File file, String resource) {
+    this.file = file;
+    this.resource = resource;
+  }
+
+  /**
+   * Returns the content of a file.
+   *
+   * @param file The file.
+   * @return The content.
+   * @throws NullPointerException If {@code file} is {@code null}.
+   */
+  public static BytesContent of(File file) {
+    if (file == null) {
+      throw new NullPointerException("File must be not null");
+    }
+    return new BytesContent(file, null);
+  }
+
+  /**
+   * Returns the content of a file in the classpath.
+   *
+   * @param resource The name of the file in the classpath.
+   * @return The content.
+   * @throws NullPointerException If {@code resource} is {@code null}.
+   * @throws AssertJDBException If the file is not found in the classpath.
+   */
+  public static BytesContent fromClassPath(String resource) {
+    if (resource == null) {
+      throw new NullPointerException("Resource must be not null");
+    }
+    URL url = BytesContent.class.getClassLoader().getResource(resource);
+    if (url == null) {
+      throw new AssertJDBException("Resource %s not found in the classpath", resource);
+    }
+    if ("file".equals(url.getProtocol())) {
+      try {
+        return new BytesContent(new File(url.toURI()), null);
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        // The resource is read as a stream
+      }
+    }
+    return new BytesContent(null, resource);
+  }
+
+  /**
+   * Returns the length of the content.
+   *
+   * @return The number of bytes.
+   * @throws AssertJDBException If the content can not be read.
+   */
+  public long getLength() {
+    if (file != null) {
+      return file.length();
+    }
+    try (InputStream inputStream = openResource()) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      long length = 0;
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        length += read;
+      }
+      return length;
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns if the array of bytes in parameter has this content.
+   *
+   * @param bytes The array of bytes.
+   * @return {@code true} if the array of bytes has this content, {@code false} otherwise.
+   * @throws AssertJDBException If the content can not be read.
+   */
+  public boolean isContentOf(byte[] bytes) {
+    if (bytes == null) {
+      return false;
+    }
+    try {
+      if (file != null) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+          long size = channel.size();
+          if (size != bytes.length) {
+            return false;
+          }
+          for (long position = 0; position < size; position += MAPPED_SIZE) {
+            int length = (int) Math.min(MAPPED_SIZE, size - position);
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            if (!buffer.equals(ByteBuffer.wrap(bytes, (int) position, length))) {
+              return false;
+            }
+          }
+          return true;
+        }
+      }
+
+      try (InputStream inputStream = openResource()) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int position = 0;
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+          if (read > bytes.length - position) {
+            return false;
+          }
+          for (int index = 0; index < read; index++) {
+            if (buffer[index] != bytes[position + index]) {
+              return false;
+            }
+          }
+          position += read;
+        }
+        return position == bytes.length;
+      }
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns if the digest in parameter is the digest of this content.
+   *
+   * @param lobDigest The digest of a {@code BLOB}.
+   * @return {@code true} if the digest is the digest of this content, {@code false} otherwise.
+   * @throws AssertJDBException If the content can not be read.
+   */
+  public boolean isContentOf(LobDigest lobDigest) {
+    if (lobDigest == null || lobDigest.isText() || (file != null && lobDigest.getLength() != file.length())) {
+      return false;
+    }
+    return lobDigest.equals(getDigest());
+  }
+
+  /**
+   * Returns the digest of this content.
+   *
+   * @return The digest.
+   * @throws AssertJDBException If the content can not be read.
+   */
+  LobDigest getDigest() {
+    try {
+      if (file != null) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+          MessageDigest messageDigest = LobDigest.getMessageDigest();
+          long size = channel.size();
+          for (long position = 0; position < size; position += MAPPED_SIZE) {
+            int length = (int) Math.min(MAPPED_SIZE, size - position);
+            messageDigest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+          }
+          return new LobDigest(false, size, messageDigest.digest(), "");
+        }
+      }
+
+      try (InputStream inputStream = openResource()) {
+        return LobDigest.of(inputStream, 0);
+      }
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Opens the stream of the resource in the classpath.
+   *
+   * @return The stream.
+   * @throws AssertJDBException If the resource is not found.
+   */
+  private InputStream openResource() {
+    InputStream inputStream = BytesContent.class.getClassLoader().getResourceAsStream(resource);
+    if (inputStream == null) {
+      throw new AssertJDBException("Resource %s not found in the classpath", resource);
+    }
+    return inputStream;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    if (file != null) {
+      return "content of " + file;
+    }
+    return "content of " + resource + " in the classpath";
+  }
+}
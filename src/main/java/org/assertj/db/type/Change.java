@@ -202,4 +202,14 @@ public class Change implements DbElement {
   public Row getRowAtEndPoint() {
     return rowAtEndPoint;
   }
+
+  /**
+   * Returns the dialect of the rows of the change (which normalizes the names of the columns).
+   *
+   * @return The dialect ({@code null} if the names are normalized with {@link Dialect#getDefault()}).
+   * @since 1.1.0
+   */
+  public Dialect getDialect() {
+    return rowAtStartPoint != null ? rowAtStartPoint.getDialect() : rowAtEndPoint.getDialect();
+  }
 }
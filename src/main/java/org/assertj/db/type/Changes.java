@@ -14,23 +14,39 @@ package org.assertj.db.type;
 
 import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.util.ChangeComparator;
+import org.assertj.db.util.Values;
 
 import javax.sql.DataSource;
+import java.io.File;
 import java.sql.Connection;
-import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.db.type.Change.*;
 
 /**
  * Changes in the database.
+ * <p>
+ * The {@link Table}s at start point and at end point are usually complete. With some settings, they only contain a part
+ * of the rows (which is enough to find the changes) :
+ * </p>
+ * <ul>
+ * <li>{@link #setStreamedEndPoint(boolean)} : the tables at end point with primary keys only contain the rows which are
+ * created or modified,</li>
+ * <li>{@link #setHashedEndPoint(boolean)} : the tables at end point with primary keys only contain the rows which are
+ * created or whose hash changed,</li>
+ * <li>{@link #setTriggerCapture(boolean)} : the tables at start point and at end point only contain the rows which were
+ * touched.</li>
+ * </ul>
  * 
  * @author Régis Pouiller
  * 
  */
-public class Changes extends AbstractDbElement<Changes> {
+public class Changes extends AbstractDbElement<Changes> implements AutoCloseable {
 
   /**
    * The list of the tables.
@@ -60,6 +76,47 @@ public class Changes extends AbstractDbElement<Changes> {
    * The list of the changes.
    */
   private List<Change> changesList;
+  /**
+   * If the rows of the tables at end point are streamed.
+   */
+  private boolean streamedEndPoint;
+  /**
+   * The maximum number of tables loaded at the same time.
+   */
+  private int parallelism = 1;
+  /**
+   * If all the data of a point are read with the same connection in a read only transaction.
+   */
+  private boolean consistentSnapshot;
+  /**
+   * If the changes on the tables are captured by triggers.
+   */
+  private boolean triggerCapture;
+  /**
+   * The capture by triggers between the start point and the end point ({@code null} if there is no capture).
+   */
+  private TriggerCapture capture;
+  /**
+   * If the fingerprints of the tables are compared before loading them at end point.
+   */
+  private boolean fingerprintCheck;
+  /**
+   * The fingerprints of the tables at start point (a fingerprint is {@code null} if it is not computed).
+   */
+  private List<String> fingerprintsAtStartPointList;
+  /**
+   * If the rows of the tables at end point are compared with their hashes before being read.
+   */
+  private boolean hashedEndPoint;
+  /**
+   * The hashes of the rows of the tables at start point (the hashes of a table are {@code null} if they are not
+   * computed).
+   */
+  private List<Map<List<Object>, String>> rowsHashesAtStartPointList;
+  /**
+   * The changes of the tables which are compared with the hashes of the rows (by table at end point).
+   */
+  private Map<Table, List<Change>> changesFromHashesMap;
 
   /**
    * Constructor.
@@ -172,6 +229,191 @@ public class Changes extends AbstractDbElement<Changes> {
     return request;
   }
 
+  /**
+   * Returns if the rows of the tables at end point are streamed.
+   *
+   * @return {@code true} if the rows of the tables at end point are streamed, {@code false} otherwise.
+   * @see #setStreamedEndPoint(boolean)
+   */
+  public boolean isStreamedEndPoint() {
+    return streamedEndPoint;
+  }
+
+  /**
+   * Sets if the rows of the tables at end point are streamed.
+   * <p>
+   * When the end point is streamed, the rows of each table with primary keys are read one by one by
+   * {@link #setEndPointNow()} and compared to the rows at start point with the same primary keys values : only the
+   * rows which are changed are kept in memory. The {@link Table}s of {@link #getTablesAtEndPointList()} with primary
+   * keys only contain the rows which are created or modified (as read at end point).<br>
+   * The tables without primary key and the {@link Request} are loaded like when the end point is not streamed.<br>
+   * Only the end point is streamed : the tables at start point are still loaded in memory (with an index by primary
+   * keys values to find the row at start point of each row read at end point), so the memory used is the memory of the
+   * start point plus the memory of the rows changed.
+   * </p>
+   *
+   * @param streamedEndPoint {@code true} if the rows of the tables at end point are streamed.
+   * @return {@code this} actual instance.
+   */
+  public Changes setStreamedEndPoint(boolean streamedEndPoint) {
+    this.streamedEndPoint = streamedEndPoint;
+    return myself;
+  }
+
+  /**
+   * Returns the maximum number of tables loaded at the same time.
+   *
+   * @return The maximum number of tables loaded at the same time.
+   * @see #setParallelism(int)
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the maximum number of tables loaded at the same time at start point and at end point.
+   * <p>
+   * Each table is loaded with its own connection, so this is also the maximum number of connections opened at the
+   * same time on the {@link Source} or the {@link DataSource}. With {@code 1} (the default value) the tables are loaded
+   * one after the other. Whatever the value, the order of the tables in {@link #getTablesAtStartPointList()} and
+   * {@link #getTablesAtEndPointList()} stays the same.
+   * </p>
+   *
+   * @param parallelism The maximum number of tables loaded at the same time (must be greater than {@code 0}).
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code parallelism} is less than {@code 1}.
+   */
+  public Changes setParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be greater than 0");
+    }
+    this.parallelism = parallelism;
+    return myself;
+  }
+
+  /**
+   * Returns if all the data of a point are read with the same connection in a read only transaction.
+   *
+   * @return {@code true} if the snapshots are consistent, {@code false} otherwise.
+   * @see #setConsistentSnapshot(boolean)
+   */
+  public boolean isConsistentSnapshot() {
+    return consistentSnapshot;
+  }
+
+  /**
+   * Sets if all the data of a point are read with the same connection in a read only transaction.
+   * <p>
+   * When the snapshots are consistent, {@link #setStartPointNow()} and {@link #setEndPointNow()} get only one
+   * connection from the {@link Source} or the {@link DataSource}, and read all the tables in one read only
+   * transaction with the {@link Connection#TRANSACTION_REPEATABLE_READ} isolation level (if the database supports
+   * it). The previous settings of the connection are restored before closing it.<br>
+   * As there is only one connection, the tables are loaded one after the other whatever the
+   * {@link #setParallelism(int) parallelism}.
+   * </p>
+   *
+   * @param consistentSnapshot {@code true} if the snapshots are consistent.
+   * @return {@code this} actual instance.
+   */
+  public Changes setConsistentSnapshot(boolean consistentSnapshot) {
+    this.consistentSnapshot = consistentSnapshot;
+    return myself;
+  }
+
+  /**
+   * Returns if the changes on the tables are captured by triggers.
+   *
+   * @return {@code true} if the changes are captured by triggers, {@code false} otherwise.
+   * @see #setTriggerCapture(boolean)
+   */
+  public boolean isTriggerCapture() {
+    return triggerCapture;
+  }
+
+  /**
+   * Sets if the changes on the tables are captured by triggers.
+   * <p>
+   * When the changes are captured, {@link #setStartPointNow()} does not read the tables with primary keys : it creates a
+   * trigger on each of them which keeps the first image of each row inserted, modified or deleted.
+   * {@link #setEndPointNow()} only reads the rows which were touched, and the first end point drops the triggers : the
+   * capture is ended, so a next end point throws an {@link AssertJDBException} (a new start point must be set before).
+   * So the {@link Table}s of
+   * {@link #getTablesAtStartPointList()} and {@link #getTablesAtEndPointList()} only contain the rows which were
+   * touched.<br>
+   * The capture is only possible with a H2 database in the same JVM (in memory or embedded) and with the tables which
+   * check all the columns without filter : the other tables, the other databases and the {@link Request} are read
+   * like when the changes are not captured (also when a trigger can not be created).<br>
+   * If no end point is set after the start point, {@link #close()} must be called to remove the triggers. A start point
+   * captured by triggers can not be saved with {@link #saveStartPoint(File)}.
+   * </p>
+   *
+   * @param triggerCapture {@code true} if the changes are captured by triggers.
+   * @return {@code this} actual instance.
+   */
+  public Changes setTriggerCapture(boolean triggerCapture) {
+    this.triggerCapture = triggerCapture;
+    return myself;
+  }
+
+  /**
+   * Returns if the fingerprints of the tables are compared before loading them at end point.
+   *
+   * @return {@code true} if the fingerprints are compared, {@code false} otherwise.
+   * @see #setFingerprintCheck(boolean)
+   */
+  public boolean isFingerprintCheck() {
+    return fingerprintCheck;
+  }
+
+  /**
+   * Sets if the fingerprints of the tables are compared before loading them at end point.
+   * <p>
+   * When the fingerprints are compared, {@link #setStartPointNow()} and {@link #setEndPointNow()} ask the database
+   * for the number of rows and a hash of the values of each table. If the fingerprint of a table did not change, the
+   * table is not loaded at end point : the {@link Table} at start point is also in
+   * {@link #getTablesAtEndPointList()} and the table has no change.<br>
+   * The fingerprints are only computed by H2 : with the other databases, the tables are loaded like when the
+   * fingerprints are not compared.
+   * </p>
+   *
+   * @param fingerprintCheck {@code true} if the fingerprints are compared.
+   * @return {@code this} actual instance.
+   */
+  public Changes setFingerprintCheck(boolean fingerprintCheck) {
+    this.fingerprintCheck = fingerprintCheck;
+    return myself;
+  }
+
+  /**
+   * Returns if the rows of the tables at end point are compared with their hashes before being read.
+   *
+   * @return {@code true} if the rows are compared with their hashes, {@code false} otherwise.
+   * @see #setHashedEndPoint(boolean)
+   */
+  public boolean isHashedEndPoint() {
+    return hashedEndPoint;
+  }
+
+  /**
+   * Sets if the rows of the tables at end point are compared with their hashes before being read.
+   * <p>
+   * When the end point is hashed, {@link #setStartPointNow()} and {@link #setEndPointNow()} ask the database for the
+   * hash of each row of the tables with primary keys (by primary keys values). At end point, only the rows which are
+   * created or whose hash changed are read : the {@link Table}s of {@link #getTablesAtEndPointList()} only contain
+   * these rows. The rows at start point are still loaded because they are the rows at start point of the modifications
+   * and of the deletions.<br>
+   * The hashes are only computed by H2 for the tables which check all the columns and have no maximum number of rows :
+   * the other tables and the other databases are read like when the end point is not hashed.
+   * </p>
+   *
+   * @param hashedEndPoint {@code true} if the rows at end point are compared with their hashes.
+   * @return {@code this} actual instance.
+   */
+  public Changes setHashedEndPoint(boolean hashedEndPoint) {
+    this.hashedEndPoint = hashedEndPoint;
+    return myself;
+  }
+
   /**
    * Returns the list of the {@link Table}s at start point.
    * 
@@ -184,6 +426,11 @@ public class Changes extends AbstractDbElement<Changes> {
 
   /**
    * Returns the list of the {@link Table}s at end point.
+   * <p>
+   * When the end point is streamed ({@link #setStreamedEndPoint(boolean)}), hashed ({@link #setHashedEndPoint(boolean)})
+   * or captured by triggers ({@link #setTriggerCapture(boolean)}), the tables with primary keys do not contain all the
+   * rows at end point, but only the rows needed to find the changes.
+   * </p>
    * 
    * @return The list of the {@link Table}s at end point.
    * @see Changes#setEndPointNow()
@@ -225,6 +472,12 @@ public class Changes extends AbstractDbElement<Changes> {
     if (elementToCopy.getDataSource() != null) {
       element.setDataSource(elementToCopy.getDataSource());
     }
+    if (elementToCopy.getLoadOptions() != null) {
+      element.setLoadOptions(elementToCopy.getLoadOptions());
+    }
+    if (elementToCopy.getDialect() != null) {
+      element.setDialect(elementToCopy.getDialect());
+    }
   }
 
   /**
@@ -250,7 +503,8 @@ public class Changes extends AbstractDbElement<Changes> {
     Table t = new Table();
     copyElement(table, t);
     return t.setName(table.getName()).setColumnsToCheck(table.getColumnsToCheck())
-        .setColumnsToExclude(table.getColumnsToExclude());
+        .setColumnsToExclude(table.getColumnsToExclude()).setFilter(table.getFilter(), table.getFilterParameters())
+        .setMaxRows(table.getMaxRows());
   }
 
   /**
@@ -259,14 +513,96 @@ public class Changes extends AbstractDbElement<Changes> {
    * @return {@code this} actual instance.
    */
   public Changes setStartPointNow() {
-    if (request == null && tablesList == null) {
+    removeCapture();
+    capture = null;
+    if (triggerCapture && request == null) {
+      initTablesList();
       try (Connection connection = getConnection()) {
+        capture = TriggerCapture.install(connection, getDatabaseKey(), tablesList);
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+
+    if (consistentSnapshot) {
+      try (SnapshotConnection snapshotConnection = getSnapshotConnection()) {
+        setStartPointNow(snapshotConnection.connection);
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    } else {
+      setStartPointNow(null);
+    }
+    return myself;
+  }
+
+  /**
+   * Sets the start point for comparison with the connection in parameter.
+   *
+   * @param connection The connection shared by all the data ({@code null} if each data gets its own connection).
+   */
+  private void setStartPointNow(Connection connection) {
+    setSharedConnection(connection);
+    try {
+      initTablesList();
+
+      if (request != null) {
+        tablesAtStartPointList = null;
+        fingerprintsAtStartPointList = null;
+        rowsHashesAtStartPointList = null;
+        requestAtStartPoint = getDuplicatedRequest(request);
+        requestAtStartPoint.setSharedConnection(connection);
+        requestAtStartPoint.getRowsList();
+      } else {
+        requestAtStartPoint = null;
+        tablesAtStartPointList = new LinkedList<>();
+        fingerprintsAtStartPointList = fingerprintCheck ? new ArrayList<String>() : null;
+        rowsHashesAtStartPointList = hashedEndPoint ? new ArrayList<Map<List<Object>, String>>() : null;
+        List<Table> tablesToLoadList = new ArrayList<>();
+        for (Table table : tablesList) {
+          Table t = getDuplicatedTable(table);
+          TriggerCapture.TableCapture tableCapture = capture == null ? null : capture.getTableCapture(table);
+          String fingerprint = null;
+          Map<List<Object>, String> rowsHashes = null;
+          if (tableCapture != null) {
+            // The rows are captured by the trigger
+            tableCapture.setRowsAtStartPoint(t);
+          } else {
+            t.setSharedConnection(connection);
+            if (fingerprintCheck) {
+              fingerprint = t.getFingerprint();
+            }
+            if (hashedEndPoint) {
+              rowsHashes = t.getRowsHashesMap();
+            }
+            tablesToLoadList.add(t);
+          }
+          if (fingerprintsAtStartPointList != null) {
+            fingerprintsAtStartPointList.add(fingerprint);
+          }
+          if (rowsHashesAtStartPointList != null) {
+            rowsHashesAtStartPointList.add(rowsHashes);
+          }
+          tablesAtStartPointList.add(t);
+        }
+        loadTables(tablesToLoadList, connection == null ? parallelism : 1);
+      }
+      tablesAtEndPointList = null;
+      requestAtEndPoint = null;
+      changesList = null;
+    } finally {
+      clearSharedConnection(this, requestAtStartPoint, tablesAtStartPointList);
+    }
+  }
+
+  /**
+   * Initializes the list of the tables with all the tables of the database if the list is not set.
+   */
+  private void initTablesList() {
+    if (request == null && tablesList == null) {
+      try (Connection tablesConnection = getConnection()) {
         tablesList = new LinkedList<>();
-        DatabaseMetaData metaData = connection.getMetaData();
-        ResultSet resultSet = metaData.getTables(getCatalog(connection), getSchema(connection), null,
-            new String[] { "TABLE" });
-        while (resultSet.next()) {
-          String tableName = resultSet.getString("TABLE_NAME");
+        for (String tableName : MetadataCache.getTablesNameList(getDatabaseKey(), tablesConnection)) {
           Table t = new Table().setName(tableName);
           copyElement(this, t);
           tablesList.add(t);
@@ -275,52 +611,443 @@ public class Changes extends AbstractDbElement<Changes> {
         throw new AssertJDBException(e);
       }
     }
+  }
 
-    if (request != null) {
+  /**
+   * Removes the triggers of the capture (if there is a capture) : the capture is ended.
+   */
+  private void removeCapture() {
+    if (capture != null) {
+      try (Connection connection = getConnection()) {
+        capture.remove(connection);
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+  }
+
+  /**
+   * Removes the triggers of the capture of the changes (if the changes are captured by triggers).
+   * <p>
+   * The first end point removes the triggers : this method is only needed when no end point is set after the start
+   * point. After this call, the capture is ended : {@link #setEndPointNow()} throws an {@link AssertJDBException} until
+   * a new start point is set.
+   * </p>
+   *
+   * @throws AssertJDBException If the triggers can not be removed.
+   * @see #setTriggerCapture(boolean)
+   */
+  @Override
+  public void close() {
+    removeCapture();
+  }
+
+  /**
+   * Saves the start point in a file.
+   * <p>
+   * The file can be read by {@link #loadStartPoint(File)} (of this instance or of another {@link Changes} on the same
+   * tables or request, possibly in another JVM).
+   * </p>
+   *
+   * @param file The file (must be not {@code null}).
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If {@code file} is {@code null}.
+   * @throws AssertJDBException If the start point is not set, if the start point is captured by triggers (only the
+   *           rows changed are known) or if the file can not be written.
+   * @see SnapshotFile
+   */
+  public Changes saveStartPoint(File file) {
+    if (requestAtStartPoint == null && tablesAtStartPointList == null) {
+      throw new AssertJDBException("Start point must be set before");
+    }
+    if (capture != null) {
+      throw new AssertJDBException("The start point of changes captured by triggers can not be saved");
+    }
+    if (requestAtStartPoint != null) {
+      SnapshotFile.write(file, requestAtStartPoint);
+    } else {
+      SnapshotFile.write(file, tablesAtStartPointList.toArray(new Table[tablesAtStartPointList.size()]));
+    }
+    return myself;
+  }
+
+  /**
+   * Sets the start point with a file saved by {@link #saveStartPoint(File)} instead of reading the database.
+   * <p>
+   * If the changes are on all the tables of the database, the tables are the tables of the file. Otherwise the tables
+   * (or the request) of the file must be the same as the tables (or the request) of this instance.
+   * </p>
+   *
+   * @param file The file (must be not {@code null}).
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If {@code file} is {@code null}.
+   * @throws AssertJDBException If the file can not be read or if its content is not the same tables or request.
+   * @see SnapshotFile
+   */
+  public Changes loadStartPoint(File file) {
+    SnapshotFile.Snapshot snapshot = SnapshotFile.read(file);
+    List<SnapshotFile.SnapshotData> dataList = snapshot.getDataList();
+    removeCapture();
+    capture = null;
+    fingerprintsAtStartPointList = null;
+    rowsHashesAtStartPointList = null;
+
+    if (snapshot.getDataType() == DataType.REQUEST) {
+      if (request == null || !request.getRequest().equals(dataList.get(0).getName())) {
+        throw new AssertJDBException("The snapshot %s is not a snapshot of the request %s", file,
+                                     request == null ? null : request.getRequest());
+      }
       tablesAtStartPointList = null;
       requestAtStartPoint = getDuplicatedRequest(request);
-      requestAtStartPoint.getRowsList();
+      dataList.get(0).setRowsOf(requestAtStartPoint);
     } else {
+      if (request != null) {
+        throw new AssertJDBException("The snapshot %s is not a snapshot of the request %s", file, request.getRequest());
+      }
+      if (tablesList == null) {
+        tablesList = new LinkedList<>();
+        for (SnapshotFile.SnapshotData data : dataList) {
+          Table t = new Table().setName(data.getName());
+          copyElement(this, t);
+          tablesList.add(t);
+        }
+      }
+      if (tablesList.size() != dataList.size()) {
+        throw new AssertJDBException("The snapshot %s does not contain the same tables", file);
+      }
       requestAtStartPoint = null;
       tablesAtStartPointList = new LinkedList<>();
+      Iterator<SnapshotFile.SnapshotData> iterator = dataList.iterator();
       for (Table table : tablesList) {
+        SnapshotFile.SnapshotData data = iterator.next();
+        if (!table.getName().equalsIgnoreCase(data.getName())) {
+          throw new AssertJDBException("The snapshot %s does not contain the table %s", file, table.getName());
+        }
         Table t = getDuplicatedTable(table);
-        t.getRowsList();
+        data.setRowsOf(t);
         tablesAtStartPointList.add(t);
       }
     }
     tablesAtEndPointList = null;
     requestAtEndPoint = null;
     changesList = null;
-
     return myself;
   }
 
+  /**
+   * Returns a new connection in a read only transaction for a consistent snapshot.
+   *
+   * @return The connection.
+   * @throws SQLException SQL Exception.
+   */
+  private SnapshotConnection getSnapshotConnection() throws SQLException {
+    Connection connection = getConnection();
+    try {
+      return new SnapshotConnection(connection);
+    } catch (SQLException e) {
+      connection.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Clears the shared connection of the elements in parameter.
+   *
+   * @param changes The changes.
+   * @param request The request (can be {@code null}).
+   * @param tablesList The list of the tables (can be {@code null}).
+   * @see AbstractDbElement#setSharedConnection(Connection)
+   */
+  private static void clearSharedConnection(Changes changes, Request request, List<Table> tablesList) {
+    changes.setSharedConnection(null);
+    if (request != null) {
+      request.setSharedConnection(null);
+    }
+    if (tablesList != null) {
+      for (Table table : tablesList) {
+        table.setSharedConnection(null);
+      }
+    }
+  }
+
+  /**
+   * Loads the tables.
+   * <p>
+   * If the parallelism is greater than {@code 1}, the tables are loaded by a pool of threads with at most
+   * {@code parallelism} threads.
+   * </p>
+   *
+   * @param tablesList The tables to load.
+   * @param parallelism The maximum number of tables loaded at the same time.
+   * @throws AssertJDBException If the loading of a table fails or if the current thread is interrupted.
+   * @see #setParallelism(int)
+   */
+  private static void loadTables(List<Table> tablesList, int parallelism) {
+    if (parallelism == 1 || tablesList.size() <= 1) {
+      for (Table table : tablesList) {
+        table.getRowsList();
+      }
+      return;
+    }
+
+    ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelism, tablesList.size()));
+    try {
+      List<Future<?>> futuresList = new ArrayList<>();
+      for (final Table table : tablesList) {
+        futuresList.add(executorService.submit(new Runnable() {
+          @Override
+          public void run() {
+            table.getRowsList();
+          }
+        }));
+      }
+      for (Future<?> future : futuresList) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AssertJDBException(e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new AssertJDBException(e);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
   /**
    * Sets the end point for comparison.
    * 
    * @return {@code this} actual instance.
-   * @throws AssertJDBException If the start point is not set
+   * @throws AssertJDBException If the start point is not set or if the capture by triggers of the start point is ended
+   *           (by a previous end point or by {@link #close()}).
    */
   public Changes setEndPointNow() {
     if (requestAtStartPoint == null && tablesAtStartPointList == null) {
       throw new AssertJDBException("Start point must be set before");
     }
+    if (capture != null && capture.isRemoved()) {
+      // The changes after the end of the capture are not known
+      throw new AssertJDBException("The capture by triggers is ended : start point must be set again");
+    }
 
-    if (requestAtStartPoint != null) {
-      requestAtEndPoint = getDuplicatedRequest(request);
-      requestAtEndPoint.getRowsList();
+    if (consistentSnapshot) {
+      try (SnapshotConnection snapshotConnection = getSnapshotConnection()) {
+        setEndPointNow(snapshotConnection.connection);
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
     } else {
-      tablesAtEndPointList = new LinkedList<>();
-      for (Table table : tablesList) {
-        Table t = getDuplicatedTable(table);
-        t.getRowsList();
-        tablesAtEndPointList.add(t);
+      setEndPointNow(null);
+    }
+    removeCapture();
+    return myself;
+  }
+
+  /**
+   * Sets the end point for comparison with the connection in parameter.
+   *
+   * @param connection The connection shared by all the data ({@code null} if each data gets its own connection).
+   */
+  private void setEndPointNow(Connection connection) {
+    try {
+      if (requestAtStartPoint != null) {
+        requestAtEndPoint = getDuplicatedRequest(request);
+        requestAtEndPoint.setSharedConnection(connection);
+        requestAtEndPoint.getRowsList();
+      } else {
+        tablesAtEndPointList = new LinkedList<>();
+        Iterator<Table> iteratorAtStartPoint = tablesAtStartPointList.iterator();
+        Iterator<String> iteratorOfFingerprints = fingerprintsAtStartPointList == null ? null
+                : fingerprintsAtStartPointList.iterator();
+        Iterator<Map<List<Object>, String>> iteratorOfRowsHashes = rowsHashesAtStartPointList == null ? null
+                : rowsHashesAtStartPointList.iterator();
+        changesFromHashesMap = new IdentityHashMap<>();
+        for (Table table : tablesList) {
+          Table tableAtStartPoint = iteratorAtStartPoint.next();
+          String fingerprint = iteratorOfFingerprints == null ? null : iteratorOfFingerprints.next();
+          Map<List<Object>, String> rowsHashesAtStartPoint = iteratorOfRowsHashes == null ? null
+                  : iteratorOfRowsHashes.next();
+          Table t = getDuplicatedTable(table);
+          TriggerCapture.TableCapture tableCapture = capture == null ? null : capture.getTableCapture(table);
+          if (tableCapture != null) {
+            // Only the rows touched are compared
+            tableCapture.setRowsAtStartPoint(tableAtStartPoint);
+            tableCapture.setRowsAtEndPoint(t, tableAtStartPoint);
+          }
+          t.setSharedConnection(connection);
+          if (fingerprint != null && fingerprint.equals(t.getFingerprint())) {
+            // The table did not change : the table at start point is reused
+            t.setSharedConnection(null);
+            t = tableAtStartPoint;
+          } else if (rowsHashesAtStartPoint != null) {
+            Map<List<Object>, String> rowsHashesAtEndPoint = t.getRowsHashesMap();
+            if (rowsHashesAtEndPoint != null) {
+              changesFromHashesMap.put(t, getChangesListFromHashes(tableAtStartPoint, rowsHashesAtStartPoint, t,
+                                                                   rowsHashesAtEndPoint));
+            }
+          }
+          tablesAtEndPointList.add(t);
+        }
+        if (!streamedEndPoint) {
+          loadTables(tablesAtEndPointList, connection == null ? parallelism : 1);
+        }
       }
+      changesList = null;
+      if (streamedEndPoint && tablesAtEndPointList != null) {
+        changesList = new ArrayList<>();
+        Iterator<Table> iteratorAtStartPoint = tablesAtStartPointList.iterator();
+        Iterator<Table> iteratorAtEndPoint = tablesAtEndPointList.iterator();
+        while (iteratorAtStartPoint.hasNext()) {
+          Table tableAtStartPoint = iteratorAtStartPoint.next();
+          Table tableAtEndPoint = iteratorAtEndPoint.next();
+          if (tableAtStartPoint == tableAtEndPoint) {
+            // The table did not change
+            continue;
+          }
+          if (changesFromHashesMap.containsKey(tableAtEndPoint)) {
+            changesList.addAll(changesFromHashesMap.get(tableAtEndPoint));
+          } else if (!tableAtEndPoint.isLoaded() && tableAtStartPoint.getPksNameList().size() > 0) {
+            changesList.addAll(getChangesListFromStreamedTable(tableAtStartPoint, tableAtEndPoint));
+          } else {
+            changesList.addAll(getChangesList(tableAtStartPoint.getName(), tableAtStartPoint, tableAtEndPoint));
+          }
+        }
+      }
+    } finally {
+      clearSharedConnection(this, requestAtEndPoint, tablesAtEndPointList);
     }
-    changesList = null;
+  }
 
-    return myself;
+  /**
+   * Returns the list of changes for a table with primary keys by streaming the rows at end point.
+   * <p>
+   * Each row at end point is compared to the row at start point with the same primary keys values and is only kept if
+   * it is a creation or a modification. The rows at start point which are not found are the deletions.<br>
+   * The rows of the table at end point are set with the rows created or modified : so the table shows the rows as read
+   * at end point and not the database at the time of a later access.
+   * </p>
+   *
+   * @param tableAtStartPoint The table at start point.
+   * @param tableAtEndPoint The table at end point (which is not loaded).
+   * @return The list of changes for the table.
+   */
+  private static List<Change> getChangesListFromStreamedTable(final Table tableAtStartPoint, Table tableAtEndPoint) {
+    final String dataName = tableAtStartPoint.getName();
+    final List<Change> changesList = new ArrayList<>();
+    final List<Row> rowsChangedList = new ArrayList<>();
+    final Set<Row> rowsFoundSet = Collections.newSetFromMap(new IdentityHashMap<Row, Boolean>());
+
+    tableAtEndPoint.browseRows(new AbstractDbData.RowHandler() {
+      @Override
+      public void handle(Row rowAtEndPoint) {
+        Row rowAtStartPoint = tableAtStartPoint.getRowFromPksValues(rowAtEndPoint.getPksValues());
+        if (rowAtStartPoint == null) {
+          // The row is not present at the start point
+          rowsChangedList.add(rowAtEndPoint);
+          changesList.add(createCreationChange(DataType.TABLE, dataName, rowAtEndPoint));
+        } else {
+          rowsFoundSet.add(rowAtStartPoint);
+          if (!rowAtStartPoint.hasValues(rowAtEndPoint)) {
+            rowsChangedList.add(rowAtEndPoint);
+            changesList.add(createModificationChange(DataType.TABLE, dataName, rowAtStartPoint, rowAtEndPoint));
+          }
+        }
+      }
+    });
+    tableAtEndPoint.setRowsList(tableAtEndPoint.getColumnsNameList(), tableAtEndPoint.getPksNameList(),
+                                rowsChangedList);
+    // The rows which are not present at the end point
+    for (Row rowAtStartPoint : tableAtStartPoint.getRowsList()) {
+      if (!rowsFoundSet.contains(rowAtStartPoint)) {
+        changesList.add(createDeletionChange(DataType.TABLE, dataName, rowAtStartPoint));
+      }
+    }
+    return changesList;
+  }
+
+  /**
+   * Returns the list of changes for a table with primary keys by comparing the hashes of the rows.
+   * <p>
+   * Only the rows at end point which are not present at start point or whose hash changed are read (with a filter on
+   * their primary keys values) and compared to the rows at start point. The rows at start point whose primary keys
+   * values are not present at end point are the deletions.
+   * </p>
+   *
+   * @param tableAtStartPoint The table at start point.
+   * @param rowsHashesAtStartPoint The hashes of the rows at start point.
+   * @param tableAtEndPoint The table at end point (which is not loaded).
+   * @param rowsHashesAtEndPoint The hashes of the rows at end point.
+   * @return The list of changes for the table.
+   */
+  private static List<Change> getChangesListFromHashes(Table tableAtStartPoint,
+      Map<List<Object>, String> rowsHashesAtStartPoint, Table tableAtEndPoint,
+      Map<List<Object>, String> rowsHashesAtEndPoint) {
+
+    String dataName = tableAtStartPoint.getName();
+    List<String> pksNameList = tableAtStartPoint.getPksNameList();
+    Map<Row, String> hashesByRowMap = new IdentityHashMap<>();
+    for (Map.Entry<List<Object>, String> entry : rowsHashesAtStartPoint.entrySet()) {
+      Row row = tableAtStartPoint.getRowFromPksValues(getPksValues(pksNameList, entry.getKey()));
+      if (row != null) {
+        hashesByRowMap.put(row, entry.getValue());
+      }
+    }
+
+    Set<Row> rowsFoundSet = Collections.newSetFromMap(new IdentityHashMap<Row, Boolean>());
+    List<List<Object>> pksValuesToReadList = new ArrayList<>();
+    for (Map.Entry<List<Object>, String> entry : rowsHashesAtEndPoint.entrySet()) {
+      Row rowAtStartPoint = tableAtStartPoint.getRowFromPksValues(getPksValues(pksNameList, entry.getKey()));
+      if (rowAtStartPoint != null) {
+        rowsFoundSet.add(rowAtStartPoint);
+      }
+      if (rowAtStartPoint == null || !entry.getValue().equals(hashesByRowMap.get(rowAtStartPoint))) {
+        pksValuesToReadList.add(entry.getKey());
+      }
+    }
+
+    List<Change> changesList = new ArrayList<>();
+    if (pksValuesToReadList.isEmpty()) {
+      tableAtEndPoint.setRowsList(tableAtStartPoint.getColumnsNameList(), pksNameList, new ArrayList<Row>());
+    } else {
+      tableAtEndPoint.setFilterOnPksValues(pksValuesToReadList);
+      for (Row rowAtEndPoint : tableAtEndPoint.getRowsList()) {
+        Row rowAtStartPoint = tableAtStartPoint.getRowFromPksValues(rowAtEndPoint.getPksValues());
+        if (rowAtStartPoint == null) {
+          changesList.add(createCreationChange(DataType.TABLE, dataName, rowAtEndPoint));
+        } else if (!rowAtStartPoint.hasValues(rowAtEndPoint)) {
+          changesList.add(createModificationChange(DataType.TABLE, dataName, rowAtStartPoint, rowAtEndPoint));
+        }
+      }
+    }
+    // The rows which are not present at the end point
+    for (Row rowAtStartPoint : tableAtStartPoint.getRowsList()) {
+      if (!rowsFoundSet.contains(rowAtStartPoint)) {
+        changesList.add(createDeletionChange(DataType.TABLE, dataName, rowAtStartPoint));
+      }
+    }
+    return changesList;
+  }
+
+  /**
+   * Returns the primary keys values.
+   *
+   * @param pksNameList The names of the primary keys.
+   * @param pksValues The objects of the primary keys values.
+   * @return The primary keys values.
+   */
+  private static Value[] getPksValues(List<String> pksNameList, List<Object> pksValues) {
+    Value[] values = new Value[pksValues.size()];
+    for (int index = 0; index < values.length; index++) {
+      values[index] = new Value(pksNameList.get(index), pksValues.get(index));
+    }
+    return values;
   }
 
   /**
@@ -365,6 +1092,11 @@ public class Changes extends AbstractDbElement<Changes> {
 
   /**
    * Returns the list of changes for the data when there is no primary key.
+   * <p>
+   * The rows are counted by their normalized values (like a multiset) : a row at end point is a creation if there is no
+   * more row with the same values at start point, and a row at start point is a deletion if there is no more row with
+   * the same values at end point.
+   * </p>
    * 
    * @param dataName The name of the data.
    * @param dataAtStartPoint The data at start point.
@@ -377,47 +1109,77 @@ public class Changes extends AbstractDbElement<Changes> {
     List<Change> changesList = new ArrayList<>();
 
     // List the created rows : the row is not present at the start point
-    List<Row> rowsAtStartPointList = new ArrayList<>(dataAtStartPoint.getRowsList());
+    Map<List<Object>, Integer> rowsAtStartPointCountMap = getRowsCountMap(dataAtStartPoint.getRowsList());
     for (Row rowAtEndPoint : dataAtEndPoint.getRowsList()) {
-      int index = -1;
-      int index1 = 0;
-      for (Row rowAtStartPoint : rowsAtStartPointList) {
-        if (rowAtEndPoint.hasValues(rowAtStartPoint)) {
-          index = index1;
-          break;
-        }
-        index1++;
-      }
-      if (index == -1) {
+      if (!decrementRowCount(rowsAtStartPointCountMap, getValuesKey(rowAtEndPoint))) {
         Change change = createCreationChange(dataAtStartPoint.getDataType(), dataName, rowAtEndPoint);
         changesList.add(change);
-      } else {
-        rowsAtStartPointList.remove(index);
       }
     }
     // List the deleted rows : the row is not present at the end point
-    List<Row> rowsAtEndPointList = new ArrayList<>(dataAtEndPoint.getRowsList());
+    Map<List<Object>, Integer> rowsAtEndPointCountMap = getRowsCountMap(dataAtEndPoint.getRowsList());
     for (Row rowAtStartPoint : dataAtStartPoint.getRowsList()) {
-      int index = -1;
-      int index1 = 0;
-      for (Row rowAtEndPoint : rowsAtEndPointList) {
-        if (rowAtStartPoint.hasValues(rowAtEndPoint)) {
-          index = index1;
-          break;
-        }
-        index1++;
-      }
-      if (index == -1) {
+      if (!decrementRowCount(rowsAtEndPointCountMap, getValuesKey(rowAtStartPoint))) {
         Change change = createDeletionChange(dataAtStartPoint.getDataType(), dataName, rowAtStartPoint);
         changesList.add(change);
-      } else {
-        rowsAtEndPointList.remove(index);
       }
     }
 
     return changesList;
   }
 
+  /**
+   * Returns the key of a row made of the normalized values.
+   *
+   * @param row The row.
+   * @return The key.
+   * @see Values#getNormalizedObject(Value)
+   */
+  private static List<Object> getValuesKey(Row row) {
+    List<Value> valuesList = row.getValuesList();
+    List<Object> key = new ArrayList<>(valuesList.size());
+    for (Value value : valuesList) {
+      key.add(Values.getNormalizedObject(value));
+    }
+    return key;
+  }
+
+  /**
+   * Returns the number of rows for each key of values.
+   *
+   * @param rowsList The list of rows.
+   * @return The map with the number of rows.
+   */
+  private static Map<List<Object>, Integer> getRowsCountMap(List<Row> rowsList) {
+    Map<List<Object>, Integer> rowsCountMap = new HashMap<>();
+    for (Row row : rowsList) {
+      List<Object> key = getValuesKey(row);
+      Integer count = rowsCountMap.get(key);
+      rowsCountMap.put(key, count == null ? 1 : count + 1);
+    }
+    return rowsCountMap;
+  }
+
+  /**
+   * Decrements the number of rows corresponding to the key.
+   *
+   * @param rowsCountMap The map with the number of rows.
+   * @param key The key of values.
+   * @return {@code true} if there was a row for this key, {@code false} otherwise.
+   */
+  private static boolean decrementRowCount(Map<List<Object>, Integer> rowsCountMap, List<Object> key) {
+    Integer count = rowsCountMap.get(key);
+    if (count == null) {
+      return false;
+    }
+    if (count == 1) {
+      rowsCountMap.remove(key);
+    } else {
+      rowsCountMap.put(key, count - 1);
+    }
+    return true;
+  }
+
   /**
    * Returns the list of changes for the data.
    * 
@@ -458,6 +1220,14 @@ public class Changes extends AbstractDbElement<Changes> {
         while (iteratorAtStartPoint.hasNext()) {
           Table tableAtStartPoint = iteratorAtStartPoint.next();
           Table tableAtEndPoint = iteratorAtEndPoint.next();
+          if (tableAtStartPoint == tableAtEndPoint) {
+            // The table did not change
+            continue;
+          }
+          if (changesFromHashesMap != null && changesFromHashesMap.containsKey(tableAtEndPoint)) {
+            changesList.addAll(changesFromHashesMap.get(tableAtEndPoint));
+            continue;
+          }
           changesList.addAll(getChangesList(tableAtStartPoint.getName(), tableAtStartPoint, tableAtEndPoint));
         }
       }
@@ -525,4 +1295,61 @@ public class Changes extends AbstractDbElement<Changes> {
     changes.changesList = new ArrayList<>();
     return changes;
   }
+
+  /**
+   * Connection in a read only transaction used for a consistent snapshot.
+   * <p>
+   * The previous settings of the connection are restored before closing it.
+   * </p>
+   */
+  private static class SnapshotConnection implements AutoCloseable {
+
+    /**
+     * The connection.
+     */
+    private final Connection connection;
+    /**
+     * The previous auto-commit mode.
+     */
+    private final boolean autoCommit;
+    /**
+     * The previous read only mode.
+     */
+    private final boolean readOnly;
+    /**
+     * The previous transaction isolation level.
+     */
+    private final int transactionIsolation;
+
+    /**
+     * Constructor.
+     *
+     * @param connection The connection.
+     * @throws SQLException SQL Exception.
+     */
+    private SnapshotConnection(Connection connection) throws SQLException {
+      this.connection = connection;
+      autoCommit = connection.getAutoCommit();
+      readOnly = connection.isReadOnly();
+      transactionIsolation = connection.getTransactionIsolation();
+      if (connection.getMetaData().supportsTransactionIsolationLevel(Connection.TRANSACTION_REPEATABLE_READ)) {
+        connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+      }
+      connection.setReadOnly(true);
+      connection.setAutoCommit(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws SQLException {
+      try {
+        connection.rollback();
+        connection.setAutoCommit(autoCommit);
+        connection.setReadOnly(readOnly);
+        connection.setTransactionIsolation(transactionIsolation);
+      } finally {
+        connection.close();
+      }
+    }
+  }
 }
@@ -37,6 +37,14 @@ public class Column implements DbElement {
    * The values of the column.
    */
   private final List<Value> valuesList;
+  /**
+   * The data containing the column ({@code null} if the column is not linked to a data).
+   */
+  private final AbstractDbData<?> data;
+  /**
+   * The index of the column in the data.
+   */
+  private final int index;
 
   /**
    * Constructor of the column with visibility in the package.
@@ -45,8 +53,22 @@ public class Column implements DbElement {
    * @param valuesList The values in the column.
    */
   Column(String name, List<Value> valuesList) {
+    this(name, valuesList, null, -1);
+  }
+
+  /**
+   * Constructor of the column of a data with visibility in the package.
+   *
+   * @param name The name of the column.
+   * @param valuesList The values in the column.
+   * @param data The data containing the column.
+   * @param index The index of the column in the data.
+   */
+  Column(String name, List<Value> valuesList, AbstractDbData<?> data, int index) {
     this.name = name;
     this.valuesList = valuesList;
+    this.data = data;
+    this.index = index;
   }
 
   /**
@@ -67,6 +89,66 @@ public class Column implements DbElement {
     return valuesList;
   }
 
+  /**
+   * Returns the number of values of the column.
+   * <p>
+   * If the rows of the data are not loaded, the values are counted by the database.
+   * </p>
+   *
+   * @return The number of values.
+   */
+  public int getNumberOfValues() {
+    if (isCountedByDatabase()) {
+      return data.getNumberOfRows();
+    }
+    return valuesList.size();
+  }
+
+  /**
+   * Returns the number of {@code null} values of the column.
+   * <p>
+   * If the rows of the data are not loaded, the values are counted by the database.
+   * </p>
+   *
+   * @return The number of {@code null} values.
+   */
+  public int getNumberOfNullValues() {
+    if (isCountedByDatabase()) {
+      return data.getNumberOfValues(index, true);
+    }
+    int count = 0;
+    for (Value value : valuesList) {
+      if (value.getValue() == null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of not {@code null} values of the column.
+   * <p>
+   * If the rows of the data are not loaded, the values are counted by the database.
+   * </p>
+   *
+   * @return The number of not {@code null} values.
+   */
+  public int getNumberOfNotNullValues() {
+    if (isCountedByDatabase()) {
+      return data.getNumberOfValues(index, false);
+    }
+    return valuesList.size() - getNumberOfNullValues();
+  }
+
+  /**
+   * Returns if the values are counted by the database : the column is linked to a data whose rows are not loaded.
+   *
+   * @return {@code true} if the values are counted by the database, {@code false} if they are counted in memory.
+   */
+  private boolean isCountedByDatabase() {
+    return data != null && !data.isLoaded();
+  }
+
   /**
    * Returns the value corresponding to the row index.
    * 
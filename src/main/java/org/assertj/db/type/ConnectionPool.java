@@ -0,0 +1,547 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pool of connections to the database of a {@link Source}.
+ * <p>
+ * When the pools are enabled ({@link #setEnabled(boolean)}, they are not enabled by default) and a {@link Table}, a
+ * {@link Request} or a {@link Changes} uses a {@link Source}, the connections are borrowed from the pool instead of
+ * being opened by the {@code DriverManager} for each loading. The sources with the same url, user and password share
+ * the same pool.
+ * </p>
+ * <p>
+ * A connection which is closed goes back in the pool (if there are less than {@link #getMaxIdle()} connections in it)
+ * with the auto-commit mode, the read only mode, the transaction isolation level and the catalog it had when it was
+ * opened. A connection which stayed in the pool more than {@link #getMaxIdleTime()} milliseconds is closed, and a
+ * connection is validated before being borrowed.<br>
+ * Note that an idle connection keeps an in-memory database (like {@code jdbc:h2:mem:}) alive : {@link #closeAll()}
+ * closes the idle connections.
+ * </p>
+ * <p>Example of use of the metrics :</p>
+ * <pre><code class='java'>
+ * Source source = new Source(&quot;jdbc:h2:mem:test&quot;, &quot;sa&quot;, &quot;&quot;);
+ * ConnectionPool.setEnabled(true);
+ * ConnectionPool pool = ConnectionPool.of(source);
+ * int opened = pool.getOpenedConnectionsCount();
+ * int borrowed = pool.getBorrowedConnectionsCount();
+ * </code></pre>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public class ConnectionPool {
+
+  /**
+   * Default maximum number of idle connections kept in a pool.
+   */
+  public static final int DEFAULT_MAX_IDLE = 10;
+  /**
+   * Default maximum time (in milliseconds) during which a connection stays in a pool.
+   */
+  public static final long DEFAULT_MAX_IDLE_TIME = 60000;
+  /**
+   * Timeout (in seconds) of the validation of a connection.
+   */
+  private static final int VALIDATION_TIMEOUT = 1;
+
+  /**
+   * The pools by url, user and password.
+   */
+  private static final Map<List<String>, ConnectionPool> POOLS_MAP = new HashMap<>();
+  /**
+   * If the pools are used by the elements with a {@link Source}.
+   */
+  private static boolean enabled;
+
+  /**
+   * URL to the database.
+   */
+  private final String url;
+  /**
+   * User to connect.
+   */
+  private final String user;
+  /**
+   * Password to connect.
+   */
+  private final String password;
+  /**
+   * The idle connections (the most recently released first).
+   */
+  private final Deque<IdleConnection> idleConnectionsDeque = new ArrayDeque<>();
+  /**
+   * Maximum number of idle connections kept in the pool.
+   */
+  private int maxIdle = DEFAULT_MAX_IDLE;
+  /**
+   * Maximum time (in milliseconds) during which a connection stays in the pool.
+   */
+  private long maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+  /**
+   * Number of connections opened by the pool.
+   */
+  private int openedConnectionsCount;
+  /**
+   * Number of connections borrowed from the pool.
+   */
+  private int borrowedConnectionsCount;
+
+  /**
+   * Constructor.
+   *
+   * @param url URL to the database.
+   * @param user User to connect.
+   * @param password Password to connect.
+   */
+  private ConnectionPool(String url, String user, String password) {
+    this.url = url;
+    this.user = user;
+    this.password = password;
+  }
+
+  /**
+   * Returns the pool of connections of the {@link Source}.
+   *
+   * @param source The {@link Source} (must be not {@code null}).
+   * @return The pool of connections.
+   * @throws NullPointerException If {@code source} is {@code null}.
+   */
+  public static ConnectionPool of(Source source) {
+    if (source == null) {
+      throw new NullPointerException("source must be not null");
+    }
+    List<String> key = Arrays.asList(source.getUrl(), source.getUser(), source.getPassword());
+    synchronized (POOLS_MAP) {
+      ConnectionPool pool = POOLS_MAP.get(key);
+      if (pool == null) {
+        pool = new ConnectionPool(source.getUrl(), source.getUser(), source.getPassword());
+        POOLS_MAP.put(key, pool);
+      }
+      return pool;
+    }
+  }
+
+  /**
+   * Returns if the pools are used by the elements with a {@link Source}.
+   *
+   * @return {@code true} if the pools are used, {@code false} otherwise.
+   */
+  public static boolean isEnabled() {
+    synchronized (POOLS_MAP) {
+      return enabled;
+    }
+  }
+
+  /**
+   * Sets if the pools are used by the elements with a {@link Source}.
+   * <p>
+   * If the pools are not used (the default), a new connection is opened by the {@code DriverManager} for each loading.
+   * </p>
+   *
+   * @param enabled {@code true} if the pools are used.
+   */
+  public static void setEnabled(boolean enabled) {
+    synchronized (POOLS_MAP) {
+      ConnectionPool.enabled = enabled;
+    }
+  }
+
+  /**
+   * Closes the idle connections of all the pools.
+   */
+  public static void closeAll() {
+    synchronized (POOLS_MAP) {
+      for (ConnectionPool pool : POOLS_MAP.values()) {
+        pool.close();
+      }
+    }
+  }
+
+  /**
+   * Returns the maximum number of idle connections kept in the pool.
+   *
+   * @return The maximum number of idle connections.
+   */
+  public synchronized int getMaxIdle() {
+    return maxIdle;
+  }
+
+  /**
+   * Sets the maximum number of idle connections kept in the pool.
+   * <p>
+   * This is not a limit on the number of connections : the connections borrowed at the same time are not limited
+   * (the {@link Changes#setParallelism(int) parallelism} bounds the connections of a {@link Changes}). When a
+   * connection is released and there are already {@code maxIdle} idle connections, the connection is closed.
+   * </p>
+   *
+   * @param maxIdle The maximum number of idle connections (must be positive or zero).
+   * @return {@code this} pool.
+   * @throws IllegalArgumentException If {@code maxIdle} is negative.
+   */
+  public synchronized ConnectionPool setMaxIdle(int maxIdle) {
+    if (maxIdle < 0) {
+      throw new IllegalArgumentException("maxIdle must be positive or zero");
+    }
+    this.maxIdle = maxIdle;
+    while (idleConnectionsDeque.size() > maxIdle) {
+      closeQuietly(idleConnectionsDeque.pollLast().state.connection);
+    }
+    return this;
+  }
+
+  /**
+   * Returns the maximum time (in milliseconds) during which a connection stays in the pool.
+   *
+   * @return The maximum idle time.
+   */
+  public synchronized long getMaxIdleTime() {
+    return maxIdleTime;
+  }
+
+  /**
+   * Sets the maximum time (in milliseconds) during which a connection stays in the pool.
+   *
+   * @param maxIdleTime The maximum idle time (must be positive or zero).
+   * @return {@code this} pool.
+   * @throws IllegalArgumentException If {@code maxIdleTime} is negative.
+   */
+  public synchronized ConnectionPool setMaxIdleTime(long maxIdleTime) {
+    if (maxIdleTime < 0) {
+      throw new IllegalArgumentException("maxIdleTime must be positive or zero");
+    }
+    this.maxIdleTime = maxIdleTime;
+    return this;
+  }
+
+  /**
+   * Returns the number of connections opened by the pool.
+   *
+   * @return The number of connections opened.
+   */
+  public synchronized int getOpenedConnectionsCount() {
+    return openedConnectionsCount;
+  }
+
+  /**
+   * Returns the number of connections borrowed from the pool.
+   *
+   * @return The number of connections borrowed.
+   */
+  public synchronized int getBorrowedConnectionsCount() {
+    return borrowedConnectionsCount;
+  }
+
+  /**
+   * Returns the number of idle connections in the pool.
+   *
+   * @return The number of idle connections.
+   */
+  public synchronized int getIdleConnectionsCount() {
+    return idleConnectionsDeque.size();
+  }
+
+  /**
+   * Closes the idle connections of the pool.
+   */
+  public synchronized void close() {
+    IdleConnection idleConnection;
+    while ((idleConnection = idleConnectionsDeque.pollFirst()) != null) {
+      closeQuietly(idleConnection.state.connection);
+    }
+  }
+
+  /**
+   * Borrows a connection from the pool.
+   * <p>
+   * An idle connection is returned if there is a valid one in the pool, otherwise a new connection is opened. Closing
+   * the returned connection releases it in the pool.<br>
+   * The connections are validated and opened without holding the lock of the pool : so the elements loaded in
+   * parallel do not wait for each other.
+   * </p>
+   *
+   * @return A connection.
+   * @throws SQLException SQL Exception.
+   */
+  public Connection getConnection() throws SQLException {
+    synchronized (this) {
+      borrowedConnectionsCount++;
+    }
+    IdleConnection idleConnection;
+    while ((idleConnection = pollIdleConnection()) != null) {
+      if (isValid(idleConnection.state.connection)) {
+        return getPooledConnection(idleConnection.state);
+      }
+      closeQuietly(idleConnection.state.connection);
+    }
+    ConnectionState state = new ConnectionState(DriverManager.getConnection(url, user, password));
+    synchronized (this) {
+      openedConnectionsCount++;
+    }
+    return getPooledConnection(state);
+  }
+
+  /**
+   * Returns the most recently released idle connection (after closing the connections which are too old).
+   *
+   * @return The idle connection, or {@code null} if there is no idle connection.
+   */
+  private synchronized IdleConnection pollIdleConnection() {
+    evictIdleConnections();
+    return idleConnectionsDeque.pollFirst();
+  }
+
+  /**
+   * Releases a connection in the pool.
+   * <p>
+   * A transaction which is not committed is rolled back and the state of the connection when it was opened is
+   * restored. The connection is closed if the state can not be restored or if the pool is full.
+   * </p>
+   *
+   * @param state The connection with its state when it was opened.
+   */
+  private void release(ConnectionState state) {
+    try {
+      state.restore();
+    } catch (SQLException e) {
+      closeQuietly(state.connection);
+      return;
+    }
+    synchronized (this) {
+      if (idleConnectionsDeque.size() < maxIdle) {
+        idleConnectionsDeque.offerFirst(new IdleConnection(state));
+        state = null;
+      }
+      evictIdleConnections();
+    }
+    if (state != null) {
+      closeQuietly(state.connection);
+    }
+  }
+
+  /**
+   * Closes the connections which stayed in the pool more than the maximum idle time.
+   */
+  private void evictIdleConnections() {
+    long time = System.currentTimeMillis();
+    IdleConnection idleConnection = idleConnectionsDeque.peekLast();
+    while (idleConnection != null && time - idleConnection.releaseTime >= maxIdleTime) {
+      idleConnectionsDeque.pollLast();
+      closeQuietly(idleConnection.state.connection);
+      idleConnection = idleConnectionsDeque.peekLast();
+    }
+  }
+
+  /**
+   * Returns if the connection is valid.
+   *
+   * @param connection The connection.
+   * @return {@code true} if the connection is valid, {@code false} otherwise.
+   */
+  private static boolean isValid(Connection connection) {
+    try {
+      return !connection.isClosed() && connection.isValid(VALIDATION_TIMEOUT);
+    } catch (SQLFeatureNotSupportedException exception) {
+      // The driver does not implement the validation
+      return true;
+    } catch (SQLException exception) {
+      return false;
+    } catch (AbstractMethodError error) {
+      // The driver is older than JDBC 4 and does not implement the validation
+      return true;
+    }
+  }
+
+  /**
+   * Closes the connection without throwing an exception.
+   *
+   * @param connection The connection.
+   */
+  private static void closeQuietly(Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      // The connection is not usable anyway
+    }
+  }
+
+  /**
+   * Returns a connection which releases the connection in parameter in the pool when it is closed.
+   * <p>
+   * The pooled connection is only equal to itself. {@link Connection#unwrap(Class)} returns the pooled connection for
+   * the interfaces that it implements (like {@link Connection}) : for the classes of the driver, it returns the
+   * connection of the driver, which must not be closed (it stays in the pool).
+   * </p>
+   *
+   * @param state The connection with its state when it was opened.
+   * @return The pooled connection.
+   */
+  private Connection getPooledConnection(final ConnectionState state) {
+    final Connection connection = state.connection;
+    return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+        new Class<?>[] { Connection.class }, new InvocationHandler() {
+
+          /**
+           * If the connection is closed (released in the pool).
+           */
+          private boolean closed;
+
+          @Override
+          public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            boolean withoutParameter = method.getParameterTypes().length == 0;
+            if ("equals".equals(name) && method.getParameterTypes().length == 1) {
+              return proxy == args[0];
+            }
+            if ("hashCode".equals(name) && withoutParameter) {
+              return System.identityHashCode(proxy);
+            }
+            if (("unwrap".equals(name) || "isWrapperFor".equals(name)) && args != null && args.length == 1
+                && args[0] instanceof Class && ((Class<?>) args[0]).isInstance(proxy)) {
+              // The pooled connection is returned instead of the connection of the driver, which would be closed
+              // without being released in the pool
+              return "unwrap".equals(name) ? proxy : Boolean.TRUE;
+            }
+            if ("close".equals(name) && withoutParameter) {
+              if (!closed) {
+                closed = true;
+                release(state);
+              }
+              return null;
+            }
+            if ("isClosed".equals(name) && withoutParameter) {
+              return closed || connection.isClosed();
+            }
+            if (closed) {
+              throw new SQLException("The connection is closed");
+            }
+            try {
+              return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+              throw e.getCause();
+            }
+          }
+        });
+  }
+
+  /**
+   * Connection with the state it had when it was opened.
+   */
+  private static class ConnectionState {
+
+    /**
+     * The connection.
+     */
+    private final Connection connection;
+    /**
+     * The auto-commit mode.
+     */
+    private final boolean autoCommit;
+    /**
+     * The read only mode.
+     */
+    private final boolean readOnly;
+    /**
+     * The transaction isolation level.
+     */
+    private final int transactionIsolation;
+    /**
+     * The catalog.
+     */
+    private final String catalog;
+
+    /**
+     * Constructor.
+     *
+     * @param connection The connection which is just opened.
+     * @throws SQLException SQL Exception.
+     */
+    private ConnectionState(Connection connection) throws SQLException {
+      this.connection = connection;
+      try {
+        autoCommit = connection.getAutoCommit();
+        readOnly = connection.isReadOnly();
+        transactionIsolation = connection.getTransactionIsolation();
+        catalog = connection.getCatalog();
+      } catch (SQLException e) {
+        closeQuietly(connection);
+        throw e;
+      }
+    }
+
+    /**
+     * Rolls back the transaction which is not committed and restores the state of the connection.
+     *
+     * @throws SQLException SQL Exception.
+     */
+    private void restore() throws SQLException {
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+      }
+      if (connection.getAutoCommit() != autoCommit) {
+        connection.setAutoCommit(autoCommit);
+      }
+      if (connection.isReadOnly() != readOnly) {
+        connection.setReadOnly(readOnly);
+      }
+      if (connection.getTransactionIsolation() != transactionIsolation) {
+        connection.setTransactionIsolation(transactionIsolation);
+      }
+      String actualCatalog = connection.getCatalog();
+      if (catalog == null ? actualCatalog != null : !catalog.equals(actualCatalog)) {
+        connection.setCatalog(catalog);
+      }
+      connection.clearWarnings();
+    }
+  }
+
+  /**
+   * Connection in the pool.
+   */
+  private static class IdleConnection {
+
+    /**
+     * The connection with its state when it was opened.
+     */
+    private final ConnectionState state;
+    /**
+     * The time when the connection was released in the pool.
+     */
+    private final long releaseTime;
+
+    /**
+     * Constructor.
+     *
+     * @param state The connection with its state when it was opened.
+     */
+    private IdleConnection(ConnectionState state) {
+      this.state = state;
+      releaseTime = System.currentTimeMillis();
+    }
+  }
+}
@@ -32,24 +32,6 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    * The time part.
    */
   private final TimeValue time;
-  /**
-   * Indicates where there are the digits in the {@code String} for {@link DateValue#DateValue(String)}.
-   */
-  private static final String DATE_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\d";
-  /**
-   * Indicates where there are the digits for {@code String} for {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with seconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_SECONDS = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with nanoseconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_NANO = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d";
 
   /**
    * Makes an instance of date/time value from a date with time at 00:00AM.
@@ -83,7 +65,26 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    * @return An instance of date/time value.
    */
   public static DateTimeValue parse(String dateTime) throws ParseException {
-    return new DateTimeValue(dateTime);
+    if (dateTime == null) {
+      throw new NullPointerException("date/time should be not null");
+    }
+
+    // The date and the time are read in the String (without regular expression and without intermediate String)
+    int length = dateTime.length();
+    DateValue date = DateValue.parse(dateTime, 0, Math.min(length, DateValue.DATE_LENGTH));
+    TimeValue time = null;
+    if (date != null) {
+      if (length == DateValue.DATE_LENGTH) {
+        time = TimeValue.of(0, 0);
+      } else if (dateTime.charAt(DateValue.DATE_LENGTH) == 'T') {
+        time = TimeValue.parse(dateTime, DateValue.DATE_LENGTH + 1, length);
+      }
+    }
+    if (time == null) {
+      throw new ParseException("date/time must respect yyyy-mm-dd, yyyy-mm-ddThh:mm, "
+          + "yyyy-mm-ddThh:mm:ss or yyyy-mm-ddThh:mm:ss.nnnnnnnnn format", dateTime.length());
+    }
+    return new DateTimeValue(date, time);
   }
 
   /**
@@ -147,22 +148,16 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    *           {@code yyyy-mm-ddThh:mm:ss} or {@code yyyy-mm-ddThh:mm:ss.nnnnnnnnn} format.
    */
   public DateTimeValue(String dateTime) throws ParseException {
-    if (dateTime == null) {
-      throw new NullPointerException("date/time should be not null");
-    }
-
-    if (dateTime.matches(DATE_FORMAT)) {
-      date = DateValue.parse(dateTime);
-      time = new TimeValue(0, 0);
-    } else if (dateTime.matches(TIME_FORMAT) || dateTime.matches(TIME_FORMAT_WITH_SECONDS)
-        || dateTime.matches(TIME_FORMAT_WITH_NANO)) {
+    this(parse(dateTime));
+  }
 
-      date = DateValue.parse(dateTime.substring(0, 10));
-      time = TimeValue.parse(dateTime.substring(11));
-    } else {
-      throw new ParseException("date/time must respect yyyy-mm-dd, yyyy-mm-ddThh:mm, "
-          + "yyyy-mm-ddThh:mm:ss or yyyy-mm-ddThh:mm:ss.nnnnnnnnn format", dateTime.length());
-    }
+  /**
+   * Constructor.
+   *
+   * @param dateTimeValue The date/time value to copy.
+   */
+  private DateTimeValue(DateTimeValue dateTimeValue) {
+    this(dateTimeValue.date, dateTimeValue.time);
   }
 
   /**
@@ -171,18 +166,15 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    * @param timestamp Timestamp.
    * @throws NullPointerException If {@code dateTime} is {@code null}.
    */
+  @SuppressWarnings("deprecation")
   public DateTimeValue(Timestamp timestamp) {
     if (timestamp == null) {
       throw new NullPointerException("date/time should be not null");
     }
 
-    Calendar calendar = Calendar.getInstance();
-    calendar.setTimeInMillis(timestamp.getTime());
-
-    date = DateValue.of(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
-        calendar.get(Calendar.DAY_OF_MONTH));
-    time = TimeValue.of(calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE),
-        calendar.get(Calendar.SECOND), timestamp.getNanos());
+    // The fields are computed by the timestamp in the default time zone (without creating a Calendar)
+    date = DateValue.of(timestamp.getYear() + 1900, timestamp.getMonth() + 1, timestamp.getDate());
+    time = TimeValue.of(timestamp.getHours(), timestamp.getMinutes(), timestamp.getSeconds(), timestamp.getNanos());
   }
 
   /**
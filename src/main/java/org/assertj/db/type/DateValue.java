@@ -37,9 +37,9 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
    */
   private final int year;
   /**
-   * Indicates where there are the digits in the {@code String} for {@link DateValue#DateValue(String)}.
+   * Length of a date in {@code yyyy-mm-dd} format.
    */
-  private static final String DATE_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\d";
+  static final int DATE_LENGTH = 10;
 
   /**
    * Makes an instance of date value from a day of month, a month and an year.
@@ -62,7 +62,59 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
    * @return An instance of date value.
    */
   public static DateValue parse(String date) throws ParseException {
-    return new DateValue(date);
+    if (date == null) {
+      throw new NullPointerException("date should be not null");
+    }
+
+    DateValue dateValue = parse(date, 0, date.length());
+    if (dateValue == null) {
+      throw new ParseException("date must respect yyyy-mm-dd format", date.length());
+    }
+    return dateValue;
+  }
+
+  /**
+   * Makes an instance of date value from a part of a {@code String} in format {@code yyyy-mm-dd}.
+   * <p>
+   * The characters are read one by one (without regular expression and without intermediate {@code String}).
+   * </p>
+   *
+   * @param text The text containing the date.
+   * @param start The index of the first character of the date.
+   * @param end The index after the last character of the date.
+   * @return An instance of date value, or {@code null} if the part don't respect the {@code yyyy-mm-dd} format.
+   */
+  static DateValue parse(String text, int start, int end) {
+    if (end - start != DATE_LENGTH || text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-') {
+      return null;
+    }
+    int year = parseDigits(text, start, start + 4);
+    int month = parseDigits(text, start + 5, start + 7);
+    int dayOfTheMonth = parseDigits(text, start + 8, end);
+    if (year < 0 || month < 0 || dayOfTheMonth < 0) {
+      return null;
+    }
+    return new DateValue(year, month, dayOfTheMonth);
+  }
+
+  /**
+   * Returns the number written with the digits of a part of a {@code String}.
+   *
+   * @param text The text containing the digits.
+   * @param start The index of the first digit.
+   * @param end The index after the last digit.
+   * @return The number, or {@code -1} if a character is not a digit.
+   */
+  static int parseDigits(String text, int start, int end) {
+    int number = 0;
+    for (int index = start; index < end; index++) {
+      char character = text.charAt(index);
+      if (character < '0' || character > '9') {
+        return -1;
+      }
+      number = number * 10 + (character - '0');
+    }
+    return number;
   }
 
   /**
@@ -119,17 +171,16 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
    * @throws ParseException If {@code date} don't respect the {@code yyyy-mm-dd} format.
    */
   public DateValue(String date) throws ParseException {
-    if (date == null) {
-      throw new NullPointerException("date should be not null");
-    }
+    this(parse(date));
+  }
 
-    if (date.matches(DATE_FORMAT)) {
-      year = Integer.parseInt(date.substring(0, 4));
-      month = Integer.parseInt(date.substring(5, 7));
-      dayOfTheMonth = Integer.parseInt(date.substring(8));
-    } else {
-      throw new ParseException("date must respect yyyy-mm-dd format", date.length());
-    }
+  /**
+   * Constructor.
+   *
+   * @param dateValue The date value to copy.
+   */
+  private DateValue(DateValue dateValue) {
+    this(dateValue.year, dateValue.month, dateValue.dayOfTheMonth);
   }
 
   /**
@@ -138,17 +189,16 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
    * @param date Date.
    * @throws NullPointerException If {@code date} is {@code null}.
    */
+  @SuppressWarnings("deprecation")
   public DateValue(Date date) {
     if (date == null) {
       throw new NullPointerException("date should be not null");
     }
 
-    Calendar calendar = Calendar.getInstance();
-    calendar.setTimeInMillis(date.getTime());
-
-    dayOfTheMonth = calendar.get(Calendar.DAY_OF_MONTH);
-    month = calendar.get(Calendar.MONTH) + 1;
-    year = calendar.get(Calendar.YEAR);
+    // The fields are computed by the date in the default time zone (without creating a Calendar)
+    dayOfTheMonth = date.getDate();
+    month = date.getMonth() + 1;
+    year = date.getYear() + 1900;
   }
 
   /**
@@ -0,0 +1,299 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.util.DialectHelper;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Dialect of a database : the normalization of the names of the columns and the SQL specific to the database.
+ * <p>
+ * A dialect is attached to an element (a {@link Table}, a {@link Request} or {@link Changes}) with
+ * {@link AbstractDbElement#setDialect(Dialect)}, so elements on different databases can be used at the same time. If an
+ * element has no dialect :
+ * </p>
+ * <ul>
+ * <li>the names are normalized with the default dialect ({@link #getDefault()}),</li>
+ * <li>the SQL is the SQL of the dialect of the database ({@link #forDatabase(String)}).</li>
+ * </ul>
+ * <p>
+ * Example with a database which is case sensitive :
+ * </p>
+ * <pre><code class='java'>
+ * Table table = new Table(dataSource, &quot;movie&quot;).setDialect(Dialect.CASE_SENSITIVE);
+ * </code></pre>
+ * <p>
+ * A specific database can have its dialect by extending this class.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public class Dialect {
+
+  /**
+   * Standard dialect : the names are in upper case.
+   */
+  public static final Dialect STANDARD = new Dialect(true);
+  /**
+   * Dialect of the databases which are case sensitive : the names are kept.
+   */
+  public static final Dialect CASE_SENSITIVE = new Dialect(false);
+  /**
+   * Dialect of H2 : the names are in upper case and H2 computes the hashes of the rows and supports the triggers.
+   */
+  public static final Dialect H2 = new H2Dialect();
+
+  /**
+   * The maximum number of names kept in the cache of the normalized names.
+   */
+  private static final int MAX_CACHED_IDENTIFIERS = 4096;
+
+  /**
+   * The default dialect set with {@link #setDefault(Dialect)} ({@code null} if the default dialect is the dialect of the
+   * system property).
+   */
+  private static volatile Dialect defaultDialect;
+
+  /**
+   * If the names are in upper case.
+   */
+  private final boolean upperCase;
+  /**
+   * The cache of the normalized names.
+   */
+  private final ConcurrentMap<String, String> identifiersMap = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param upperCase {@code true} if the names are in upper case, {@code false} if the names are kept.
+   */
+  protected Dialect(boolean upperCase) {
+    this.upperCase = upperCase;
+  }
+
+  /**
+   * Returns the dialect corresponding to a name (like the value of the
+   * {@link DialectHelper#ASSERTJ_DB_DIALECT_PROPERTY_NAME} property).
+   *
+   * @param name The name of the dialect.
+   * @return {@link #STANDARD} if the name is {@code null}, {@link #H2} if the name is {@code "H2"},
+   *         {@link #CASE_SENSITIVE} otherwise.
+   */
+  public static Dialect forName(String name) {
+    if (name == null) {
+      return STANDARD;
+    }
+    if ("H2".equals(name)) {
+      return H2;
+    }
+    return CASE_SENSITIVE;
+  }
+
+  /**
+   * Returns the dialect of a database.
+   *
+   * @param databaseProductName The name of the database (from {@link java.sql.DatabaseMetaData}).
+   * @return {@link #H2} for H2, {@link #STANDARD} otherwise.
+   */
+  public static Dialect forDatabase(String databaseProductName) {
+    if ("H2".equals(databaseProductName)) {
+      return H2;
+    }
+    return STANDARD;
+  }
+
+  /**
+   * Returns the default dialect used to normalize the names for the elements without dialect.
+   * <p>
+   * If no default dialect is set with {@link #setDefault(Dialect)}, it is the dialect of the
+   * {@link DialectHelper#ASSERTJ_DB_DIALECT_PROPERTY_NAME} system property (see {@link #forName(String)}). The property
+   * is read once, at the first call : a later change of the property must be done with
+   * {@link org.assertj.db.api.Assertions#usingDialect(String)} (or with {@link #setDefault(Dialect)}) to be seen.
+   * </p>
+   *
+   * @return The default dialect.
+   */
+  public static Dialect getDefault() {
+    Dialect dialect = defaultDialect;
+    if (dialect == null) {
+      return PropertyDialectHolder.DIALECT;
+    }
+    return dialect;
+  }
+
+  /**
+   * Sets the default dialect used to normalize the names for the elements without dialect (instead of the dialect of
+   * the {@link DialectHelper#ASSERTJ_DB_DIALECT_PROPERTY_NAME} system property).
+   *
+   * @param dialect The default dialect (must be not {@code null}).
+   * @throws NullPointerException If {@code dialect} is {@code null}.
+   */
+  public static void setDefault(Dialect dialect) {
+    if (dialect == null) {
+      throw new NullPointerException("dialect must be not null");
+    }
+    defaultDialect = dialect;
+  }
+
+  /**
+   * Holder of the dialect of the {@link DialectHelper#ASSERTJ_DB_DIALECT_PROPERTY_NAME} system property : the property
+   * is read when the holder is initialized (at the first use).
+   */
+  private static class PropertyDialectHolder {
+
+    /**
+     * The dialect of the system property.
+     */
+    private static final Dialect DIALECT = forName(System.getProperty(DialectHelper.ASSERTJ_DB_DIALECT_PROPERTY_NAME));
+  }
+
+  /**
+   * Returns the normalized name of a column (or of a table).
+   *
+   * @param name The name.
+   * @return The normalized name.
+   * @throws AssertJDBException If {@code name} is {@code null}.
+   */
+  public String getIdentifier(String name) {
+    if (name == null) {
+      throw new AssertJDBException("ColumnName is mandatory");
+    }
+    String identifier = identifiersMap.get(name);
+    if (identifier == null) {
+      identifier = normalizeIdentifier(name);
+      if (identifiersMap.size() < MAX_CACHED_IDENTIFIERS) {
+        identifiersMap.putIfAbsent(name, identifier);
+      }
+    }
+    return identifier;
+  }
+
+  /**
+   * Normalizes a name (the result is kept in a cache by {@link #getIdentifier(String)}).
+   *
+   * @param name The name.
+   * @return The normalized name.
+   */
+  protected String normalizeIdentifier(String name) {
+    return upperCase ? name.toUpperCase() : name;
+  }
+
+  /**
+   * Returns the quoted name of a column (as in the database).
+   *
+   * @param identifier The name.
+   * @return The quoted name.
+   */
+  public String quoteIdentifier(String identifier) {
+    return '"' + identifier.replace("\"", "\"\"") + '"';
+  }
+
+  /**
+   * Returns the request which counts the rows of a request.
+   *
+   * @param request The request.
+   * @return The request which counts.
+   */
+  public String getCountRequest(String request) {
+    return "SELECT COUNT(*) FROM (" + request + ") COUNTED";
+  }
+
+  /**
+   * Returns the request which counts the rows of a table.
+   *
+   * @param tableName The name of the table.
+   * @param condition The condition of the {@code WHERE} clause ({@code null} to count all the rows).
+   * @return The request which counts.
+   */
+  public String getCountRequest(String tableName, String condition) {
+    StringBuilder stringBuilder = new StringBuilder("SELECT COUNT(*) FROM ").append(tableName);
+    if (condition != null) {
+      stringBuilder.append(" WHERE ").append(condition);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Returns the {@code ORDER BY} clause on columns (with a space before).
+   *
+   * @param columnsNameList The names of the columns (as in the database).
+   * @return The clause (empty if there is no column).
+   */
+  public String getOrderByClause(List<String> columnsNameList) {
+    StringBuilder stringBuilder = new StringBuilder();
+    for (String columnName : columnsNameList) {
+      stringBuilder.append(stringBuilder.length() == 0 ? " ORDER BY " : ", ").append(quoteIdentifier(columnName));
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Returns a request which reads a maximum number of rows.
+   * <p>
+   * The maximum number is also set on the statement ({@link java.sql.Statement#setMaxRows(int)}) : by default, the
+   * request is not changed.
+   * </p>
+   *
+   * @param request The request.
+   * @param maxRows The maximum number of rows (greater than {@code 0}).
+   * @return The request.
+   */
+  public String getLimitRequest(String request, int maxRows) {
+    return request;
+  }
+
+  /**
+   * Returns the SQL expression which computes the hash of the values of a row.
+   *
+   * @param columnsNameList The names of the columns (as in the database).
+   * @return The expression, or {@code null} if the database can not compute it (then the rows are read).
+   */
+  public String getRowHashExpression(List<String> columnsNameList) {
+    return null;
+  }
+
+  /**
+   * Returns the request which computes a fingerprint of the rows of a table : a row with the number of rows followed
+   * by one or more columns which hash all the rows (without depending on the order of the rows).
+   * <p>
+   * The hash must be an aggregate of the hashes of the rows (like a sum) : the rows should not be sorted or
+   * concatenated by the database, otherwise the fingerprint costs more than reading the rows.
+   * </p>
+   *
+   * @param tableName The name of the table.
+   * @param columnsNameList The names of the columns (as in the database).
+   * @param condition The condition of the {@code WHERE} clause ({@code null} for all the rows).
+   * @return The request, or {@code null} if the database can not compute it (then the rows are read).
+   */
+  public String getFingerprintRequest(String tableName, List<String> columnsNameList, String condition) {
+    return null;
+  }
+
+  /**
+   * Returns the request which creates a trigger called for each row after each insertion, modification and deletion.
+   *
+   * @param triggerName The qualified and quoted name of the trigger.
+   * @param tableName The qualified and quoted name of the table.
+   * @param triggerClassName The name of the class of the trigger.
+   * @return The request, or {@code null} if the capture of the changes by triggers is not supported.
+   */
+  public String getCreateTriggerRequest(String triggerName, String tableName, String triggerClassName) {
+    return null;
+  }
+}
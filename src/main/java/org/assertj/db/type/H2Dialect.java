@@ -0,0 +1,100 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.util.List;
+
+/**
+ * Dialect of H2.
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ * @see Dialect#H2
+ */
+class H2Dialect extends Dialect {
+
+  /**
+   * Constructor.
+   */
+  H2Dialect() {
+    super(true);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getLimitRequest(String request, int maxRows) {
+    return request + " LIMIT " + maxRows;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Each value is prefixed by its length so the concatenation of the values is not ambiguous.
+   * </p>
+   */
+  @Override
+  public String getRowHashExpression(List<String> columnsNameList) {
+    return "RAWTOHEX(HASH('SHA256', STRINGTOUTF8(" + getRowExpression(columnsNameList) + "), 1))";
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The hash of the rows is made of the sums of two 64 bits slices of the hash of each row : the rows are neither
+   * sorted nor concatenated, so the cost is a scan of the table.
+   * </p>
+   */
+  @Override
+  public String getFingerprintRequest(String tableName, List<String> columnsNameList, String condition) {
+    StringBuilder stringBuilder = new StringBuilder("SELECT COUNT(*), ").append(getSliceSum(1)).append(", ")
+            .append(getSliceSum(17)).append(" FROM (SELECT CAST(HASH('SHA256', STRINGTOUTF8(")
+            .append(getRowExpression(columnsNameList)).append("), 1) AS VARCHAR) ROW_HASH FROM ").append(tableName);
+    if (condition != null) {
+      stringBuilder.append(" WHERE ").append(condition);
+    }
+    return stringBuilder.append(") HASHES").toString();
+  }
+
+  /**
+   * Returns the SQL expression which sums a 64 bits slice of the hashes of the rows.
+   *
+   * @param start The position of the slice in the hexadecimal hash (starting at {@code 1}).
+   * @return The expression.
+   */
+  private static String getSliceSum(int start) {
+    return "SUM(CAST(CAST(SUBSTRING(ROW_HASH, " + start + ", 16) AS BINARY) AS BIGINT))";
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getCreateTriggerRequest(String triggerName, String tableName, String triggerClassName) {
+    return "CREATE TRIGGER " + triggerName + " AFTER INSERT, UPDATE, DELETE ON " + tableName
+           + " FOR EACH ROW CALL \"" + triggerClassName + "\"";
+  }
+
+  /**
+   * Returns the SQL expression which concatenates the values of the columns of a row.
+   *
+   * @param columnsNameList The names of the columns (as in the database).
+   * @return The expression.
+   */
+  private String getRowExpression(List<String> columnsNameList) {
+    StringBuilder row = new StringBuilder();
+    for (String column : columnsNameList) {
+      String value = "CAST(" + quoteIdentifier(column) + " AS VARCHAR)";
+      row.append(row.length() == 0 ? "" : " || ").append("COALESCE(LENGTH(").append(value).append(") || ':' || ")
+         .append(value).append(", '-')");
+    }
+    return row.toString();
+  }
+}
@@ -0,0 +1,394 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Options of the loading of the data from the database.
+ * <p>
+ * The options are used for the loading of a {@link Table}, of a {@link Request} and of the data of {@link Changes}.
+ * The options of an element are set with {@link AbstractDbElement#setLoadOptions(LoadOptions)}. If an element has no
+ * options, the default options ({@link #getDefault()}) are used.
+ * </p>
+ * <p>
+ * Example of use of a streaming cursor (for a driver which reads the rows by block only in a transaction) :
+ * </p>
+ * <pre><code class='java'>
+ * Table table = new Table(dataSource, &quot;movie&quot;).setLoadOptions(new LoadOptions().setStreaming(true)
+ *                                                                                 .setFetchSize(500));
+ * </code></pre>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public class LoadOptions {
+
+  /**
+   * Fetch size used with a streaming cursor if no fetch size is set.
+   */
+  public static final int DEFAULT_STREAMING_FETCH_SIZE = 1000;
+
+  /**
+   * The default options.
+   */
+  private static LoadOptions defaultLoadOptions = new LoadOptions();
+
+  /**
+   * The fetch size ({@code null} to keep the value of the driver).
+   */
+  private Integer fetchSize;
+  /**
+   * The query timeout in seconds ({@code 0} means no timeout).
+   */
+  private int queryTimeout;
+  /**
+   * If the connection is read only during the loading.
+   */
+  private boolean readOnly;
+  /**
+   * If the rows are read with a streaming cursor.
+   */
+  private boolean streaming;
+  /**
+   * If the LOBs are read as digests.
+   */
+  private boolean lobDigest;
+  /**
+   * The size of the prefix of the LOBs kept for the display with the digests.
+   */
+  private int lobPrefixSize;
+
+  /**
+   * Returns the default options (used by the elements without options).
+   *
+   * @return The default options.
+   */
+  public static synchronized LoadOptions getDefault() {
+    return defaultLoadOptions;
+  }
+
+  /**
+   * Sets the default options (used by the elements without options).
+   *
+   * @param loadOptions The default options (must be not {@code null}).
+   * @throws NullPointerException If {@code loadOptions} is {@code null}.
+   */
+  public static synchronized void setDefault(LoadOptions loadOptions) {
+    if (loadOptions == null) {
+      throw new NullPointerException("loadOptions must be not null");
+    }
+    defaultLoadOptions = loadOptions;
+  }
+
+  /**
+   * Returns the fetch size.
+   *
+   * @see #setFetchSize(Integer)
+   * @return The fetch size ({@code null} if the value of the driver is kept).
+   */
+  public Integer getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Sets the fetch size : the number of rows read from the database in one round trip.
+   *
+   * @see #getFetchSize()
+   * @param fetchSize The fetch size ({@code null} to keep the value of the driver).
+   * @return {@code this} options.
+   */
+  public LoadOptions setFetchSize(Integer fetchSize) {
+    this.fetchSize = fetchSize;
+    return this;
+  }
+
+  /**
+   * Returns the query timeout in seconds.
+   *
+   * @see #setQueryTimeout(int)
+   * @return The query timeout ({@code 0} means no timeout).
+   */
+  public int getQueryTimeout() {
+    return queryTimeout;
+  }
+
+  /**
+   * Sets the query timeout in seconds.
+   *
+   * @see #getQueryTimeout()
+   * @param queryTimeout The query timeout ({@code 0} means no timeout).
+   * @return {@code this} options.
+   * @throws IllegalArgumentException If {@code queryTimeout} is negative.
+   */
+  public LoadOptions setQueryTimeout(int queryTimeout) {
+    if (queryTimeout < 0) {
+      throw new IllegalArgumentException("queryTimeout must be positive or zero");
+    }
+    this.queryTimeout = queryTimeout;
+    return this;
+  }
+
+  /**
+   * Returns if the connection is read only during the loading.
+   *
+   * @see #setReadOnly(boolean)
+   * @return {@code true} if the connection is read only.
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Sets if the connection is read only during the loading (the previous mode is restored after the loading).
+   *
+   * @see #isReadOnly()
+   * @param readOnly {@code true} if the connection is read only.
+   * @return {@code this} options.
+   */
+  public LoadOptions setReadOnly(boolean readOnly) {
+    this.readOnly = readOnly;
+    return this;
+  }
+
+  /**
+   * Returns if the rows are read with a streaming cursor.
+   *
+   * @see #setStreaming(boolean)
+   * @return {@code true} if the rows are read with a streaming cursor.
+   */
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  /**
+   * Sets if the rows are read with a streaming cursor.
+   * <p>
+   * With a streaming cursor, the auto-commit mode is disabled during the loading (some drivers read the rows by block
+   * only in a transaction) and the fetch size is {@link #DEFAULT_STREAMING_FETCH_SIZE} if there is no fetch size.
+   * </p>
+   *
+   * @see #isStreaming()
+   * @param streaming {@code true} if the rows are read with a streaming cursor.
+   * @return {@code this} options.
+   */
+  public LoadOptions setStreaming(boolean streaming) {
+    this.streaming = streaming;
+    return this;
+  }
+
+  /**
+   * Returns if the LOBs are read as digests.
+   *
+   * @see #setLobDigest(boolean)
+   * @return {@code true} if the LOBs are read as digests.
+   */
+  public boolean isLobDigest() {
+    return lobDigest;
+  }
+
+  /**
+   * Sets if the LOBs are read as digests.
+   * <p>
+   * A {@code BLOB} or a {@code CLOB} is read once as a stream and only its length and its digest are kept (a
+   * {@link LobDigest} instead of the content) : the tables with big documents can be loaded and the changes on
+   * the documents are detected with the digests.
+   * </p>
+   *
+   * @see #isLobDigest()
+   * @see #setLobPrefixSize(int)
+   * @param lobDigest {@code true} if the LOBs are read as digests.
+   * @return {@code this} options.
+   */
+  public LoadOptions setLobDigest(boolean lobDigest) {
+    this.lobDigest = lobDigest;
+    return this;
+  }
+
+  /**
+   * Returns the size of the prefix of the LOBs kept for the display with the digests.
+   *
+   * @see #setLobPrefixSize(int)
+   * @return The number of bytes (or of characters for a {@code CLOB}).
+   */
+  public int getLobPrefixSize() {
+    return lobPrefixSize;
+  }
+
+  /**
+   * Sets the size of the prefix of the LOBs kept for the display with the digests.
+   *
+   * @see #getLobPrefixSize()
+   * @param lobPrefixSize The number of bytes (or of characters for a {@code CLOB}), {@code 0} for no prefix.
+   * @return {@code this} options.
+   * @throws IllegalArgumentException If {@code lobPrefixSize} is negative.
+   */
+  public LoadOptions setLobPrefixSize(int lobPrefixSize) {
+    if (lobPrefixSize < 0) {
+      throw new IllegalArgumentException("lobPrefixSize must be positive or zero");
+    }
+    this.lobPrefixSize = lobPrefixSize;
+    return this;
+  }
+
+  /**
+   * Returns the digest of a {@code BLOB} or of a {@code CLOB} according to these options.
+   * <p>
+   * The stream of the LOB is closed and the LOB is freed after reading it.
+   * </p>
+   *
+   * @param object The LOB.
+   * @return The digest ({@code null} if {@code object} is {@code null}).
+   * @throws SQLException SQL Exception.
+   */
+  LobDigest getLobDigest(Object object) throws SQLException {
+    if (object == null) {
+      return null;
+    }
+    try {
+      if (object instanceof Blob) {
+        try (InputStream inputStream = ((Blob) object).getBinaryStream()) {
+          return LobDigest.of(inputStream, lobPrefixSize);
+        }
+      }
+      try (Reader reader = ((Clob) object).getCharacterStream()) {
+        return LobDigest.of(reader, lobPrefixSize);
+      }
+    } catch (IOException e) {
+      throw new SQLException(e);
+    } finally {
+      free(object);
+    }
+  }
+
+  /**
+   * Frees a {@code BLOB} or a {@code CLOB}.
+   *
+   * @param object The LOB.
+   * @throws SQLException SQL Exception.
+   */
+  private static void free(Object object) throws SQLException {
+    try {
+      if (object instanceof Blob) {
+        ((Blob) object).free();
+      } else {
+        ((Clob) object).free();
+      }
+    } catch (SQLFeatureNotSupportedException | AbstractMethodError e) {
+      // The driver does not free the LOBs (before JDBC 4) : the LOB is freed with its result set
+    }
+  }
+
+  /**
+   * Prepares a forward only and read only statement according to these options.
+   *
+   * @param connection The connection.
+   * @param request The SQL request.
+   * @return The statement.
+   * @throws SQLException SQL Exception.
+   */
+  PreparedStatement prepareStatement(Connection connection, String request) throws SQLException {
+    PreparedStatement statement = connection.prepareStatement(request, ResultSet.TYPE_FORWARD_ONLY,
+                                                              ResultSet.CONCUR_READ_ONLY);
+    try {
+      if (fetchSize != null) {
+        statement.setFetchSize(fetchSize);
+      } else if (streaming) {
+        statement.setFetchSize(DEFAULT_STREAMING_FETCH_SIZE);
+      }
+      if (queryTimeout > 0) {
+        statement.setQueryTimeout(queryTimeout);
+      }
+    } catch (SQLException e) {
+      statement.close();
+      throw e;
+    }
+    return statement;
+  }
+
+  /**
+   * Applies these options to the connection.
+   *
+   * @param connection The connection.
+   * @return The settings of the connection to restore after the loading.
+   * @throws SQLException SQL Exception.
+   */
+  ConnectionSettings apply(Connection connection) throws SQLException {
+    return new ConnectionSettings(connection, readOnly, !streaming);
+  }
+
+  /**
+   * Settings of a connection changed during a loading.
+   * <p>
+   * A setting is only changed if it is different : so a connection in a transaction (like the connection of a
+   * consistent snapshot of {@link Changes}) is not modified.
+   * </p>
+   */
+  static class ConnectionSettings implements AutoCloseable {
+
+    /**
+     * The connection.
+     */
+    private final Connection connection;
+    /**
+     * If the read only mode is changed.
+     */
+    private final boolean readOnlyChanged;
+    /**
+     * If the auto-commit mode is changed.
+     */
+    private final boolean autoCommitChanged;
+
+    /**
+     * Constructor.
+     *
+     * @param connection The connection.
+     * @param readOnly If the connection must be read only ({@code false} to keep the mode of the connection).
+     * @param autoCommit If the connection can be in auto-commit mode ({@code true} to keep the mode of the
+     *                   connection).
+     * @throws SQLException SQL Exception.
+     */
+    private ConnectionSettings(Connection connection, boolean readOnly, boolean autoCommit) throws SQLException {
+      this.connection = connection;
+      readOnlyChanged = readOnly && !connection.isReadOnly();
+      autoCommitChanged = !autoCommit && connection.getAutoCommit();
+      if (readOnlyChanged) {
+        connection.setReadOnly(true);
+      }
+      if (autoCommitChanged) {
+        connection.setAutoCommit(false);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws SQLException {
+      if (autoCommitChanged) {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+      if (readOnlyChanged) {
+        connection.setReadOnly(false);
+      }
+    }
+  }
+}
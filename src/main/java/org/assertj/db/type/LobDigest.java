@@ -0,0 +1,295 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * This class represents the digest of a LOB (the content of a {@code BLOB} or of a {@code CLOB}).
+ * <p>
+ * When the option {@link LoadOptions#setLobDigest(boolean)} is set, a LOB is read once as a stream and only its length,
+ * its SHA-256 digest and a small prefix (for the display) are kept. Two digests are equal if the contents are equal.
+ * A digest can be compared to an array of bytes, to a text or to the digest of a file (the file is read as a stream) :
+ * </p>
+ * <pre><code class='java'>
+ * assertThat(table).row().value(&quot;document&quot;).isEqualTo(digestOf(new File(&quot;document.pdf&quot;)));
+ * </code></pre>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ * @see org.assertj.db.api.Assertions#digestOf(java.io.File)
+ * @see org.assertj.db.api.Assertions#digestFromClassPathOf(String)
+ */
+public final class LobDigest {
+
+  /**
+   * The algorithm of the digest.
+   */
+  private static final String ALGORITHM = "SHA-256";
+  /**
+   * The charset used to compute the digest of a text.
+   */
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  /**
+   * The size of the buffer of the reading.
+   */
+  private static final int BUFFER_SIZE = 8192;
+  /**
+   * The hexadecimal digits.
+   */
+  private static final char[] HEXADECIMAL_DIGITS = "0123456789abcdef".toCharArray();
+
+  /**
+   * If the content is a text ({@code CLOB}) or an array of bytes ({@code BLOB}).
+   */
+  private final boolean text;
+  /**
+   * The length of the content (number of characters for a text and of bytes otherwise).
+   */
+  private final long length;
+  /**
+   * The digest of the content (of the UTF-8 encoding for a text).
+   */
+  private final byte[] digest;
+  /**
+   * The prefix of the content for the display (the hexadecimal representation of the first bytes otherwise).
+   */
+  private final String prefix;
+
+  /**
+   * Constructor.
+   *
+   * @param text If the content is a text.
+   * @param length The length of the content.
+   * @param digest The digest of the content.
+   * @param prefix The prefix of the content for the display.
+   */
+  LobDigest(boolean text, long length, byte[] digest, String prefix) {
+    this.text = text;
+    this.length = length;
+    this.digest = digest;
+    this.prefix = prefix;
+  }
+
+  /**
+   * Returns the digest of an array of bytes.
+   *
+   * @param bytes The array of bytes.
+   * @return The digest ({@code null} if {@code bytes} is {@code null}).
+   */
+  public static LobDigest of(byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    MessageDigest messageDigest = getMessageDigest();
+    messageDigest.update(bytes);
+    return new LobDigest(false, bytes.length, messageDigest.digest(), "");
+  }
+
+  /**
+   * Returns the digest of a text.
+   *
+   * @param text The text.
+   * @return The digest ({@code null} if {@code text} is {@code null}).
+   */
+  public static LobDigest of(String text) {
+    if (text == null) {
+      return null;
+    }
+    MessageDigest messageDigest = getMessageDigest();
+    messageDigest.update(text.getBytes(UTF_8));
+    return new LobDigest(true, text.length(), messageDigest.digest(), "");
+  }
+
+  /**
+   * Returns the digest of the bytes of a stream (the stream is read until its end).
+   *
+   * @param inputStream The stream.
+   * @param prefixSize The number of bytes kept for the display.
+   * @return The digest ({@code null} if {@code inputStream} is {@code null}).
+   * @throws IOException I/O Exception.
+   */
+  public static LobDigest of(InputStream inputStream, int prefixSize) throws IOException {
+    if (inputStream == null) {
+      return null;
+    }
+    MessageDigest messageDigest = getMessageDigest();
+    StringBuilder prefixBuilder = new StringBuilder();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    long length = 0;
+    int read;
+    while ((read = inputStream.read(buffer)) != -1) {
+      messageDigest.update(buffer, 0, read);
+      for (int index = 0; index < read && length + index < prefixSize; index++) {
+        prefixBuilder.append(HEXADECIMAL_DIGITS[(buffer[index] >> 4) & 0xF])
+                     .append(HEXADECIMAL_DIGITS[buffer[index] & 0xF]);
+      }
+      length += read;
+    }
+    return new LobDigest(false, length, messageDigest.digest(), prefixBuilder.toString());
+  }
+
+  /**
+   * Returns the digest of the characters of a stream (the stream is read until its end).
+   *
+   * @param reader The stream.
+   * @param prefixSize The number of characters kept for the display.
+   * @return The digest ({@code null} if {@code reader} is {@code null}).
+   * @throws IOException I/O Exception.
+   */
+  public static LobDigest of(Reader reader, int prefixSize) throws IOException {
+    if (reader == null) {
+      return null;
+    }
+    MessageDigest messageDigest = getMessageDigest();
+    StringBuilder prefixBuilder = new StringBuilder();
+    // The writer encodes the surrogate pairs which are on two readings
+    OutputStreamWriter writer = new OutputStreamWriter(new DigestOutputStream(new OutputStream() {
+      @Override
+      public void write(int b) {
+        // The bytes are only digested
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) {
+        // The bytes are only digested
+      }
+    }, messageDigest), UTF_8);
+    char[] buffer = new char[BUFFER_SIZE];
+    long length = 0;
+    int read;
+    while ((read = reader.read(buffer)) != -1) {
+      writer.write(buffer, 0, read);
+      if (length < prefixSize) {
+        prefixBuilder.append(buffer, 0, (int) Math.min(read, prefixSize - length));
+      }
+      length += read;
+    }
+    writer.flush();
+    return new LobDigest(true, length, messageDigest.digest(), prefixBuilder.toString());
+  }
+
+  /**
+   * Returns a new instance of the message digest.
+   *
+   * @return The message digest.
+   */
+  static MessageDigest getMessageDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns if the content is a text ({@code CLOB}).
+   *
+   * @return {@code true} if the content is a text, {@code false} if it is an array of bytes.
+   */
+  public boolean isText() {
+    return text;
+  }
+
+  /**
+   * Returns the length of the content.
+   *
+   * @return The number of characters for a text and the number of bytes otherwise.
+   */
+  public long getLength() {
+    return length;
+  }
+
+  /**
+   * Returns the SHA-256 digest of the content (of the UTF-8 encoding for a text).
+   *
+   * @return The digest.
+   */
+  public byte[] getDigest() {
+    return digest.clone();
+  }
+
+  /**
+   * Returns the prefix of the content kept for the display.
+   *
+   * @return The first characters for a text and the hexadecimal representation of the first bytes otherwise.
+   * @see LoadOptions#setLobPrefixSize(int)
+   */
+  public String getPrefix() {
+    return prefix;
+  }
+
+  /**
+   * Returns if this digest is the digest of the array of bytes in parameter.
+   *
+   * @param bytes The array of bytes.
+   * @return {@code true} if this digest is the digest of the array of bytes, {@code false} otherwise.
+   */
+  public boolean isDigestOf(byte[] bytes) {
+    return !text && bytes != null && equals(of(bytes));
+  }
+
+  /**
+   * Returns if this digest is the digest of the text in parameter.
+   *
+   * @param text The text.
+   * @return {@code true} if this digest is the digest of the text, {@code false} otherwise.
+   */
+  public boolean isDigestOf(String text) {
+    return this.text && text != null && equals(of(text));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof LobDigest)) {
+      return false;
+    }
+    LobDigest other = (LobDigest) obj;
+    return text == other.text && length == other.length && Arrays.equals(digest, other.digest);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(digest);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    StringBuilder stringBuilder = new StringBuilder(text ? "CLOB" : "BLOB");
+    stringBuilder.append("(length=").append(length).append(", sha-256=");
+    for (byte b : digest) {
+      stringBuilder.append(HEXADECIMAL_DIGITS[(b >> 4) & 0xF]).append(HEXADECIMAL_DIGITS[b & 0xF]);
+    }
+    if (!prefix.isEmpty()) {
+      stringBuilder.append(", prefix=").append(prefix);
+    }
+    return stringBuilder.append(")").toString();
+  }
+}
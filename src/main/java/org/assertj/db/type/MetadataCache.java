@@ -0,0 +1,495 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of the metadata of the databases.
+ * <p>
+ * When the cache is enabled ({@link #setEnabled(boolean)}, it is not enabled by default), the names of the tables and
+ * the names of the columns and of the primary keys of the tables are kept in this cache. So the loading of a
+ * {@link Table} or the start point of {@link Changes} does not query the {@link DatabaseMetaData} again when the same
+ * database (the same {@link DataSource} or a {@link Source} with the same url, user and password) was already used.
+ * The name of the database product (which chooses the {@link Dialect} of the elements without dialect) and the quote
+ * of the identifiers are also kept by database.
+ * </p>
+ * <p>
+ * Some information is still read at each use :
+ * </p>
+ * <ul>
+ * <li>the catalog and the schema, because they are the state of each connection : they are read from the connection
+ * (not from the {@link DatabaseMetaData}) and are part of the key of the entries,</li>
+ * <li>the support of the {@link java.sql.Connection#TRANSACTION_REPEATABLE_READ} isolation level, read once by
+ * consistent snapshot of {@link Changes#setConsistentSnapshot(boolean)}.</li>
+ * </ul>
+ * <p>
+ * The cache is bounded by {@link #getMaxSize()} entries (the least recently used are removed) and an entry expires
+ * after {@link #getTimeToLive()} milliseconds. After a modification of the structure of the database (like a table
+ * created or a column added), the cache must be invalidated with {@link #invalidate()},
+ * {@link #invalidate(DataSource)} or {@link #invalidate(Source)} : otherwise the changes on all the tables miss the new
+ * tables and the loading of a table misses the new columns.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public final class MetadataCache {
+
+  /**
+   * Default maximum number of entries in the cache.
+   */
+  public static final int DEFAULT_MAX_SIZE = 1000;
+  /**
+   * Default time (in milliseconds) during which an entry is kept in the cache.
+   */
+  public static final long DEFAULT_TIME_TO_LIVE = 600000;
+
+  /**
+   * Type of entry for the names of the tables.
+   */
+  private static final String TABLES = "TABLES";
+  /**
+   * Type of entry for the names of the columns.
+   */
+  private static final String COLUMNS = "COLUMNS";
+  /**
+   * Type of entry for the names of the primary keys.
+   */
+  private static final String PRIMARY_KEYS = "PRIMARY_KEYS";
+  /**
+   * Type of information for the name of the database product.
+   */
+  private static final String DATABASE_PRODUCT_NAME = "DATABASE_PRODUCT_NAME";
+  /**
+   * Type of information for the quote of the identifiers.
+   */
+  private static final String IDENTIFIER_QUOTE_STRING = "IDENTIFIER_QUOTE_STRING";
+
+  /**
+   * The entries of the cache (in access order).
+   */
+  private static final Map<List<Object>, CacheEntry> ENTRIES_MAP = new LinkedHashMap<List<Object>, CacheEntry>(16,
+          0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<List<Object>, CacheEntry> eldest) {
+      return size() > maxSize;
+    }
+  };
+  /**
+   * The information about the databases which does not depend on the catalog and the schema (by key of the database
+   * and type of information).
+   */
+  private static final Map<List<Object>, String> DATABASES_MAP = new HashMap<>();
+  /**
+   * If the cache is used.
+   */
+  private static boolean enabled;
+  /**
+   * Maximum number of entries in the cache.
+   */
+  private static int maxSize = DEFAULT_MAX_SIZE;
+  /**
+   * Time (in milliseconds) during which an entry is kept in the cache.
+   */
+  private static long timeToLive = DEFAULT_TIME_TO_LIVE;
+  /**
+   * Number of queries on the metadata of the databases.
+   */
+  private static int metadataQueriesCount;
+
+  /**
+   * Private constructor.
+   */
+  private MetadataCache() {
+    // Empty
+  }
+
+  /**
+   * Returns if the cache is used.
+   *
+   * @return {@code true} if the cache is used, {@code false} otherwise.
+   */
+  public static synchronized boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sets if the cache is used (the cache is not used by default). The entries are removed when the cache is disabled.
+   *
+   * @param enabled {@code true} if the cache is used.
+   */
+  public static synchronized void setEnabled(boolean enabled) {
+    MetadataCache.enabled = enabled;
+    if (!enabled) {
+      ENTRIES_MAP.clear();
+      DATABASES_MAP.clear();
+    }
+  }
+
+  /**
+   * Returns the maximum number of entries in the cache.
+   *
+   * @return The maximum number of entries.
+   */
+  public static synchronized int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Sets the maximum number of entries in the cache.
+   *
+   * @param maxSize The maximum number of entries (must be positive or zero).
+   * @throws IllegalArgumentException If {@code maxSize} is negative.
+   */
+  public static synchronized void setMaxSize(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("maxSize must be positive or zero");
+    }
+    MetadataCache.maxSize = maxSize;
+    Iterator<List<Object>> iterator = ENTRIES_MAP.keySet().iterator();
+    while (ENTRIES_MAP.size() > maxSize) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  /**
+   * Returns the time (in milliseconds) during which an entry is kept in the cache.
+   *
+   * @return The time to live.
+   */
+  public static synchronized long getTimeToLive() {
+    return timeToLive;
+  }
+
+  /**
+   * Sets the time (in milliseconds) during which an entry is kept in the cache.
+   *
+   * @param timeToLive The time to live (must be positive or zero).
+   * @throws IllegalArgumentException If {@code timeToLive} is negative.
+   */
+  public static synchronized void setTimeToLive(long timeToLive) {
+    if (timeToLive < 0) {
+      throw new IllegalArgumentException("timeToLive must be positive or zero");
+    }
+    MetadataCache.timeToLive = timeToLive;
+  }
+
+  /**
+   * Returns the number of entries in the cache (the names of the tables, of the columns or of the primary keys).
+   *
+   * @return The number of entries.
+   */
+  public static synchronized int getSize() {
+    return ENTRIES_MAP.size();
+  }
+
+  /**
+   * Returns the number of queries on the metadata of the databases (the names of the tables, of the columns or of the
+   * primary keys of a table).
+   *
+   * @return The number of queries on the metadata.
+   */
+  public static synchronized int getMetadataQueriesCount() {
+    return metadataQueriesCount;
+  }
+
+  /**
+   * Removes all the entries of the cache.
+   */
+  public static synchronized void invalidate() {
+    ENTRIES_MAP.clear();
+    DATABASES_MAP.clear();
+  }
+
+  /**
+   * Removes the entries of the cache about the database of the {@link DataSource}.
+   *
+   * @param dataSource The {@link DataSource} (must be not {@code null}).
+   * @throws NullPointerException If {@code dataSource} is {@code null}.
+   */
+  public static void invalidate(DataSource dataSource) {
+    if (dataSource == null) {
+      throw new NullPointerException("dataSource must be not null");
+    }
+    invalidateDatabase(dataSource);
+  }
+
+  /**
+   * Removes the entries of the cache about the database of the {@link Source}.
+   *
+   * @param source The {@link Source} (must be not {@code null}).
+   * @throws NullPointerException If {@code source} is {@code null}.
+   */
+  public static void invalidate(Source source) {
+    if (source == null) {
+      throw new NullPointerException("source must be not null");
+    }
+    invalidateDatabase(getDatabaseKey(source));
+  }
+
+  /**
+   * Returns the key identifying the database of a {@link Source}.
+   *
+   * @param source The {@link Source}.
+   * @return The key of the database.
+   */
+  static Object getDatabaseKey(Source source) {
+    return Arrays.asList(source.getUrl(), source.getUser(), source.getPassword());
+  }
+
+  /**
+   * Removes the entries of the cache about a database.
+   *
+   * @param databaseKey The key of the database.
+   */
+  private static synchronized void invalidateDatabase(Object databaseKey) {
+    Iterator<List<Object>> iterator = ENTRIES_MAP.keySet().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().get(0).equals(databaseKey)) {
+        iterator.remove();
+      }
+    }
+    Iterator<List<Object>> databasesIterator = DATABASES_MAP.keySet().iterator();
+    while (databasesIterator.hasNext()) {
+      if (databasesIterator.next().get(0).equals(databaseKey)) {
+        databasesIterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns the value of an entry which is not expired.
+   *
+   * @param key The key of the entry.
+   * @return The value or {@code null} if there is no entry.
+   */
+  private static synchronized List<String> get(List<Object> key) {
+    if (!enabled) {
+      return null;
+    }
+    CacheEntry entry = ENTRIES_MAP.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (System.currentTimeMillis() - entry.creationTime >= timeToLive) {
+      ENTRIES_MAP.remove(key);
+      return null;
+    }
+    return entry.value;
+  }
+
+  /**
+   * Puts an entry in the cache.
+   *
+   * @param key The key of the entry.
+   * @param value The value.
+   * @return The value (unmodifiable).
+   */
+  private static synchronized List<String> put(List<Object> key, List<String> value) {
+    List<String> unmodifiableValue = Collections.unmodifiableList(value);
+    metadataQueriesCount++;
+    if (enabled) {
+      ENTRIES_MAP.put(key, new CacheEntry(unmodifiableValue));
+    }
+    return unmodifiableValue;
+  }
+
+  /**
+   * Returns the name of the database product (from {@link DatabaseMetaData#getDatabaseProductName()}).
+   *
+   * @param databaseKey The key of the database.
+   * @param connection The connection.
+   * @return The name of the database product.
+   * @throws SQLException SQL Exception.
+   */
+  static String getDatabaseProductName(Object databaseKey, Connection connection) throws SQLException {
+    List<Object> key = Arrays.asList(databaseKey, DATABASE_PRODUCT_NAME);
+    synchronized (MetadataCache.class) {
+      if (enabled && DATABASES_MAP.containsKey(key)) {
+        return DATABASES_MAP.get(key);
+      }
+    }
+    return putDatabaseInformation(key, connection.getMetaData().getDatabaseProductName());
+  }
+
+  /**
+   * Returns the quote of the identifiers (from {@link DatabaseMetaData#getIdentifierQuoteString()}).
+   *
+   * @param databaseKey The key of the database.
+   * @param connection The connection.
+   * @return The quote of the identifiers.
+   * @throws SQLException SQL Exception.
+   */
+  static String getIdentifierQuoteString(Object databaseKey, Connection connection) throws SQLException {
+    List<Object> key = Arrays.asList(databaseKey, IDENTIFIER_QUOTE_STRING);
+    synchronized (MetadataCache.class) {
+      if (enabled && DATABASES_MAP.containsKey(key)) {
+        return DATABASES_MAP.get(key);
+      }
+    }
+    return putDatabaseInformation(key, connection.getMetaData().getIdentifierQuoteString());
+  }
+
+  /**
+   * Puts an information about a database in the cache.
+   *
+   * @param key The key of the information.
+   * @param value The value.
+   * @return The value.
+   */
+  private static synchronized String putDatabaseInformation(List<Object> key, String value) {
+    if (enabled) {
+      DATABASES_MAP.put(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * Returns the catalog and the schema of the connection (they are not cached because they can change).
+   *
+   * @param connection The connection.
+   * @return A list with the catalog and the schema.
+   * @throws SQLException SQL Exception.
+   */
+  static List<String> getCatalogAndSchema(Connection connection) throws SQLException {
+    return Arrays.asList(AbstractDbElement.getCatalog(connection), AbstractDbElement.getSchema(connection));
+  }
+
+  /**
+   * Returns the names of the tables of the database.
+   *
+   * @param databaseKey The key of the database.
+   * @param connection The connection.
+   * @return The names of the tables.
+   * @throws SQLException SQL Exception.
+   */
+  static List<String> getTablesNameList(Object databaseKey, Connection connection) throws SQLException {
+    List<String> catalogAndSchema = getCatalogAndSchema(connection);
+    List<Object> key = Arrays.<Object>asList(databaseKey, TABLES, catalogAndSchema.get(0), catalogAndSchema.get(1));
+    List<String> tablesNameList = get(key);
+    if (tablesNameList == null) {
+      tablesNameList = new ArrayList<>();
+      DatabaseMetaData metaData = connection.getMetaData();
+      try (ResultSet resultSet = metaData.getTables(catalogAndSchema.get(0), catalogAndSchema.get(1), null,
+                                                    new String[] { "TABLE" })) {
+        while (resultSet.next()) {
+          tablesNameList.add(resultSet.getString("TABLE_NAME"));
+        }
+      }
+      tablesNameList = put(key, tablesNameList);
+    }
+    return tablesNameList;
+  }
+
+  /**
+   * Returns the names of the columns of a table (in the order of their position in the table).
+   *
+   * @param databaseKey The key of the database.
+   * @param connection The connection.
+   * @param tableName The name of the table (as known by the database).
+   * @return The names of the columns (empty if the table is not found).
+   * @throws SQLException SQL Exception.
+   */
+  static List<String> getColumnsNameList(Object databaseKey, Connection connection, String tableName)
+          throws SQLException {
+
+    List<String> catalogAndSchema = getCatalogAndSchema(connection);
+    List<Object> key = Arrays.<Object>asList(databaseKey, COLUMNS, catalogAndSchema.get(0),
+                                             catalogAndSchema.get(1), tableName);
+    List<String> columnsNameList = get(key);
+    if (columnsNameList == null) {
+      columnsNameList = new ArrayList<>();
+      DatabaseMetaData metaData = connection.getMetaData();
+      try (ResultSet resultSet = metaData.getColumns(catalogAndSchema.get(0), catalogAndSchema.get(1), tableName,
+                                                     null)) {
+        while (resultSet.next()) {
+          // The name of the table is a pattern : "_" matches any character
+          if (tableName.equals(resultSet.getString("TABLE_NAME"))) {
+            columnsNameList.add(resultSet.getString("COLUMN_NAME"));
+          }
+        }
+      }
+      columnsNameList = put(key, columnsNameList);
+    }
+    return columnsNameList;
+  }
+
+  /**
+   * Returns the names of the primary keys of a table.
+   *
+   * @param databaseKey The key of the database.
+   * @param connection The connection.
+   * @param tableName The name of the table (as known by the database).
+   * @return The names of the primary keys.
+   * @throws SQLException SQL Exception.
+   */
+  static List<String> getPksNameList(Object databaseKey, Connection connection, String tableName)
+          throws SQLException {
+
+    List<String> catalogAndSchema = getCatalogAndSchema(connection);
+    List<Object> key = Arrays.<Object>asList(databaseKey, PRIMARY_KEYS, catalogAndSchema.get(0),
+                                             catalogAndSchema.get(1), tableName);
+    List<String> pksNameList = get(key);
+    if (pksNameList == null) {
+      pksNameList = new ArrayList<>();
+      DatabaseMetaData metaData = connection.getMetaData();
+      try (ResultSet resultSet = metaData.getPrimaryKeys(catalogAndSchema.get(0), catalogAndSchema.get(1),
+                                                         tableName)) {
+        while (resultSet.next()) {
+          pksNameList.add(resultSet.getString("COLUMN_NAME"));
+        }
+      }
+      pksNameList = put(key, pksNameList);
+    }
+    return pksNameList;
+  }
+
+  /**
+   * Entry of the cache.
+   */
+  private static class CacheEntry {
+
+    /**
+     * The value.
+     */
+    private final List<String> value;
+    /**
+     * The time when the entry was created.
+     */
+    private final long creationTime;
+
+    /**
+     * Constructor.
+     *
+     * @param value The value.
+     */
+    private CacheEntry(List<String> value) {
+      this.value = value;
+      creationTime = System.currentTimeMillis();
+    }
+  }
+}
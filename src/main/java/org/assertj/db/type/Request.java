@@ -18,8 +18,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import static org.assertj.db.util.DialectHelper.getColumnName;
-
 /**
  * A request in the database to get values.
  * <p>
@@ -69,6 +67,10 @@ public class Request extends AbstractDbData<Request> {
    * Parameters of the SQL request.
    */
   private Object[] parameters;
+  /**
+   * The primary keys name as set (they are normalized again with the dialect during the loading).
+   */
+  private List<String> pksName;
 
   /**
    * Default constructor.
@@ -160,6 +162,7 @@ public class Request extends AbstractDbData<Request> {
   public Request setPksName(String... pksName) {
     List<String> pksNameList = new ArrayList<>();
     pksNameList.addAll(Arrays.asList(pksName));
+    this.pksName = pksNameList;
     super.setPksNameList(pksNameList);
     return this;
   }
@@ -177,11 +180,17 @@ public class Request extends AbstractDbData<Request> {
   private void collectColumnsNameFromResultSet(ResultSet resultSet) throws SQLException {
     ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
     List<String> columnsNameList = new ArrayList<>();
+    List<String> columnsLabelList = new ArrayList<>();
     for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-      String columnName = resultSetMetaData.getColumnLabel(i);
-      columnsNameList.add(getColumnName(columnName));
+      String columnLabel = resultSetMetaData.getColumnLabel(i);
+      columnsNameList.add(getDialectOrDefault().getIdentifier(columnLabel));
+      columnsLabelList.add(columnLabel);
+    }
+    setColumnsNameList(columnsNameList, columnsLabelList);
+    if (pksName != null) {
+      // The dialect may have been set after the primary keys name
+      super.setPksNameList(pksName);
     }
-    setColumnsNameList(columnsNameList);
     controlIfAllThePksNameExistInTheColumns();
   }
 
@@ -199,14 +208,64 @@ public class Request extends AbstractDbData<Request> {
       throw new NullPointerException("request can not be null");
     }
 
-    try (PreparedStatement statement = connection.prepareStatement(request)) {
-      for (int i = 0; i < parameters.length; i++) {
-        statement.setObject(i + 1, parameters[i]);
-      }
+    try (PreparedStatement statement = prepareStatement(connection, request, parameters)) {
       try (ResultSet resultSet = statement.executeQuery()) {
         collectColumnsNameFromResultSet(resultSet);
         collectRowsFromResultSet(resultSet);
       }
     }
   }
+
+  /**
+   * Specific implementation of the loading of the names of the columns for a {@code Request}.
+   *
+   * @see AbstractDbData#loadColumnsNameImpl(Connection)
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#getColumnsList()} method.
+   * @throws NullPointerException If the {@link #request} field is {@code null}.
+   * @throws SQLException SQL Exception.
+   */
+  @Override
+  protected void loadColumnsNameImpl(Connection connection) throws SQLException {
+    if (request == null) {
+      throw new NullPointerException("request can not be null");
+    }
+
+    try (PreparedStatement statement = prepareStatement(connection, request, parameters)) {
+      statement.setMaxRows(1);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        collectColumnsNameFromResultSet(resultSet);
+      }
+    }
+  }
+
+  /**
+   * Specific implementation of the counting of the rows for a {@code Request}.
+   * <p>
+   * The SQL request is used as a subquery of a {@code SELECT COUNT(*)}.
+   * </p>
+   *
+   * @see AbstractDbData#countImpl(Connection, String)
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#getNumberOfRows()} method.
+   * @param condition The SQL condition on the rows to count ({@code null} to count all the rows).
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #request} field is {@code null}.
+   * @throws SQLException SQL Exception.
+   */
+  @Override
+  protected int countImpl(Connection connection, String condition) throws SQLException {
+    if (request == null) {
+      throw new NullPointerException("request can not be null");
+    }
+
+    String countRequest = getDialect(connection).getCountRequest(request);
+    if (condition != null) {
+      countRequest += " WHERE " + condition;
+    }
+    try (PreparedStatement statement = prepareStatement(connection, countRequest, parameters)) {
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getInt(1);
+      }
+    }
+  }
 }
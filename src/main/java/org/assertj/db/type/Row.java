@@ -47,6 +47,10 @@ public class Row implements DbElement {
    * The list of value.
    */
   private final List<Value> valuesList;
+  /**
+   * The dialect of the data of the row ({@code null} for the default dialect).
+   */
+  private Dialect dialect;
 
   /**
    * Constructor of the row with visibility in the package.
@@ -56,9 +60,22 @@ public class Row implements DbElement {
    * @param valuesList The values in the row.
    */
   Row(List<String> pksNameList, List<String> columnsNameList, List<Value> valuesList) {
+    this(pksNameList, columnsNameList, valuesList, null);
+  }
+
+  /**
+   * Constructor of the row with visibility in the package.
+   *
+   * @param pksNameList The list of the primary keys name.
+   * @param columnsNameList The list of the columns name.
+   * @param valuesList The values in the row.
+   * @param dialect The dialect of the data of the row ({@code null} for the default dialect).
+   */
+  Row(List<String> pksNameList, List<String> columnsNameList, List<Value> valuesList, Dialect dialect) {
     this.pksNameList = pksNameList;
     this.columnsNameList = columnsNameList;
     this.valuesList = valuesList;
+    this.dialect = dialect;
   }
 
   /**
@@ -96,6 +113,25 @@ public class Row implements DbElement {
     this.pksNameList = pksNameList;
   }
 
+  /**
+   * Returns the dialect of the data of the row (which normalizes the names of the columns).
+   *
+   * @return The dialect ({@code null} if the names are normalized with {@link Dialect#getDefault()}).
+   * @since 1.1.0
+   */
+  public Dialect getDialect() {
+    return dialect;
+  }
+
+  /**
+   * Sets the dialect of the data of the row.
+   *
+   * @param dialect The dialect ({@code null} for the default dialect).
+   */
+  void setDialect(Dialect dialect) {
+    this.dialect = dialect;
+  }
+
   /**
    * Returns the list of the columns name.
    * 
@@ -191,7 +227,7 @@ public class Row implements DbElement {
     if (columnName == null) {
       throw new NullPointerException("Column name must be not null");
     }
-    String name = getColumnName(columnName);
+    String name = getColumnName(getColumnsNameList(), columnName, dialect);
     int index = getColumnsNameList().indexOf(name);
     if (index == -1) {
       return null;
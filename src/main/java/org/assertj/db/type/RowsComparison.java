@@ -0,0 +1,843 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.util.Values;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.text.ParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Comparison of the rows of a {@link Table} or a {@link Request} with the expected rows of a file.
+ * <p>
+ * The expected rows are in a {@link SnapshotFile} or in a CSV file (with the names of the columns on the first line).
+ * The rows are matched by primary keys values (or by all the values if there is no primary key). The differences are
+ * returned as {@link Change}s from the expected rows to the actual rows : a {@link ChangeType#DELETION} for an expected
+ * row which is missing, a {@link ChangeType#CREATION} for a row which is not expected and a
+ * {@link ChangeType#MODIFICATION} for a row with different values.
+ * </p>
+ * <p>
+ * The two sides are read row by row and merged in the order of the primary keys : the rows of a {@link Table} which
+ * is not loaded are read in the order of the primary keys from the database, and the expected rows must be in the
+ * same order (like in a snapshot of a table). So only the differences are kept in memory. If the rows of one side are
+ * not in the order, the expected rows are kept in memory by primary keys values instead. The rows of a data without
+ * primary key are never in an order : the expected rows are kept in memory by values.
+ * </p>
+ * <p>
+ * The rows of a {@link Request} and of a {@link Table} which is already loaded are in memory : when the expected rows
+ * are kept in memory, the comparison holds the two sides in memory.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public final class RowsComparison {
+
+  /**
+   * The charset of the CSV files.
+   */
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  /**
+   * Private constructor.
+   */
+  private RowsComparison() {
+    // Empty
+  }
+
+  /**
+   * Returns the differences between the rows of the data and the rows of a snapshot file.
+   *
+   * @param data The data (must be not {@code null}).
+   * @param file The snapshot file with one data (must be not {@code null}).
+   * @return The differences.
+   * @throws NullPointerException If {@code data} or {@code file} is {@code null}.
+   * @throws AssertJDBException If the file can not be read or if it does not have the same columns.
+   * @see SnapshotFile
+   */
+  public static List<Change> compareWithSnapshot(AbstractDbData<?> data, final File file) {
+    if (file == null) {
+      throw new NullPointerException("file must be not null");
+    }
+    return compare(data, new ExpectedRowsSource() {
+      @Override
+      public ExpectedRows open() throws IOException {
+        return new SnapshotExpectedRows(file);
+      }
+
+      @Override
+      public String toString() {
+        return file.toString();
+      }
+    });
+  }
+
+  /**
+   * Returns the differences between the rows of the data and the rows of a CSV file.
+   * <p>
+   * The CSV file is in UTF-8 with a comma as separator and the names of the columns on the first line. A value can be
+   * quoted with double quotes (then it can contain commas, line breaks and doubled double quotes) ; an empty value
+   * which is not quoted is {@code null}. The values are compared like a {@code String} in an assertion (for example
+   * {@code 2015-05-20} for a date).
+   * </p>
+   *
+   * @param data The data (must be not {@code null}).
+   * @param file The CSV file (must be not {@code null}).
+   * @return The differences.
+   * @throws NullPointerException If {@code data} or {@code file} is {@code null}.
+   * @throws AssertJDBException If the file can not be read or if it does not have the same columns.
+   */
+  public static List<Change> compareWithCsv(AbstractDbData<?> data, final File file) {
+    if (file == null) {
+      throw new NullPointerException("file must be not null");
+    }
+    return compare(data, new ExpectedRowsSource() {
+      @Override
+      public ExpectedRows open() throws IOException {
+        return new CsvExpectedRows(file);
+      }
+
+      @Override
+      public String toString() {
+        return file.toString();
+      }
+    });
+  }
+
+  /**
+   * Returns the differences between the rows of the data and the expected rows.
+   *
+   * @param data The data.
+   * @param source The source of the expected rows.
+   * @return The differences.
+   */
+  private static List<Change> compare(AbstractDbData<?> data, ExpectedRowsSource source) {
+    if (data == null) {
+      throw new NullPointerException("data must be not null");
+    }
+    try {
+      if (!hasPksName(data)) {
+        // The rows without primary key are not read in an order
+        return new Comparison(data, source, false).compare();
+      }
+      try {
+        return new Comparison(data, source, true).compare();
+      } catch (UnorderedRowsException e) {
+        return new Comparison(data, source, false).compare();
+      }
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns if the data has primary keys (without loading the rows of a {@link Table}).
+   *
+   * @param data The data.
+   * @return {@code true} if the data has primary keys, {@code false} otherwise.
+   */
+  private static boolean hasPksName(AbstractDbData<?> data) {
+    if (data instanceof Table && !data.isLoaded()) {
+      return ((Table) data).hasPksName();
+    }
+    return !data.getPksNameList().isEmpty();
+  }
+
+  /**
+   * Compares two keys.
+   *
+   * @param key1 The first key.
+   * @param key2 The second key.
+   * @return The result of the comparison.
+   * @see java.util.Comparator#compare(Object, Object)
+   */
+  @SuppressWarnings("unchecked")
+  private static int compareKeys(List<Object> key1, List<Object> key2) {
+    for (int index = 0; index < key1.size(); index++) {
+      Object object1 = key1.get(index);
+      Object object2 = key2.get(index);
+      int compare;
+      if (object1 == null || object2 == null) {
+        compare = object1 == null ? (object2 == null ? 0 : -1) : 1;
+      } else if (object1.getClass() == object2.getClass() && object1 instanceof Comparable) {
+        compare = ((Comparable<Object>) object1).compareTo(object2);
+      } else {
+        compare = object1.toString().compareTo(object2.toString());
+      }
+      if (compare != 0) {
+        return compare;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the normalized object of an expected value for a key.
+   * <p>
+   * A text is converted to the type of the actual value (for example a text of a CSV file for a number).
+   * </p>
+   *
+   * @param columnName The name of the column.
+   * @param object The expected value.
+   * @param valueType The type of the actual value.
+   * @return The normalized object.
+   */
+  private static Object getNormalizedExpectedObject(String columnName, Object object, ValueType valueType) {
+    if (object instanceof String) {
+      String text = (String) object;
+      try {
+        switch (valueType) {
+          case NUMBER:
+            BigDecimal bigDecimal = new BigDecimal(text.trim());
+            return bigDecimal.signum() == 0 ? BigDecimal.ZERO : bigDecimal.stripTrailingZeros();
+          case DATE:
+            return DateTimeValue.of(DateValue.parse(text));
+          case TIME:
+            return TimeValue.parse(text);
+          case DATE_TIME:
+            try {
+              return DateTimeValue.parse(text);
+            } catch (ParseException e) {
+              return DateTimeValue.of(DateValue.parse(text));
+            }
+          case UUID:
+            return UUID.fromString(text);
+          default:
+            return text;
+        }
+      } catch (ParseException | IllegalArgumentException e) {
+        // The value is not equal to the actual values
+        return text;
+      }
+    }
+    return Values.getNormalizedObject(new Value(columnName, object));
+  }
+
+  /**
+   * Source of expected rows (which can be opened several times).
+   */
+  private interface ExpectedRowsSource {
+
+    /**
+     * Opens the expected rows.
+     *
+     * @return The expected rows.
+     * @throws IOException I/O Exception.
+     */
+    ExpectedRows open() throws IOException;
+  }
+
+  /**
+   * Expected rows read one by one.
+   */
+  private interface ExpectedRows extends Closeable {
+
+    /**
+     * Returns the names of the columns.
+     *
+     * @return The names of the columns.
+     */
+    List<String> getColumnsNameList();
+
+    /**
+     * Returns the values of the next row (in the order of the columns).
+     *
+     * @return The values, or {@code null} if there is no more row.
+     * @throws IOException I/O Exception.
+     */
+    Object[] nextValues() throws IOException;
+  }
+
+  /**
+   * Expected rows read from a snapshot file.
+   */
+  private static class SnapshotExpectedRows implements ExpectedRows {
+
+    /**
+     * The reader of the snapshot file.
+     */
+    private final SnapshotFile.Reader reader;
+
+    /**
+     * Constructor.
+     *
+     * @param file The snapshot file.
+     * @throws IOException I/O Exception.
+     */
+    private SnapshotExpectedRows(File file) throws IOException {
+      reader = new SnapshotFile.Reader(file);
+      if (!reader.nextData()) {
+        reader.close();
+        throw new AssertJDBException("The snapshot %s is empty", file);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<String> getColumnsNameList() {
+      return reader.getColumnsNameList();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object[] nextValues() throws IOException {
+      Row row = reader.nextRow();
+      if (row == null) {
+        return null;
+      }
+      List<Value> valuesList = row.getValuesList();
+      Object[] values = new Object[valuesList.size()];
+      for (int index = 0; index < values.length; index++) {
+        values[index] = valuesList.get(index).getValue();
+      }
+      return values;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+  }
+
+  /**
+   * Expected rows read from a CSV file.
+   */
+  private static class CsvExpectedRows implements ExpectedRows {
+
+    /**
+     * The file.
+     */
+    private final File file;
+    /**
+     * The reader of the file.
+     */
+    private final BufferedReader reader;
+    /**
+     * The names of the columns.
+     */
+    private final List<String> columnsNameList;
+    /**
+     * The number of the current line.
+     */
+    private int lineNumber;
+
+    /**
+     * Constructor.
+     *
+     * @param file The CSV file.
+     * @throws IOException I/O Exception.
+     */
+    private CsvExpectedRows(File file) throws IOException {
+      this.file = file;
+      reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF_8));
+      try {
+        List<String> header = readRecord();
+        columnsNameList = new ArrayList<>();
+        if (header != null) {
+          for (String columnName : header) {
+            if (columnName == null) {
+              throw new AssertJDBException("The names of the columns of %s must be not empty", file);
+            }
+            columnsNameList.add(columnName.trim());
+          }
+        }
+      } catch (IOException | RuntimeException e) {
+        reader.close();
+        throw e;
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<String> getColumnsNameList() {
+      return columnsNameList;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object[] nextValues() throws IOException {
+      List<String> record;
+      do {
+        record = readRecord();
+        if (record == null) {
+          return null;
+        }
+        // The empty lines are ignored
+      } while (record.size() == 1 && record.get(0) == null && columnsNameList.size() != 1);
+      if (record.size() != columnsNameList.size()) {
+        throw new AssertJDBException("The line %s of %s has %s values instead of %s", lineNumber, file,
+                                     record.size(), columnsNameList.size());
+      }
+      return record.toArray();
+    }
+
+    /**
+     * Reads the values of the next record.
+     *
+     * @return The values, or {@code null} at the end of the file.
+     * @throws IOException I/O Exception.
+     */
+    private List<String> readRecord() throws IOException {
+      int c = reader.read();
+      if (c == -1) {
+        return null;
+      }
+      lineNumber++;
+      List<String> record = new ArrayList<>();
+      while (true) {
+        StringBuilder stringBuilder = new StringBuilder();
+        if (c == '"') {
+          while (true) {
+            c = reader.read();
+            if (c == -1) {
+              throw new AssertJDBException("A value of the line %s of %s is not closed by a quote", lineNumber, file);
+            }
+            if (c == '"') {
+              c = reader.read();
+              if (c != '"') {
+                break;
+              }
+            }
+            stringBuilder.append((char) c);
+          }
+          record.add(stringBuilder.toString());
+        } else {
+          while (c != ',' && c != '\n' && c != '\r' && c != -1) {
+            stringBuilder.append((char) c);
+            c = reader.read();
+          }
+          record.add(stringBuilder.length() == 0 ? null : stringBuilder.toString());
+        }
+
+        if (c == ',') {
+          c = reader.read();
+        } else if (c == '\n' || c == '\r' || c == -1) {
+          if (c == '\r') {
+            reader.mark(1);
+            if (reader.read() != '\n') {
+              reader.reset();
+            }
+          }
+          return record;
+        } else {
+          throw new AssertJDBException("A quoted value of the line %s of %s is followed by a character", lineNumber,
+                                       file);
+        }
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+  }
+
+  /**
+   * Exception thrown when the rows of one side are not in the order of the keys.
+   */
+  private static class UnorderedRowsException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+  }
+
+  /**
+   * One comparison of the rows of a data with the expected rows.
+   */
+  private static class Comparison implements AbstractDbData.RowHandler {
+
+    /**
+     * The data.
+     */
+    private final AbstractDbData<?> data;
+    /**
+     * The source of the expected rows.
+     */
+    private final ExpectedRowsSource source;
+    /**
+     * If the rows are merged ({@code true}) or if the expected rows are kept by keys ({@code false}).
+     */
+    private final boolean merge;
+    /**
+     * The differences.
+     */
+    private final List<Change> changesList = new ArrayList<>();
+    /**
+     * The expected rows.
+     */
+    private ExpectedRows expectedRows;
+    /**
+     * The index of each actual column in the expected columns.
+     */
+    private int[] columnsIndex;
+    /**
+     * The index of the columns of the key.
+     */
+    private int[] keyIndex;
+    /**
+     * The type of the actual values of the columns of the key ({@code null} before the first actual row) : the type of
+     * a column is {@link ValueType#NOT_IDENTIFIED} until an actual value of the column is not {@code null}.
+     */
+    private ValueType[] keyTypes;
+    /**
+     * The current expected row (merge).
+     */
+    private Row expectedRow;
+    /**
+     * The key of the current expected row (merge).
+     */
+    private List<Object> expectedKey;
+    /**
+     * If the expected rows are all read.
+     */
+    private boolean endOfExpectedRows;
+    /**
+     * The key of the previous actual row (merge).
+     */
+    private List<Object> previousActualKey;
+    /**
+     * The expected rows by keys (when the rows are not merged).
+     */
+    private Map<List<Object>, Deque<Row>> expectedRowsMap;
+
+    /**
+     * Constructor.
+     *
+     * @param data The data.
+     * @param source The source of the expected rows.
+     * @param merge If the rows are merged.
+     */
+    private Comparison(AbstractDbData<?> data, ExpectedRowsSource source, boolean merge) {
+      this.data = data;
+      this.source = source;
+      this.merge = merge;
+    }
+
+    /**
+     * Compares the rows.
+     *
+     * @return The differences.
+     * @throws IOException I/O Exception.
+     */
+    private List<Change> compare() throws IOException {
+      try (ExpectedRows rows = source.open()) {
+        expectedRows = rows;
+        if (data instanceof Table && !data.isLoaded()) {
+          ((Table) data).browseRows(this, merge);
+        } else {
+          for (Row row : data.getRowsList()) {
+            handle(row);
+          }
+        }
+        finish();
+      }
+      return changesList;
+    }
+
+    /**
+     * Returns the name of the data.
+     *
+     * @return The name.
+     */
+    private String getDataName() {
+      if (data instanceof Table) {
+        return ((Table) data).getName();
+      }
+      return data.getRequest();
+    }
+
+    /**
+     * Initializes the index of the columns (the columns of the data are known after the first row is read).
+     */
+    private void initColumns() {
+      if (columnsIndex != null) {
+        return;
+      }
+      List<String> columnsNameList = data.getColumnsNameList();
+      List<String> expectedColumnsNameList = expectedRows.getColumnsNameList();
+      columnsIndex = new int[columnsNameList.size()];
+      for (int index = 0; index < columnsIndex.length; index++) {
+        columnsIndex[index] = -1;
+        for (int expectedIndex = 0; expectedIndex < expectedColumnsNameList.size(); expectedIndex++) {
+          if (columnsNameList.get(index).equalsIgnoreCase(expectedColumnsNameList.get(expectedIndex))) {
+            columnsIndex[index] = expectedIndex;
+          }
+        }
+        if (columnsIndex[index] == -1 || columnsIndex.length != expectedColumnsNameList.size()) {
+          throw new AssertJDBException("The columns %s of %s are not the columns %s", expectedColumnsNameList,
+                                       source, columnsNameList);
+        }
+      }
+      List<String> pksNameList = data.getPksNameList();
+      if (pksNameList.isEmpty()) {
+        keyIndex = new int[columnsIndex.length];
+        for (int index = 0; index < keyIndex.length; index++) {
+          keyIndex[index] = index;
+        }
+      } else {
+        keyIndex = new int[pksNameList.size()];
+        for (int index = 0; index < keyIndex.length; index++) {
+          keyIndex[index] = columnsNameList.indexOf(pksNameList.get(index));
+        }
+      }
+    }
+
+    /**
+     * Returns the key of an actual row.
+     *
+     * @param row The row.
+     * @return The key.
+     */
+    private List<Object> getActualKey(Row row) {
+      List<Object> key = new ArrayList<>(keyIndex.length);
+      for (int index : keyIndex) {
+        key.add(Values.getNormalizedObject(row.getColumnValue(index)));
+      }
+      return key;
+    }
+
+    /**
+     * Returns the key of an expected row.
+     *
+     * @param row The row.
+     * @return The key.
+     */
+    private List<Object> getExpectedKey(Row row) {
+      List<Object> key = new ArrayList<>(keyIndex.length);
+      for (int index = 0; index < keyIndex.length; index++) {
+        Value value = row.getColumnValue(keyIndex[index]);
+        key.add(getNormalizedExpectedObject(value.getColumnName(), value.getValue(), keyTypes[index]));
+      }
+      return key;
+    }
+
+    /**
+     * Reads the next expected row.
+     *
+     * @return The row, or {@code null} if there is no more row.
+     * @throws IOException I/O Exception.
+     */
+    private Row nextExpectedRow() throws IOException {
+      if (endOfExpectedRows) {
+        return null;
+      }
+      Object[] values = expectedRows.nextValues();
+      if (values == null) {
+        endOfExpectedRows = true;
+        return null;
+      }
+      List<String> columnsNameList = data.getColumnsNameList();
+      List<Value> valuesList = new ArrayList<>(columnsIndex.length);
+      for (int index = 0; index < columnsIndex.length; index++) {
+        valuesList.add(new Value(columnsNameList.get(index), values[columnsIndex[index]]));
+      }
+      return new Row(data.getPksNameList(), columnsNameList, valuesList, data.getDialect());
+    }
+
+    /**
+     * Reads the next expected row in the merge and controls the order.
+     *
+     * @throws IOException I/O Exception.
+     * @throws UnorderedRowsException If the expected rows are not in the order of the keys.
+     */
+    private void nextExpectedRowToMerge() throws IOException {
+      List<Object> previousKey = expectedKey;
+      expectedRow = nextExpectedRow();
+      expectedKey = expectedRow == null ? null : getExpectedKey(expectedRow);
+      if (previousKey != null && expectedKey != null && compareKeys(previousKey, expectedKey) > 0) {
+        throw new UnorderedRowsException();
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handle(Row row) {
+      try {
+        initColumns();
+        List<Object> actualKey = getActualKey(row);
+        boolean firstRow = keyTypes == null;
+        boolean keyTypesUpdated = updateKeyTypes(row);
+        if (firstRow) {
+          if (merge) {
+            nextExpectedRowToMerge();
+          } else {
+            loadExpectedRows();
+          }
+        } else if (keyTypesUpdated) {
+          updateExpectedKeys();
+        }
+
+        if (merge) {
+          if (previousActualKey != null && compareKeys(previousActualKey, actualKey) > 0) {
+            throw new UnorderedRowsException();
+          }
+          previousActualKey = actualKey;
+          while (expectedRow != null && compareKeys(expectedKey, actualKey) < 0) {
+            changesList.add(Change.createDeletionChange(data.getDataType(), getDataName(), expectedRow));
+            nextExpectedRowToMerge();
+          }
+          if (expectedRow != null && compareKeys(expectedKey, actualKey) == 0) {
+            compareRows(expectedRow, row);
+            nextExpectedRowToMerge();
+          } else {
+            changesList.add(Change.createCreationChange(data.getDataType(), getDataName(), row));
+          }
+        } else {
+          Deque<Row> rowsDeque = expectedRowsMap.get(actualKey);
+          if (rowsDeque != null) {
+            compareRows(rowsDeque.poll(), row);
+            if (rowsDeque.isEmpty()) {
+              expectedRowsMap.remove(actualKey);
+            }
+          } else {
+            changesList.add(Change.createCreationChange(data.getDataType(), getDataName(), row));
+          }
+        }
+      } catch (IOException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+
+    /**
+     * Updates the types of the columns of the key which are not identified with the values of an actual row.
+     *
+     * @param row The actual row.
+     * @return {@code true} if a type is updated, {@code false} otherwise.
+     */
+    private boolean updateKeyTypes(Row row) {
+      if (keyTypes == null) {
+        keyTypes = new ValueType[keyIndex.length];
+        Arrays.fill(keyTypes, ValueType.NOT_IDENTIFIED);
+      }
+      boolean updated = false;
+      for (int index = 0; index < keyIndex.length; index++) {
+        Value value = row.getColumnValue(keyIndex[index]);
+        if (keyTypes[index] == ValueType.NOT_IDENTIFIED && value.getValue() != null) {
+          keyTypes[index] = value.getValueType();
+          updated = true;
+        }
+      }
+      return updated;
+    }
+
+    /**
+     * Computes again the keys of the expected rows which are read (after an update of the types of the key).
+     */
+    private void updateExpectedKeys() {
+      if (merge) {
+        if (expectedRow != null) {
+          expectedKey = getExpectedKey(expectedRow);
+        }
+      } else {
+        Map<List<Object>, Deque<Row>> rowsMap = expectedRowsMap;
+        expectedRowsMap = new LinkedHashMap<>();
+        for (Deque<Row> rowsDeque : rowsMap.values()) {
+          for (Row row : rowsDeque) {
+            addExpectedRow(row);
+          }
+        }
+      }
+    }
+
+    /**
+     * Loads the expected rows by keys.
+     *
+     * @throws IOException I/O Exception.
+     */
+    private void loadExpectedRows() throws IOException {
+      expectedRowsMap = new LinkedHashMap<>();
+      Row row;
+      while ((row = nextExpectedRow()) != null) {
+        addExpectedRow(row);
+      }
+    }
+
+    /**
+     * Adds an expected row to the expected rows by keys.
+     *
+     * @param row The expected row.
+     */
+    private void addExpectedRow(Row row) {
+      List<Object> key = getExpectedKey(row);
+      Deque<Row> rowsDeque = expectedRowsMap.get(key);
+      if (rowsDeque == null) {
+        rowsDeque = new ArrayDeque<>();
+        expectedRowsMap.put(key, rowsDeque);
+      }
+      rowsDeque.add(row);
+    }
+
+    /**
+     * Adds the expected rows which are not found.
+     *
+     * @throws IOException I/O Exception.
+     */
+    private void finish() throws IOException {
+      initColumns();
+      if (expectedRowsMap != null) {
+        for (Deque<Row> rowsDeque : expectedRowsMap.values()) {
+          for (Row row : rowsDeque) {
+            changesList.add(Change.createDeletionChange(data.getDataType(), getDataName(), row));
+          }
+        }
+      } else {
+        if (expectedRow != null) {
+          changesList.add(Change.createDeletionChange(data.getDataType(), getDataName(), expectedRow));
+        }
+        Row row;
+        while ((row = nextExpectedRow()) != null) {
+          changesList.add(Change.createDeletionChange(data.getDataType(), getDataName(), row));
+        }
+      }
+    }
+
+    /**
+     * Compares the values of an expected row and of an actual row with the same key.
+     *
+     * @param expected The expected row.
+     * @param actual The actual row.
+     */
+    private void compareRows(Row expected, Row actual) {
+      List<Value> expectedValuesList = expected.getValuesList();
+      List<Value> actualValuesList = actual.getValuesList();
+      for (int index = 0; index < actualValuesList.size(); index++) {
+        Value actualValue = actualValuesList.get(index);
+        Object expectedObject = expectedValuesList.get(index).getValue();
+        if (expectedObject instanceof String && actualValue.getValueType() == ValueType.BOOLEAN) {
+          expectedObject = Boolean.valueOf((String) expectedObject);
+        }
+        if (!Values.areEqual(actualValue, expectedObject)) {
+          changesList.add(Change.createModificationChange(data.getDataType(), getDataName(), expected, actual));
+          return;
+        }
+      }
+    }
+  }
+}
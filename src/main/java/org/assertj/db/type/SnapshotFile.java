@@ -0,0 +1,907 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * File with a binary snapshot of the rows of {@link Table}s or of a {@link Request}.
+ * <p>
+ * The snapshot contains, for each data, its name (the name of the table or the SQL request), the names of the columns,
+ * the names of the primary keys and the rows. Each value is written with a tag of its type and a compact encoding
+ * (variable length integers, dates as their fields, ...). The dates, the times and the timestamps are written as
+ * their fields in the default time zone (like {@link DateValue}, {@link TimeValue} and {@link DateTimeValue}) : they
+ * are read with the same fields in another time zone. The short texts (like the names of the columns or
+ * the codes) are written once : the next occurrences are references to a dictionary. The file is read with a
+ * memory-mapped buffer.
+ * </p>
+ * <p>Example of a snapshot written then read by another process :</p>
+ * <pre><code class='java'>
+ * SnapshotFile.write(new File(&quot;movie.snapshot&quot;), new Table(source, &quot;movie&quot;));
+ * ...
+ * Changes changes = new Changes(new Table(source, &quot;movie&quot;)).loadStartPoint(new File(&quot;movie.snapshot&quot;));
+ * </code></pre>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ * @see Changes#saveStartPoint(File)
+ * @see Changes#loadStartPoint(File)
+ */
+public final class SnapshotFile {
+
+  /**
+   * The first bytes of a snapshot file.
+   */
+  private static final int MAGIC_NUMBER = 0x41444253;
+  /**
+   * The version of the format.
+   */
+  private static final int VERSION = 2;
+  /**
+   * The maximum length (in bytes) of a text kept in the dictionary.
+   */
+  private static final int MAX_DICTIONARY_TEXT_LENGTH = 64;
+  /**
+   * The maximum number of texts in the dictionary.
+   */
+  private static final int MAX_DICTIONARY_SIZE = 65536;
+  /**
+   * The size of the part of the file which is mapped in memory at the same time.
+   */
+  private static final int MAPPED_SIZE = 64 * 1024 * 1024;
+  /**
+   * The charset of the texts.
+   */
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  // Tags of the types of the values
+  private static final int NULL = 0;
+  private static final int FALSE = 1;
+  private static final int TRUE = 2;
+  private static final int BYTE = 3;
+  private static final int SHORT = 4;
+  private static final int INTEGER = 5;
+  private static final int LONG = 6;
+  private static final int FLOAT = 7;
+  private static final int DOUBLE = 8;
+  private static final int BIG_DECIMAL = 9;
+  private static final int BIG_INTEGER = 10;
+  private static final int TEXT = 11;
+  private static final int TEXT_REFERENCE = 12;
+  private static final int BYTES = 13;
+  private static final int DATE = 14;
+  private static final int TIME = 15;
+  private static final int TIMESTAMP = 16;
+  private static final int UUID_VALUE = 17;
+  private static final int LOB_DIGEST = 18;
+
+  /**
+   * Private constructor.
+   */
+  private SnapshotFile() {
+    // Empty
+  }
+
+  /**
+   * Writes a snapshot of the tables in a file.
+   * <p>
+   * The tables which are not loaded are loaded from the database.
+   * </p>
+   *
+   * @param file The file (must be not {@code null}).
+   * @param tables The tables.
+   * @throws NullPointerException If {@code file} or one of the tables is {@code null}.
+   * @throws AssertJDBException If the file can not be written.
+   */
+  public static void write(File file, Table... tables) {
+    List<String> namesList = new ArrayList<>();
+    for (Table table : tables) {
+      if (table == null) {
+        throw new NullPointerException("The tables must be not null");
+      }
+      namesList.add(table.getName());
+    }
+    write(file, DataType.TABLE, namesList, Arrays.<AbstractDbData<?>>asList(tables));
+  }
+
+  /**
+   * Writes a snapshot of the request in a file.
+   * <p>
+   * If the request is not loaded, it is loaded from the database.
+   * </p>
+   *
+   * @param file The file (must be not {@code null}).
+   * @param request The request (must be not {@code null}).
+   * @throws NullPointerException If {@code file} or {@code request} is {@code null}.
+   * @throws AssertJDBException If the file can not be written.
+   */
+  public static void write(File file, Request request) {
+    if (request == null) {
+      throw new NullPointerException("request must be not null");
+    }
+    write(file, DataType.REQUEST, Collections.singletonList(request.getRequest()),
+          Collections.<AbstractDbData<?>>singletonList(request));
+  }
+
+  /**
+   * Writes a snapshot of data in a file.
+   *
+   * @param file The file.
+   * @param dataType The type of the data.
+   * @param namesList The names of the data.
+   * @param dataList The data.
+   * @throws NullPointerException If {@code file} is {@code null}.
+   * @throws AssertJDBException If the file can not be written.
+   */
+  static void write(File file, DataType dataType, List<String> namesList, List<? extends AbstractDbData<?>> dataList) {
+    if (file == null) {
+      throw new NullPointerException("file must be not null");
+    }
+    try (Writer writer = new Writer(file)) {
+      writer.output.writeInt(MAGIC_NUMBER);
+      writer.writeInt(VERSION);
+      writer.output.writeByte(dataType.ordinal());
+      writer.writeInt(dataList.size());
+      for (int index = 0; index < dataList.size(); index++) {
+        AbstractDbData<?> data = dataList.get(index);
+        writer.writeText(namesList.get(index));
+        writer.writeTexts(data.getColumnsNameList());
+        writer.writeTexts(data.getPksNameList());
+        for (Row row : data.getRowsList()) {
+          writer.output.writeByte(1);
+          for (Value value : row.getValuesList()) {
+            writer.writeValue(value.getValue());
+          }
+        }
+        writer.output.writeByte(0);
+      }
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Reads a snapshot from a file.
+   *
+   * @param file The file.
+   * @return The snapshot.
+   * @throws NullPointerException If {@code file} is {@code null}.
+   * @throws AssertJDBException If the file can not be read or if it is not a snapshot.
+   */
+  static Snapshot read(File file) {
+    try (Reader reader = new Reader(file)) {
+      List<SnapshotData> dataList = new ArrayList<>();
+      while (reader.nextData()) {
+        List<Row> rowsList = new ArrayList<>();
+        Row row;
+        while ((row = reader.nextRow()) != null) {
+          rowsList.add(row);
+        }
+        dataList.add(new SnapshotData(reader.getName(), reader.getColumnsNameList(), reader.getPksNameList(),
+                                      rowsList));
+      }
+      return new Snapshot(reader.getDataType(), dataList);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Content of a snapshot file.
+   */
+  static class Snapshot {
+
+    /**
+     * The type of the data.
+     */
+    private final DataType dataType;
+    /**
+     * The data.
+     */
+    private final List<SnapshotData> dataList;
+
+    /**
+     * Constructor.
+     *
+     * @param dataType The type of the data.
+     * @param dataList The data.
+     */
+    private Snapshot(DataType dataType, List<SnapshotData> dataList) {
+      this.dataType = dataType;
+      this.dataList = dataList;
+    }
+
+    /**
+     * Returns the type of the data.
+     *
+     * @return The type of the data.
+     */
+    DataType getDataType() {
+      return dataType;
+    }
+
+    /**
+     * Returns the data.
+     *
+     * @return The data.
+     */
+    List<SnapshotData> getDataList() {
+      return dataList;
+    }
+  }
+
+  /**
+   * Data (table or request) in a snapshot file.
+   */
+  static class SnapshotData {
+
+    /**
+     * The name of the data.
+     */
+    private final String name;
+    /**
+     * The names of the columns.
+     */
+    private final List<String> columnsNameList;
+    /**
+     * The names of the primary keys.
+     */
+    private final List<String> pksNameList;
+    /**
+     * The rows.
+     */
+    private final List<Row> rowsList;
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the data.
+     * @param columnsNameList The names of the columns.
+     * @param pksNameList The names of the primary keys.
+     * @param rowsList The rows.
+     */
+    private SnapshotData(String name, List<String> columnsNameList, List<String> pksNameList, List<Row> rowsList) {
+      this.name = name;
+      this.columnsNameList = columnsNameList;
+      this.pksNameList = pksNameList;
+      this.rowsList = rowsList;
+    }
+
+    /**
+     * Returns the name of the data (the name of the table or the SQL request).
+     *
+     * @return The name.
+     */
+    String getName() {
+      return name;
+    }
+
+    /**
+     * Sets the rows of the data in parameter (without reading the database).
+     *
+     * @param data The data.
+     */
+    void setRowsOf(AbstractDbData<?> data) {
+      data.setRowsList(columnsNameList, pksNameList, rowsList);
+    }
+  }
+
+  /**
+   * Writer of a snapshot file.
+   */
+  private static class Writer implements Closeable {
+
+    /**
+     * The output.
+     */
+    private final DataOutputStream output;
+    /**
+     * The index of the texts in the dictionary.
+     */
+    private final Map<String, Integer> dictionaryMap = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param file The file.
+     * @throws IOException I/O Exception.
+     */
+    private Writer(File file) throws IOException {
+      output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 65536));
+    }
+
+    /**
+     * Writes an integer with a variable length (7 bits by byte).
+     *
+     * @param value The integer (must be positive).
+     * @throws IOException I/O Exception.
+     */
+    private void writeInt(int value) throws IOException {
+      writeLong(value);
+    }
+
+    /**
+     * Writes a long with a variable length (7 bits by byte).
+     *
+     * @param value The long (considered as unsigned).
+     * @throws IOException I/O Exception.
+     */
+    private void writeLong(long value) throws IOException {
+      while ((value & ~0x7FL) != 0) {
+        output.writeByte((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      output.writeByte((int) value);
+    }
+
+    /**
+     * Writes a signed long with a variable length.
+     *
+     * @param value The long.
+     * @throws IOException I/O Exception.
+     */
+    private void writeSignedLong(long value) throws IOException {
+      writeLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes bytes with their length.
+     *
+     * @param bytes The bytes.
+     * @throws IOException I/O Exception.
+     */
+    private void writeBytes(byte[] bytes) throws IOException {
+      writeInt(bytes.length);
+      output.write(bytes);
+    }
+
+    /**
+     * Writes a text (with a reference if it is in the dictionary).
+     *
+     * @param text The text.
+     * @throws IOException I/O Exception.
+     */
+    private void writeText(String text) throws IOException {
+      Integer index = dictionaryMap.get(text);
+      if (index != null) {
+        output.writeByte(TEXT_REFERENCE);
+        writeInt(index);
+        return;
+      }
+      byte[] bytes = text.getBytes(UTF_8);
+      output.writeByte(TEXT);
+      writeBytes(bytes);
+      if (bytes.length <= MAX_DICTIONARY_TEXT_LENGTH && dictionaryMap.size() < MAX_DICTIONARY_SIZE) {
+        dictionaryMap.put(text, dictionaryMap.size());
+      }
+    }
+
+    /**
+     * Writes a list of texts.
+     *
+     * @param texts The texts.
+     * @throws IOException I/O Exception.
+     */
+    private void writeTexts(List<String> texts) throws IOException {
+      writeInt(texts.size());
+      for (String text : texts) {
+        writeText(text);
+      }
+    }
+
+    /**
+     * Writes the fields of a date.
+     *
+     * @param date The date.
+     * @throws IOException I/O Exception.
+     */
+    private void writeDate(DateValue date) throws IOException {
+      writeSignedLong(date.getYear());
+      writeInt(date.getMonth());
+      writeInt(date.getDayOfTheMonth());
+    }
+
+    /**
+     * Writes the fields of a time.
+     *
+     * @param time The time.
+     * @throws IOException I/O Exception.
+     */
+    private void writeTime(TimeValue time) throws IOException {
+      writeInt(time.getHour());
+      writeInt(time.getMinutes());
+      writeInt(time.getSeconds());
+      writeInt(time.getNanoSeconds());
+    }
+
+    /**
+     * Writes a value with the tag of its type.
+     *
+     * @param object The value.
+     * @throws IOException I/O Exception.
+     * @throws AssertJDBException If the type of the value is not supported.
+     */
+    private void writeValue(Object object) throws IOException {
+      if (object == null) {
+        output.writeByte(NULL);
+      } else if (object instanceof Boolean) {
+        output.writeByte((Boolean) object ? TRUE : FALSE);
+      } else if (object instanceof String) {
+        writeText((String) object);
+      } else if (object instanceof Byte) {
+        output.writeByte(BYTE);
+        output.writeByte((Byte) object);
+      } else if (object instanceof Short) {
+        output.writeByte(SHORT);
+        output.writeShort((Short) object);
+      } else if (object instanceof Integer) {
+        output.writeByte(INTEGER);
+        writeSignedLong((Integer) object);
+      } else if (object instanceof Long) {
+        output.writeByte(LONG);
+        writeSignedLong((Long) object);
+      } else if (object instanceof Float) {
+        output.writeByte(FLOAT);
+        output.writeFloat((Float) object);
+      } else if (object instanceof Double) {
+        output.writeByte(DOUBLE);
+        output.writeDouble((Double) object);
+      } else if (object instanceof BigDecimal) {
+        BigDecimal bigDecimal = (BigDecimal) object;
+        output.writeByte(BIG_DECIMAL);
+        writeSignedLong(bigDecimal.scale());
+        writeBytes(bigDecimal.unscaledValue().toByteArray());
+      } else if (object instanceof BigInteger) {
+        output.writeByte(BIG_INTEGER);
+        writeBytes(((BigInteger) object).toByteArray());
+      } else if (object instanceof byte[]) {
+        output.writeByte(BYTES);
+        writeBytes((byte[]) object);
+      } else if (object instanceof Date) {
+        output.writeByte(DATE);
+        writeDate(DateValue.from((Date) object));
+      } else if (object instanceof Time) {
+        output.writeByte(TIME);
+        writeTime(TimeValue.from((Time) object));
+      } else if (object instanceof Timestamp) {
+        DateTimeValue dateTime = DateTimeValue.from((Timestamp) object);
+        output.writeByte(TIMESTAMP);
+        writeDate(dateTime.getDate());
+        writeTime(dateTime.getTime());
+      } else if (object instanceof UUID) {
+        UUID uuid = (UUID) object;
+        output.writeByte(UUID_VALUE);
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+      } else if (object instanceof LobDigest) {
+        LobDigest lobDigest = (LobDigest) object;
+        output.writeByte(LOB_DIGEST);
+        output.writeBoolean(lobDigest.isText());
+        writeLong(lobDigest.getLength());
+        writeBytes(lobDigest.getDigest());
+        writeText(lobDigest.getPrefix());
+      } else {
+        throw new AssertJDBException("The value %s (%s) can not be written in a snapshot", object,
+                                     object.getClass().getName());
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+      output.close();
+    }
+  }
+
+  /**
+   * Reader of a snapshot file with a memory-mapped buffer.
+   * <p>
+   * The data are read one after the other and the rows of each data are read one by one, so a snapshot can be browsed
+   * without keeping its rows in memory.
+   * </p>
+   */
+  static class Reader implements Closeable {
+
+    /**
+     * The channel of the file.
+     */
+    private final FileChannel channel;
+    /**
+     * The part of the file which is mapped in memory.
+     */
+    private ByteBuffer buffer;
+    /**
+     * The position in the file of the buffer.
+     */
+    private long bufferPosition;
+    /**
+     * The texts of the dictionary.
+     */
+    private final List<String> dictionaryList = new ArrayList<>();
+    /**
+     * The type of the data.
+     */
+    private final DataType dataType;
+    /**
+     * The number of data which are not read.
+     */
+    private int remainingData;
+    /**
+     * The name of the current data.
+     */
+    private String name;
+    /**
+     * The names of the columns of the current data.
+     */
+    private List<String> columnsNameList;
+    /**
+     * The names of the primary keys of the current data.
+     */
+    private List<String> pksNameList;
+    /**
+     * If the rows of the current data are all read.
+     */
+    private boolean endOfRows = true;
+
+    /**
+     * Constructor.
+     *
+     * @param file The file.
+     * @throws NullPointerException If {@code file} is {@code null}.
+     * @throws IOException I/O Exception.
+     * @throws AssertJDBException If the file is not a snapshot.
+     */
+    Reader(File file) throws IOException {
+      if (file == null) {
+        throw new NullPointerException("file must be not null");
+      }
+      channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+      buffer = ByteBuffer.allocate(0);
+      try {
+        ensure(4);
+        if (buffer.getInt() != MAGIC_NUMBER) {
+          throw new AssertJDBException("The file %s is not a snapshot", file);
+        }
+        int version = readInt();
+        if (version != VERSION) {
+          throw new AssertJDBException("The version %s of the snapshot %s is not supported", version, file);
+        }
+        ensure(1);
+        dataType = DataType.values()[buffer.get()];
+        remainingData = readInt();
+      } catch (IOException | RuntimeException e) {
+        channel.close();
+        throw e;
+      }
+    }
+
+    /**
+     * Returns the type of the data.
+     *
+     * @return The type of the data.
+     */
+    DataType getDataType() {
+      return dataType;
+    }
+
+    /**
+     * Reads the header of the next data (the rows of the current data which are not read are skipped).
+     *
+     * @return {@code true} if there is a next data, {@code false} otherwise.
+     * @throws IOException I/O Exception.
+     */
+    boolean nextData() throws IOException {
+      while (!endOfRows) {
+        nextRow();
+      }
+      if (remainingData == 0) {
+        return false;
+      }
+      remainingData--;
+      name = readText();
+      columnsNameList = readTexts();
+      pksNameList = readTexts();
+      endOfRows = false;
+      return true;
+    }
+
+    /**
+     * Returns the name of the current data.
+     *
+     * @return The name.
+     */
+    String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the names of the columns of the current data.
+     *
+     * @return The names of the columns.
+     */
+    List<String> getColumnsNameList() {
+      return columnsNameList;
+    }
+
+    /**
+     * Returns the names of the primary keys of the current data.
+     *
+     * @return The names of the primary keys.
+     */
+    List<String> getPksNameList() {
+      return pksNameList;
+    }
+
+    /**
+     * Reads the next row of the current data.
+     *
+     * @return The row, or {@code null} if all the rows of the current data are read.
+     * @throws IOException I/O Exception.
+     */
+    Row nextRow() throws IOException {
+      if (endOfRows) {
+        return null;
+      }
+      ensure(1);
+      if (buffer.get() == 0) {
+        endOfRows = true;
+        return null;
+      }
+      List<Value> valuesList = new ArrayList<>(columnsNameList.size());
+      for (String columnName : columnsNameList) {
+        valuesList.add(new Value(columnName, readValue()));
+      }
+      return new Row(pksNameList, columnsNameList, valuesList);
+    }
+
+    /**
+     * Ensures that the buffer contains at least the number of bytes in parameter (by mapping the next part of the
+     * file).
+     *
+     * @param length The number of bytes.
+     * @throws IOException I/O Exception.
+     */
+    private void ensure(int length) throws IOException {
+      if (buffer.remaining() < length) {
+        long position = bufferPosition + buffer.position();
+        long size = Math.min(Math.max(MAPPED_SIZE, length), channel.size() - position);
+        if (size < length) {
+          throw new EOFException();
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        bufferPosition = position;
+      }
+    }
+
+    /**
+     * Reads an integer with a variable length.
+     *
+     * @return The integer.
+     * @throws IOException I/O Exception.
+     */
+    private int readInt() throws IOException {
+      return (int) readLong();
+    }
+
+    /**
+     * Reads a long with a variable length.
+     *
+     * @return The long.
+     * @throws IOException I/O Exception.
+     */
+    private long readLong() throws IOException {
+      long value = 0;
+      int shift = 0;
+      int b;
+      do {
+        ensure(1);
+        b = buffer.get();
+        value |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return value;
+    }
+
+    /**
+     * Reads a signed long with a variable length.
+     *
+     * @return The long.
+     * @throws IOException I/O Exception.
+     */
+    private long readSignedLong() throws IOException {
+      long value = readLong();
+      return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads bytes with their length.
+     *
+     * @return The bytes.
+     * @throws IOException I/O Exception.
+     */
+    private byte[] readBytes() throws IOException {
+      int length = readInt();
+      ensure(length);
+      byte[] bytes = new byte[length];
+      buffer.get(bytes);
+      return bytes;
+    }
+
+    /**
+     * Reads a text after its tag.
+     *
+     * @param tag The tag ({@code TEXT} or {@code TEXT_REFERENCE}).
+     * @return The text.
+     * @throws IOException I/O Exception.
+     */
+    private String readText(int tag) throws IOException {
+      if (tag == TEXT_REFERENCE) {
+        return dictionaryList.get(readInt());
+      }
+      byte[] bytes = readBytes();
+      String text = new String(bytes, UTF_8);
+      if (bytes.length <= MAX_DICTIONARY_TEXT_LENGTH && dictionaryList.size() < MAX_DICTIONARY_SIZE) {
+        dictionaryList.add(text);
+      }
+      return text;
+    }
+
+    /**
+     * Reads a text with its tag.
+     *
+     * @return The text.
+     * @throws IOException I/O Exception.
+     */
+    private String readText() throws IOException {
+      ensure(1);
+      return readText(buffer.get());
+    }
+
+    /**
+     * Reads a list of texts.
+     *
+     * @return The texts.
+     * @throws IOException I/O Exception.
+     */
+    private List<String> readTexts() throws IOException {
+      int size = readInt();
+      List<String> texts = new ArrayList<>(size);
+      for (int index = 0; index < size; index++) {
+        texts.add(readText());
+      }
+      return texts;
+    }
+
+    /**
+     * Reads the fields of a date.
+     *
+     * @return The date (in the default time zone).
+     * @throws IOException I/O Exception.
+     */
+    @SuppressWarnings("deprecation")
+    private Date readDate() throws IOException {
+      int year = (int) readSignedLong();
+      int month = readInt();
+      return new Date(year - 1900, month - 1, readInt());
+    }
+
+    /**
+     * Reads the fields of a time (without the nanoseconds).
+     *
+     * @return The time (in the default time zone).
+     * @throws IOException I/O Exception.
+     */
+    @SuppressWarnings("deprecation")
+    private Time readTime() throws IOException {
+      int hour = readInt();
+      int minutes = readInt();
+      return new Time(hour, minutes, readInt());
+    }
+
+    /**
+     * Reads a value with the tag of its type.
+     *
+     * @return The value.
+     * @throws IOException I/O Exception.
+     */
+    @SuppressWarnings("deprecation")
+    private Object readValue() throws IOException {
+      ensure(1);
+      int tag = buffer.get();
+      switch (tag) {
+        case NULL:
+          return null;
+        case FALSE:
+          return Boolean.FALSE;
+        case TRUE:
+          return Boolean.TRUE;
+        case TEXT:
+        case TEXT_REFERENCE:
+          return readText(tag);
+        case BYTE:
+          ensure(1);
+          return buffer.get();
+        case SHORT:
+          ensure(2);
+          return buffer.getShort();
+        case INTEGER:
+          return (int) readSignedLong();
+        case LONG:
+          return readSignedLong();
+        case FLOAT:
+          ensure(4);
+          return buffer.getFloat();
+        case DOUBLE:
+          ensure(8);
+          return buffer.getDouble();
+        case BIG_DECIMAL:
+          int scale = (int) readSignedLong();
+          return new BigDecimal(new BigInteger(readBytes()), scale);
+        case BIG_INTEGER:
+          return new BigInteger(readBytes());
+        case BYTES:
+          return readBytes();
+        case DATE:
+          return readDate();
+        case TIME:
+          return new Time(readTime().getTime() + readInt() / 1000000);
+        case TIMESTAMP:
+          Date date = readDate();
+          Time time = readTime();
+          return new Timestamp(date.getYear(), date.getMonth(), date.getDate(), time.getHours(), time.getMinutes(),
+                               time.getSeconds(), readInt());
+        case UUID_VALUE:
+          ensure(16);
+          return new UUID(buffer.getLong(), buffer.getLong());
+        case LOB_DIGEST:
+          ensure(1);
+          boolean text = buffer.get() != 0;
+          long length = readLong();
+          byte[] digest = readBytes();
+          return new LobDigest(text, length, digest, readText());
+        default:
+          throw new AssertJDBException("The tag %s of a value in the snapshot is unknown", tag);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+}
@@ -12,19 +12,22 @@
  */
 package org.assertj.db.type;
 
+import org.assertj.db.exception.AssertJDBException;
+
 import javax.sql.DataSource;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-
-import static org.assertj.db.util.DialectHelper.getColumnName;
+import java.util.Map;
 
 /**
  * A table in the database to read to get the values.
  * <p>
  * The different informations of the table are {@link Source} or {@link DataSource}, name of the table and optionally
- * the columns to check and to exclude.
+ * the columns to check and to exclude, a filter on the rows and a maximum number of rows.
  * </p>
  * <p>
  * Examples of instantiation :
@@ -62,12 +65,31 @@ import static org.assertj.db.util.DialectHelper.getColumnName;
  * </pre>
  *
  * </li>
+ * <li>
+ * <p>
+ * Below the {@link Table} point to the rows of a table called {@code song} which are about one tenant. The filter is
+ * added to the request as a {@code WHERE} clause (so only these rows are read from the database) and the primary keys
+ * are still detected.
+ * </p>
+ *
+ * <pre>
+ * <code class='java'>
+ * Table table = new Table(dataSource, &quot;song&quot;).setFilter(&quot;tenant_id = ?&quot;, 12);
+ * </code>
+ * </pre>
+ *
+ * </li>
  * </ul>
  *
  * @author Régis Pouiller
  */
 public class Table extends AbstractDbData<Table> {
 
+  /**
+   * The maximum number of parameters of a request of the filter on the primary keys values.
+   */
+  private static final int MAX_PKS_FILTER_PARAMETERS = 1000;
+
   /**
    * The name of the table.
    */
@@ -80,6 +102,28 @@ public class Table extends AbstractDbData<Table> {
    * The columns to exclude.
    */
   private String[] columnsToExclude;
+  /**
+   * The filter on the rows (condition of the {@code WHERE} clause).
+   */
+  private String filter;
+  /**
+   * The parameters of the filter.
+   */
+  private Object[] filterParameters = new Object[0];
+  /**
+   * The maximum number of rows ({@code 0} means no limit).
+   */
+  private int maxRows;
+  /**
+   * The names of the primary keys of the filter on the primary keys values ({@code null} if there is no filter).
+   * @see #setFilterOnPksValues(List, Collection)
+   */
+  private List<String> pksFilterNameList;
+  /**
+   * The primary keys values of the filter on the primary keys values ({@code null} if there is no filter).
+   * @see #setFilterOnPksValues(List, Collection)
+   */
+  private List<List<Object>> pksFilterValuesList;
 
   /**
    * Default constructor.
@@ -174,10 +218,7 @@ public class Table extends AbstractDbData<Table> {
      * @return Array of the name of the columns to check. If {@code null} that means to check all the columns.
      */
     public String[] getColumnsToCheck() {
-      if (columnsToCheck == null) {
-        return null;
-      }
-      return columnsToCheck.clone();
+      return getIdentifiers(columnsToCheck);
     }
 
     /**
@@ -191,15 +232,15 @@ public class Table extends AbstractDbData<Table> {
      */
     public Table setColumnsToCheck(String[] columnsToCheck) {
       if (columnsToCheck != null) {
-        // If the parameter is not null, all the names are transformed to get upper case
-        // before setting the instance field
+        // If the parameter is not null, the names are kept and normalized with the dialect when they are read
+        // (so the dialect can be set after the columns)
         this.columnsToCheck = new String[columnsToCheck.length];
         for (int index = 0; index < columnsToCheck.length; index++) {
           String column = columnsToCheck[index];
           if (column == null) {
             throw new NullPointerException("The name of the column can not be null");
           }
-          this.columnsToCheck[index] = getColumnName(column);
+          this.columnsToCheck[index] = column;
         }
       } else {
           this.columnsToCheck = null;
@@ -214,10 +255,7 @@ public class Table extends AbstractDbData<Table> {
    * @return The columns.
    */
   public String[] getColumnsToExclude() {
-    if (columnsToExclude == null) {
-    return null;
-    }
-    return columnsToExclude.clone();
+    return getIdentifiers(columnsToExclude);
   }
 
   /**
@@ -235,7 +273,7 @@ public class Table extends AbstractDbData<Table> {
         if (column == null) {
           throw new NullPointerException("The name of the column can not be null");
         }
-        this.columnsToExclude[index] = getColumnName(column);
+        this.columnsToExclude[index] = column;
       }
     } else {
     this.columnsToExclude = null;
@@ -243,14 +281,131 @@ public class Table extends AbstractDbData<Table> {
     return this;
   }
 
+  /**
+   * Returns the names normalized with the dialect.
+   *
+   * @param names The names.
+   * @return The normalized names ({@code null} if {@code names} is {@code null}).
+   */
+  private String[] getIdentifiers(String[] names) {
+    if (names == null) {
+      return null;
+    }
+    Dialect dialect = getDialectOrDefault();
+    String[] identifiers = new String[names.length];
+    for (int index = 0; index < names.length; index++) {
+      identifiers[index] = dialect.getIdentifier(names[index]);
+    }
+    return identifiers;
+  }
+
+  /**
+   * Returns the filter on the rows.
+   *
+   * @see #setFilter(String, Object...)
+   * @return The condition of the {@code WHERE} clause. If {@code null} that means to read all the rows.
+   */
+  public String getFilter() {
+    return filter;
+  }
+
+  /**
+   * Returns the parameters of the filter on the rows.
+   *
+   * @see #setFilter(String, Object...)
+   * @return The parameters of the filter.
+   */
+  public Object[] getFilterParameters() {
+    return filterParameters.clone();
+  }
+
+  /**
+   * Sets the filter on the rows.
+   * <p>
+   * The filter is the condition of the {@code WHERE} clause of the request (like {@code "tenant_id = ?"}), with
+   * optionally the parameters of the condition. Only the rows which are in accordance with the filter are read from the
+   * database.
+   * </p>
+   *
+   * @see #getFilter()
+   * @see #getFilterParameters()
+   * @param filter The condition of the {@code WHERE} clause. If {@code null} that means to read all the rows.
+   * @param parameters The parameters of the filter.
+   * @return The actual instance.
+   */
+  public Table setFilter(String filter, Object... parameters) {
+    this.filter = filter;
+    if (filter == null || parameters == null) {
+      this.filterParameters = new Object[0];
+    } else {
+      this.filterParameters = parameters.clone();
+    }
+    return this;
+  }
+
+  /**
+   * Returns the maximum number of rows.
+   *
+   * @see #setMaxRows(int)
+   * @return The maximum number of rows. If {@code 0} that means there is no limit.
+   */
+  public int getMaxRows() {
+    return maxRows;
+  }
+
+  /**
+   * Sets the maximum number of rows.
+   * <p>
+   * The rows after this number are not read from the database (the limit is given to the driver with
+   * {@link Statement#setMaxRows(int)}). Without a filter selecting precisely the rows, the rows which are read depend of
+   * the database.
+   * </p>
+   *
+   * @see #getMaxRows()
+   * @param maxRows The maximum number of rows. If {@code 0} that means there is no limit.
+   * @return The actual instance.
+   * @throws IllegalArgumentException If {@code maxRows} is negative.
+   */
+  public Table setMaxRows(int maxRows) {
+    if (maxRows < 0) {
+      throw new IllegalArgumentException("maxRows must be positive or zero");
+    }
+    this.maxRows = maxRows;
+    return this;
+  }
+
   /**
    * Returns the SQL request.
+   * <p>
+   * This is the request executed to load the table : if there are columns to exclude, the other columns are selected
+   * explicitly, so the columns of the table are read from the database (with a {@link Connection}).
+   * </p>
    *
    * @see AbstractDbData#getRequest()
    * @return The SQL request.
    * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} while reading the
+   *                            columns.
    */
   public String getRequest() {
+    if (columnsToExclude == null) {
+      return getRequest((String) null);
+    }
+    try (Connection connection = getConnection()) {
+      return getRequest(connection, null);
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns the SQL request with a condition added to the filter.
+   *
+   * @param condition A condition added to the filter ({@code null} if there is no condition).
+   * @return The SQL request.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   */
+  private String getRequest(String condition) {
     if (name == null) {
       throw new NullPointerException("name can not be null");
     }
@@ -260,7 +415,7 @@ public class Table extends AbstractDbData<Table> {
     if (columnsToCheck == null) {
       stringBuilder.append("*");
     } else {
-      for (String column : columnsToCheck) {
+      for (String column : getColumnsToCheck()) {
         if (stringBuilder.length() > 7) {
           stringBuilder.append(", ");
         }
@@ -269,6 +424,78 @@ public class Table extends AbstractDbData<Table> {
     }
     stringBuilder.append(" FROM ");
     stringBuilder.append(name);
+    appendFilter(stringBuilder, condition);
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Appends the {@code WHERE} clause of the filter (and of a condition) to the request.
+   *
+   * @param stringBuilder The request.
+   * @param condition A condition added to the filter ({@code null} if there is no condition).
+   */
+  private void appendFilter(StringBuilder stringBuilder, String condition) {
+    if (filter != null && condition != null) {
+      stringBuilder.append(" WHERE (").append(filter).append(") AND ").append(condition);
+    } else if (filter != null) {
+      stringBuilder.append(" WHERE ").append(filter);
+    } else if (condition != null) {
+      stringBuilder.append(" WHERE ").append(condition);
+    }
+  }
+
+  /**
+   * Returns the SQL request used to load the table.
+   * <p>
+   * If there are columns to exclude, the request selects explicitly the other columns (the columns of the table are
+   * read from the {@link DatabaseMetaData} and kept in the {@link MetadataCache}). So the excluded columns are never
+   * transferred by the driver. Otherwise it is the same request as {@link #getRequest(String)}.
+   * </p>
+   *
+   * @param connection The {@code Connection} to the database.
+   * @param condition A condition added to the filter ({@code null} if there is no condition).
+   * @return The SQL request.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws SQLException SQL Exception.
+   */
+  private String getRequest(Connection connection, String condition) throws SQLException {
+    if (columnsToExclude == null) {
+      return getRequest(condition);
+    }
+
+    String quote = "";
+    List<String> columnsList;
+    if (columnsToCheck == null) {
+      columnsList = MetadataCache.getColumnsNameList(getDatabaseKey(), connection,
+                                                     getDialectOrDefault().getIdentifier(name));
+      String identifierQuoteString = MetadataCache.getIdentifierQuoteString(getDatabaseKey(), connection);
+      if (identifierQuoteString != null && !" ".equals(identifierQuoteString)) {
+        // The names from the metadata are in the case of the database
+        quote = identifierQuoteString;
+      }
+    } else {
+      columnsList = Arrays.asList(getColumnsToCheck());
+    }
+
+    List<String> columnsToExcludeList = Arrays.asList(getColumnsToExclude());
+    StringBuilder stringBuilder = new StringBuilder("SELECT ");
+    int numberOfColumns = 0;
+    for (String column : columnsList) {
+      if (!columnsToExcludeList.contains(getDialectOrDefault().getIdentifier(column))) {
+        if (numberOfColumns > 0) {
+          stringBuilder.append(", ");
+        }
+        stringBuilder.append(quote).append(column).append(quote);
+        numberOfColumns++;
+      }
+    }
+    if (numberOfColumns == 0) {
+      // The columns are not found or they are all excluded : the result set is filtered when reading it
+      return getRequest(condition);
+    }
+    stringBuilder.append(" FROM ");
+    stringBuilder.append(name);
+    appendFilter(stringBuilder, condition);
     return stringBuilder.toString();
   }
 
@@ -285,25 +512,29 @@ public class Table extends AbstractDbData<Table> {
   private void collectColumnsNameFromResultSet(ResultSet resultSet) throws SQLException {
     ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
     List<String> columnsNameList = new ArrayList<>();
+    List<String> columnsLabelList = new ArrayList<>();
     List<String> columnsToExcludeList = null;
     if (columnsToExclude != null) {
-      columnsToExcludeList = Arrays.asList(columnsToExclude);
+      columnsToExcludeList = Arrays.asList(getColumnsToExclude());
     }
 
     for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-      String columnName = getColumnName(resultSetMetaData.getColumnLabel(i));
+      String columnLabel = resultSetMetaData.getColumnLabel(i);
+      String columnName = getDialectOrDefault().getIdentifier(columnLabel);
       if (columnsToExcludeList == null || !columnsToExcludeList.contains(columnName)) {
        columnsNameList.add(columnName);
+       columnsLabelList.add(columnLabel);
       }
     }
-    setColumnsNameList(columnsNameList);
+    setColumnsNameList(columnsNameList, columnsLabelList);
   }
 
   /**
    * Collects the primary key name from the {@code Connection} to the database.
    * <p>
    * This method use the {@link DatabaseMetaData} from the {@code Connection} parameter to list the primary keys of the
-   * table.
+   * table. The primary keys are kept in the {@link MetadataCache} so the next loadings of the table do not query the
+   * metadata again.
    * </p>
    *
    * @param connection The {@code Connection} to the database.
@@ -311,20 +542,322 @@ public class Table extends AbstractDbData<Table> {
    */
   private void collectPrimaryKeyName(Connection connection) throws SQLException {
     List<String> pksNameList = new ArrayList<>();
-    DatabaseMetaData metaData = connection.getMetaData();
-
-    try (ResultSet resultSet = metaData
-       .getPrimaryKeys(getCatalog(connection), getSchema(connection), getColumnName(name))) {
-      while (resultSet.next()) {
-        String columnName = resultSet.getString("COLUMN_NAME");
-        if (getColumnsNameList().indexOf(columnName) != -1) {
-          pksNameList.add(columnName);
-        }
+    String tableName = getDialectOrDefault().getIdentifier(name);
+    for (String columnName : MetadataCache.getPksNameList(getDatabaseKey(), connection, tableName)) {
+      if (getColumnsNameList().indexOf(columnName) != -1) {
+        pksNameList.add(columnName);
       }
     }
     setPksNameList(pksNameList);
   }
 
+  /**
+   * Returns if the table has primary keys (without loading the rows if they are not loaded).
+   *
+   * @return {@code true} if the table has primary keys, {@code false} otherwise.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the reading of
+   *           the metadata.
+   */
+  boolean hasPksName() {
+    if (isLoaded()) {
+      return !getPksNameList().isEmpty();
+    }
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+    try (Connection connection = getConnection()) {
+      String tableName = getDialectOrDefault().getIdentifier(name);
+      return !MetadataCache.getPksNameList(getDatabaseKey(), connection, tableName).isEmpty();
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Browses the rows of the table without keeping them in the list of rows.
+   * <p>
+   * The names of the columns and of the primary keys are collected like during a loading, then the {@code rowHandler}
+   * is called for each row read from the database.
+   * </p>
+   *
+   * @param rowHandler The handler called for each row.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  void browseRows(RowHandler rowHandler) {
+    browseRows(rowHandler, false);
+  }
+
+  /**
+   * Browses the rows of the table without keeping them in the list of rows, optionally in the order of the primary
+   * keys (the order of the database).
+   *
+   * @param rowHandler The handler called for each row.
+   * @param orderedByPks {@code true} if the rows are read in the order of the primary keys.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  void browseRows(RowHandler rowHandler, boolean orderedByPks) {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    try (Connection connection = getConnection();
+         LoadOptions.ConnectionSettings settings = getLoadOptionsOrDefault().apply(connection)) {
+      browseRows(connection, rowHandler, orderedByPks);
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Browses the rows of the table with the connection in parameter.
+   * <p>
+   * With a filter on the primary keys values, the values are read by batches : one request per batch (so the rows are
+   * only in the order of the primary keys in each batch, and the loading sorts them all with
+   * {@link #setRowsList(List, List, List)}).
+   * </p>
+   *
+   * @param connection The {@code Connection} to the database.
+   * @param rowHandler The handler called for each row.
+   * @param orderedByPks {@code true} if the rows are read in the order of the primary keys.
+   * @throws SQLException SQL Exception.
+   */
+  private void browseRows(Connection connection, RowHandler rowHandler, boolean orderedByPks) throws SQLException {
+    Dialect dialect = getDialect(connection);
+    String orderBy = "";
+    if (orderedByPks) {
+      orderBy = dialect.getOrderByClause(MetadataCache.getPksNameList(getDatabaseKey(), connection,
+                                                                      getDialectOrDefault().getIdentifier(name)));
+    }
+    if (pksFilterValuesList == null) {
+      browseRows(connection, dialect, getRequest(connection, null) + orderBy, filterParameters, rowHandler);
+      return;
+    }
+
+    int batchSize = Math.max(1, MAX_PKS_FILTER_PARAMETERS / pksFilterNameList.size());
+    for (int start = 0; start < pksFilterValuesList.size(); start += batchSize) {
+      List<List<Object>> batch = pksFilterValuesList.subList(start, Math.min(start + batchSize,
+                                                                             pksFilterValuesList.size()));
+      List<Object> parametersList = new ArrayList<>(Arrays.asList(filterParameters));
+      for (List<Object> pksValues : batch) {
+        parametersList.addAll(pksValues);
+      }
+      String request = getRequest(connection, getPksValuesCondition(dialect, batch.size())) + orderBy;
+      browseRows(connection, dialect, request, parametersList.toArray(), rowHandler);
+    }
+  }
+
+  /**
+   * Browses the rows read by a request.
+   *
+   * @param connection The {@code Connection} to the database.
+   * @param dialect The dialect.
+   * @param request The request.
+   * @param parameters The parameters of the request.
+   * @param rowHandler The handler called for each row.
+   * @throws SQLException SQL Exception.
+   */
+  private void browseRows(Connection connection, Dialect dialect, String request, Object[] parameters,
+                          RowHandler rowHandler) throws SQLException {
+
+    try (PreparedStatement statement = prepareStatement(connection, getLimitRequest(dialect, request), parameters)) {
+      statement.setMaxRows(maxRows);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        collectColumnsNameFromResultSet(resultSet);
+        collectPrimaryKeyName(connection);
+        browseRowsFromResultSet(resultSet, rowHandler);
+      }
+    }
+  }
+
+  /**
+   * Returns a fingerprint of the rows of the table computed by the database without reading the rows.
+   * <p>
+   * The fingerprint is made of the number of rows and of a hash of the values of all the rows (which does not depend
+   * on the order of the rows) : two equal fingerprints mean that the rows are the same. It is only computed by H2 :
+   * with the other databases (or if there is a maximum number of rows), this method returns {@code null} and the
+   * table must be loaded to be compared.
+   * </p>
+   *
+   * @return The fingerprint, or {@code null} if the database can not compute it.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   */
+  String getFingerprint() {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+    if (maxRows > 0) {
+      return null;
+    }
+
+    try (Connection connection = getConnection();
+         LoadOptions.ConnectionSettings settings = getLoadOptionsOrDefault().apply(connection)) {
+      List<String> columnsList = MetadataCache.getColumnsNameList(getDatabaseKey(), connection,
+                                                                  getDialectOrDefault().getIdentifier(name));
+      if (columnsList.isEmpty()) {
+        return null;
+      }
+      String request = getDialect(connection).getFingerprintRequest(name, columnsList, filter);
+      if (request == null) {
+        return null;
+      }
+
+      try (PreparedStatement statement = prepareStatement(connection, request, filterParameters)) {
+        try (ResultSet resultSet = statement.executeQuery()) {
+          resultSet.next();
+          StringBuilder fingerprint = new StringBuilder().append(resultSet.getInt(1));
+          for (int index = 2; index <= resultSet.getMetaData().getColumnCount(); index++) {
+            fingerprint.append(':').append(resultSet.getString(index));
+          }
+          return fingerprint.toString();
+        }
+      }
+    } catch (SQLException e) {
+      // The table is loaded instead
+      return null;
+    }
+  }
+
+  /**
+   * Returns the hashes of the rows of the table computed by the database by primary keys values.
+   * <p>
+   * The hash of a row is computed like in {@link #getFingerprint()}. The keys of the map are the values of the
+   * primary keys in the order of {@link #getPksNameList()}. It is only computed by H2 for a table with primary keys
+   * which checks all the columns and has no maximum number of rows : in the other cases, this method returns
+   * {@code null}.
+   * </p>
+   *
+   * @return The hashes of the rows, or {@code null} if the database can not compute them.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   */
+  Map<List<Object>, String> getRowsHashesMap() {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+    if (maxRows > 0 || columnsToCheck != null || columnsToExclude != null) {
+      return null;
+    }
+
+    try (Connection connection = getConnection();
+         LoadOptions.ConnectionSettings settings = getLoadOptionsOrDefault().apply(connection)) {
+      String tableName = getDialectOrDefault().getIdentifier(name);
+      List<String> columnsList = MetadataCache.getColumnsNameList(getDatabaseKey(), connection, tableName);
+      List<String> pksList = MetadataCache.getPksNameList(getDatabaseKey(), connection, tableName);
+      if (columnsList.isEmpty() || pksList.isEmpty()) {
+        return null;
+      }
+      Dialect dialect = getDialect(connection);
+      String rowHashExpression = dialect.getRowHashExpression(columnsList);
+      if (rowHashExpression == null) {
+        return null;
+      }
+
+      StringBuilder stringBuilder = new StringBuilder("SELECT ");
+      for (String pk : pksList) {
+        stringBuilder.append(dialect.quoteIdentifier(pk)).append(", ");
+      }
+      stringBuilder.append(rowHashExpression).append(" FROM ").append(name);
+      appendFilter(stringBuilder, null);
+      Map<List<Object>, String> rowsHashesMap = new LinkedHashMap<>();
+      try (PreparedStatement statement = prepareStatement(connection, stringBuilder.toString(), filterParameters)) {
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            Object[] key = new Object[pksList.size()];
+            for (int index = 0; index < key.length; index++) {
+              key[index] = resultSet.getObject(index + 1);
+            }
+            rowsHashesMap.put(Arrays.asList(key), resultSet.getString(key.length + 1));
+          }
+        }
+      }
+      return rowsHashesMap;
+    } catch (SQLException e) {
+      // The table is loaded instead
+      return null;
+    }
+  }
+
+  /**
+   * Sets a filter on the rows with the primary keys values in parameter.
+   * <p>
+   * The filter is added to the filter of {@link #setFilter(String, Object...)}. The rows are read by batches of
+   * primary keys values (with {@code IN} if there is one primary key) : so the number of parameters of a request is
+   * bounded and the database can use the index of the primary keys.
+   * </p>
+   *
+   * @param pksNameList The names of the primary keys (as in the database).
+   * @param pksValuesCollection The primary keys values of the rows (must be not empty).
+   * @return {@code this} table.
+   */
+  Table setFilterOnPksValues(List<String> pksNameList, Collection<List<Object>> pksValuesCollection) {
+    pksFilterNameList = new ArrayList<>(pksNameList);
+    pksFilterValuesList = new ArrayList<>(pksValuesCollection);
+    return this;
+  }
+
+  /**
+   * Returns the condition on a batch of primary keys values.
+   *
+   * @param dialect The dialect.
+   * @param size The number of primary keys values in the batch.
+   * @return The condition (between parentheses).
+   */
+  private String getPksValuesCondition(Dialect dialect, int size) {
+    StringBuilder stringBuilder = new StringBuilder("(");
+    if (pksFilterNameList.size() == 1) {
+      stringBuilder.append(dialect.quoteIdentifier(pksFilterNameList.get(0))).append(" IN (");
+      for (int index = 0; index < size; index++) {
+        stringBuilder.append(index == 0 ? "?" : ", ?");
+      }
+      return stringBuilder.append("))").toString();
+    }
+    for (int index = 0; index < size; index++) {
+      stringBuilder.append(index == 0 ? "(" : " OR (");
+      for (int pkIndex = 0; pkIndex < pksFilterNameList.size(); pkIndex++) {
+        stringBuilder.append(pkIndex == 0 ? "" : " AND ").append(dialect.quoteIdentifier(pksFilterNameList.get(pkIndex)))
+                     .append(" = ?");
+      }
+      stringBuilder.append(')');
+    }
+    return stringBuilder.append(')').toString();
+  }
+
+  /**
+   * Sets a filter on the rows with the primary keys values in parameter (the names of the primary keys are read from
+   * the {@link MetadataCache}).
+   *
+   * @param pksValuesCollection The primary keys values of the rows in the order of {@link #getRowsHashesMap()} (must
+   *                            be not empty).
+   * @return {@code this} table.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the reading of
+   *                            the metadata.
+   */
+  Table setFilterOnPksValues(Collection<List<Object>> pksValuesCollection) {
+    try (Connection connection = getConnection()) {
+      return setFilterOnPksValues(MetadataCache.getPksNameList(getDatabaseKey(), connection,
+                                                               getDialectOrDefault().getIdentifier(name)),
+                                  pksValuesCollection);
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns the request which reads the maximum number of rows with the dialect (if there is a maximum number).
+   *
+   * @param dialect The dialect.
+   * @param request The request.
+   * @return The request.
+   */
+  private String getLimitRequest(Dialect dialect, String request) {
+    if (maxRows > 0) {
+      return dialect.getLimitRequest(request, maxRows);
+    }
+    return request;
+  }
+
   /**
    * Specific implementation of the loading for a {@code Table}.
    *
@@ -339,8 +872,24 @@ public class Table extends AbstractDbData<Table> {
       throw new NullPointerException("name can not be null");
     }
 
-    try (Statement statement = connection.createStatement()) {
-      try (ResultSet resultSet = statement.executeQuery(getRequest())) {
+    if (pksFilterValuesList != null && !pksFilterValuesList.isEmpty()) {
+      // The rows are read by batches of primary keys values
+      final List<Row> rowsList = new ArrayList<>();
+      browseRows(connection, new RowHandler() {
+        @Override
+        public void handle(Row row) {
+          rowsList.add(row);
+        }
+      }, false);
+      // The batches are read one after the other : the rows are sorted once at the end, like the other loadings
+      setRowsList(getColumnsNameList(), getPksNameList(), rowsList);
+      return;
+    }
+
+    String request = getLimitRequest(getDialect(connection), getRequest(connection, null));
+    try (PreparedStatement statement = prepareStatement(connection, request, filterParameters)) {
+      statement.setMaxRows(maxRows);
+      try (ResultSet resultSet = statement.executeQuery()) {
         collectColumnsNameFromResultSet(resultSet);
         collectRowsFromResultSet(resultSet);
       }
@@ -348,4 +897,87 @@ public class Table extends AbstractDbData<Table> {
     collectPrimaryKeyName(connection);
     sortRows();
   }
+
+  /**
+   * Specific implementation of the loading of the names of the columns for a {@code Table}.
+   *
+   * @see AbstractDbData#loadColumnsNameImpl(Connection)
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#getColumnsList()} method.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws SQLException         SQL Exception.
+   */
+  @Override
+  protected void loadColumnsNameImpl(Connection connection) throws SQLException {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    try (PreparedStatement statement = prepareStatement(connection, getRequest(connection, null), filterParameters)) {
+      statement.setMaxRows(1);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        collectColumnsNameFromResultSet(resultSet);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * With a maximum number of rows, the rows in the limit are not known before reading them.
+   * </p>
+   *
+   * @return {@code true} if there is no maximum number of rows.
+   */
+  @Override
+  boolean isCountableWithCondition() {
+    return maxRows == 0 && pksFilterValuesList == null;
+  }
+
+  /**
+   * Specific implementation of the counting of the rows for a {@code Table}.
+   * <p>
+   * With a maximum number of rows, only the number of all the rows can be counted by the database (the rows in the
+   * limit are not known before reading them).
+   * </p>
+   *
+   * @see AbstractDbData#countImpl(Connection, String)
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#getNumberOfRows()} method.
+   * @param condition  The SQL condition on the rows to count ({@code null} to count all the rows).
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws SQLException         SQL Exception.
+   */
+  @Override
+  protected int countImpl(Connection connection, String condition) throws SQLException {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    if (maxRows > 0 && condition != null) {
+      // The caller loads the rows instead
+      throw new SQLException("The values of a table with a maximum number of rows can not be counted");
+    }
+    if (pksFilterValuesList != null) {
+      // The caller loads the rows instead
+      throw new SQLException("The rows of a table with a filter on the primary keys values can not be counted");
+    }
+
+    String whereCondition = filter;
+    if (filter != null && condition != null) {
+      whereCondition = "(" + filter + ") AND " + condition;
+    } else if (condition != null) {
+      whereCondition = condition;
+    }
+    String request = getDialect(connection).getCountRequest(name, whereCondition);
+    try (PreparedStatement statement = prepareStatement(connection, request, filterParameters)) {
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        int count = resultSet.getInt(1);
+        if (maxRows > 0 && count > maxRows) {
+          return maxRows;
+        }
+        return count;
+      }
+    }
+  }
 }
@@ -41,19 +41,17 @@ public class TimeValue implements Comparable<TimeValue> {
    */
   private final int nanoSeconds;
   /**
-   * Indicates where there are the digits for {@code String} for {@link TimeValue#TimeValue(String)}.
+   * Length of a time in {@code hh:mm} format.
    */
-  private static final String TIME_FORMAT = "\\d\\d:\\d\\d";
+  private static final int TIME_LENGTH = 5;
   /**
-   * Indicates where there are the digits in style with seconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
+   * Length of a time in {@code hh:mm:ss} format.
    */
-  private static final String TIME_FORMAT_WITH_SECONDS = "\\d\\d:\\d\\d:\\d\\d";
+  private static final int TIME_LENGTH_WITH_SECONDS = 8;
   /**
-   * Indicates where there are the digits in style with nanoseconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
+   * Length of a time in {@code hh:mm:ss.nnnnnnnnn} format.
    */
-  private static final String TIME_FORMAT_WITH_NANO = "\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d";
+  private static final int TIME_LENGTH_WITH_NANO = 18;
 
   /**
    * Makes an instance of time value from a hour, minutes, seconds and nanoseconds.
@@ -102,7 +100,56 @@ public class TimeValue implements Comparable<TimeValue> {
    *           {@code hh:mm:ss.nnnnnnnnn} format.
    */
   public static TimeValue parse(String time) throws ParseException {
-    return new TimeValue(time);
+    if (time == null) {
+      throw new NullPointerException("time should be not null");
+    }
+
+    TimeValue timeValue = parse(time, 0, time.length());
+    if (timeValue == null) {
+      throw new ParseException("time must respect hh:mm, hh:mm:ss or hh:mm:ss.nnnnnnnnn format", time.length());
+    }
+    return timeValue;
+  }
+
+  /**
+   * Makes an instance of time value from a part of a {@code String} in {@code hh:mm}, {@code hh:mm:ss} or
+   * {@code hh:mm:ss.nnnnnnnnn} format.
+   * <p>
+   * The characters are read one by one (without regular expression and without intermediate {@code String}).
+   * </p>
+   *
+   * @param text The text containing the time.
+   * @param start The index of the first character of the time.
+   * @param end The index after the last character of the time.
+   * @return An instance of time value, or {@code null} if the part don't respect the {@code hh:mm}, {@code hh:mm:ss}
+   *         or {@code hh:mm:ss.nnnnnnnnn} format.
+   */
+  static TimeValue parse(String text, int start, int end) {
+    int length = end - start;
+    if ((length != TIME_LENGTH && length != TIME_LENGTH_WITH_SECONDS && length != TIME_LENGTH_WITH_NANO)
+        || text.charAt(start + 2) != ':') {
+      return null;
+    }
+    int hour = DateValue.parseDigits(text, start, start + 2);
+    int minutes = DateValue.parseDigits(text, start + 3, start + 5);
+    int seconds = 0;
+    int nanoSeconds = 0;
+    if (length > TIME_LENGTH) {
+      if (text.charAt(start + 5) != ':') {
+        return null;
+      }
+      seconds = DateValue.parseDigits(text, start + 6, start + 8);
+    }
+    if (length > TIME_LENGTH_WITH_SECONDS) {
+      if (text.charAt(start + 8) != '.') {
+        return null;
+      }
+      nanoSeconds = DateValue.parseDigits(text, start + 9, end);
+    }
+    if (hour < 0 || minutes < 0 || seconds < 0 || nanoSeconds < 0) {
+      return null;
+    }
+    return new TimeValue(hour, minutes, seconds, nanoSeconds);
   }
 
   /**
@@ -183,28 +230,16 @@ public class TimeValue implements Comparable<TimeValue> {
    *           {@code hh:mm:ss.nnnnnnnnn} format.
    */
   public TimeValue(String time) throws ParseException {
-    if (time == null) {
-      throw new NullPointerException("time should be not null");
-    }
+    this(parse(time));
+  }
 
-    if (time.matches(TIME_FORMAT)) {
-      hour = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3));
-      seconds = 0;
-      nanoSeconds = 0;
-    } else if (time.matches(TIME_FORMAT_WITH_SECONDS)) {
-      hour = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3, 5));
-      seconds = Integer.parseInt(time.substring(6));
-      nanoSeconds = 0;
-    } else if (time.matches(TIME_FORMAT_WITH_NANO)) {
-      hour = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3, 5));
-      seconds = Integer.parseInt(time.substring(6, 8));
-      nanoSeconds = Integer.parseInt(time.substring(9));
-    } else {
-      throw new ParseException("time must respect hh:mm, hh:mm:ss or hh:mm:ss.nnnnnnnnn format", time.length());
-    }
+  /**
+   * Constructor.
+   *
+   * @param timeValue The time value to copy.
+   */
+  private TimeValue(TimeValue timeValue) {
+    this(timeValue.hour, timeValue.minutes, timeValue.seconds, timeValue.nanoSeconds);
   }
 
   /**
@@ -213,18 +248,18 @@ public class TimeValue implements Comparable<TimeValue> {
    * @param time Time.
    * @throws NullPointerException If {@code time} is {@code null}.
    */
+  @SuppressWarnings("deprecation")
   public TimeValue(Time time) {
     if (time == null) {
       throw new NullPointerException("time should be not null");
     }
 
-    Calendar calendar = Calendar.getInstance();
-    calendar.setTimeInMillis(time.getTime());
-
-    hour = calendar.get(Calendar.HOUR_OF_DAY);
-    minutes = calendar.get(Calendar.MINUTE);
-    seconds = calendar.get(Calendar.SECOND);
-    nanoSeconds = calendar.get(Calendar.MILLISECOND) * 1000000;
+    // The fields are computed by the time in the default time zone (without creating a Calendar)
+    hour = time.getHours();
+    minutes = time.getMinutes();
+    seconds = time.getSeconds();
+    int milliSeconds = (int) (time.getTime() % 1000);
+    nanoSeconds = (milliSeconds < 0 ? milliSeconds + 1000 : milliSeconds) * 1000000;
   }
 
   /**
@@ -0,0 +1,378 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.internal.TriggerCaptures;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Capture of the changes on the tables of a {@link Changes} by triggers.
+ * <p>
+ * A trigger is created on each table with primary keys : at each insertion, modification or deletion, the trigger
+ * keeps the first image of the row (or that the row was absent) for its primary keys values. At the end point, only
+ * the rows which were touched are compared : the rows at start point are the images and the rows at end point are read
+ * from the database with a filter on the primary keys values.
+ * </p>
+ * <p>
+ * The triggers are only supported by H2 (the dialect {@link Dialect#H2}) when the database is in the same JVM (in
+ * memory or embedded) : in the other cases (or if a trigger can not be created, like when the class of the trigger is
+ * not in the classpath of a server), {@link #install(Connection, Object, List)} returns {@code null} and the tables are
+ * fully read.
+ * </p>
+ * <p>
+ * The triggers are removed by the end point or by {@link Changes#close()} : until then, they are in the database and
+ * the captures are referenced by this class.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ * @see Changes#setTriggerCapture(boolean)
+ */
+final class TriggerCapture {
+
+  /**
+   * Name of the class of the trigger (the class is not referenced to not load the H2 API when H2 is absent).
+   */
+  private static final String TRIGGER_CLASS_NAME = "org.assertj.db.internal.H2CaptureTrigger";
+  /**
+   * Prefix of the name of the triggers.
+   */
+  private static final String TRIGGER_NAME_PREFIX = "ASSERTJ_DB_";
+
+  /**
+   * The captures of the tables of the {@link Changes} (by table).
+   */
+  private final Map<Table, TableCapture> tableCapturesMap = new IdentityHashMap<>();
+  /**
+   * If the triggers are removed.
+   */
+  private boolean removed;
+
+  /**
+   * Private constructor.
+   */
+  private TriggerCapture() {
+    // Empty
+  }
+
+  /**
+   * Installs the triggers on the tables with primary keys.
+   * <p>
+   * A table is captured only if its dialect creates the trigger (see {@link Dialect#getCreateTriggerRequest}), if all
+   * its columns are checked and if it has no filter and no maximum number of rows.
+   * </p>
+   *
+   * @param connection The connection.
+   * @param databaseKey The key of the database.
+   * @param tablesList The list of the tables.
+   * @return The capture, or {@code null} if the database does not support the capture, if a trigger can not be created
+   *         or if there is no table captured.
+   * @throws SQLException SQL Exception.
+   */
+  static TriggerCapture install(Connection connection, Object databaseKey, List<Table> tablesList)
+          throws SQLException {
+
+    TriggerCapture capture = new TriggerCapture();
+    String schema = MetadataCache.getCatalogAndSchema(connection).get(1);
+    String prefix = TRIGGER_NAME_PREFIX + UUID.randomUUID().toString().replace("-", "").toUpperCase() + "_";
+    try (Statement statement = connection.createStatement()) {
+      int index = 0;
+      for (Table table : tablesList) {
+        if (table.getColumnsToCheck() != null || table.getColumnsToExclude() != null || table.getFilter() != null
+            || table.getMaxRows() > 0) {
+          continue;
+        }
+        Dialect dialect = table.getDialect(connection);
+        String tableName = table.getDialectOrDefault().getIdentifier(table.getName());
+        List<String> columnsNameList = MetadataCache.getColumnsNameList(databaseKey, connection, tableName);
+        List<String> pksNameList = MetadataCache.getPksNameList(databaseKey, connection, tableName);
+        if (columnsNameList.isEmpty() || pksNameList.isEmpty()) {
+          continue;
+        }
+
+        String triggerName = getQualifiedName(schema, prefix + index);
+        String request = dialect.getCreateTriggerRequest(triggerName, getQualifiedName(schema, tableName),
+                                                         TRIGGER_CLASS_NAME);
+        if (request == null) {
+          continue;
+        }
+
+        index++;
+        TableCapture tableCapture = new TableCapture(triggerName, columnsNameList, pksNameList,
+                                                     table.getLoadOptionsOrDefault());
+        TriggerCaptures.register(tableCapture.triggerName, tableCapture);
+        capture.tableCapturesMap.put(table, tableCapture);
+        try {
+          statement.executeUpdate(request);
+        } catch (SQLException e) {
+          // The trigger can not be created (like when its class is not in the classpath of a server)
+          capture.remove(connection);
+          return null;
+        }
+        if (!tableCapture.isInitialized()) {
+          // The trigger is instantiated in another JVM (server mode) : the capture is not possible
+          capture.remove(connection);
+          return null;
+        }
+      }
+    } catch (SQLException e) {
+      capture.remove(connection);
+      throw e;
+    }
+
+    if (capture.tableCapturesMap.isEmpty()) {
+      return null;
+    }
+    return capture;
+  }
+
+  /**
+   * Returns the qualified and quoted name.
+   *
+   * @param schema The schema (can be {@code null}).
+   * @param name The name.
+   * @return The qualified name.
+   */
+  private static String getQualifiedName(String schema, String name) {
+    return TriggerCaptures.getQualifiedName(schema, name);
+  }
+
+  /**
+   * Returns the capture of a table of the {@link Changes}.
+   *
+   * @param table The table.
+   * @return The capture of the table, or {@code null} if the table is not captured.
+   */
+  TableCapture getTableCapture(Table table) {
+    return tableCapturesMap.get(table);
+  }
+
+  /**
+   * Returns if the triggers are removed (the capture is ended).
+   *
+   * @return {@code true} if the triggers are removed, {@code false} otherwise.
+   */
+  boolean isRemoved() {
+    return removed;
+  }
+
+  /**
+   * Removes the triggers from the database.
+   * <p>
+   * The images captured are kept.
+   * </p>
+   *
+   * @param connection The connection.
+   * @throws SQLException SQL Exception.
+   */
+  void remove(Connection connection) throws SQLException {
+    if (removed) {
+      return;
+    }
+    removed = true;
+    SQLException exception = null;
+    try (Statement statement = connection.createStatement()) {
+      for (TableCapture tableCapture : tableCapturesMap.values()) {
+        TriggerCaptures.unregister(tableCapture.triggerName);
+        try {
+          statement.executeUpdate("DROP TRIGGER IF EXISTS " + tableCapture.triggerName);
+        } catch (SQLException e) {
+          exception = e;
+        }
+      }
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  /**
+   * Capture of the changes on a table.
+   */
+  static class TableCapture implements TriggerCaptures.Capture {
+
+    /**
+     * The qualified name of the trigger.
+     */
+    private final String triggerName;
+    /**
+     * The names of the columns (as in the database).
+     */
+    private final List<String> columnsNameList;
+    /**
+     * The names of the primary keys (as in the database).
+     */
+    private final List<String> pksNameList;
+    /**
+     * The indexes of the primary keys in the columns.
+     */
+    private final int[] pksIndex;
+    /**
+     * The options of the loading of the table (for the LOBs).
+     */
+    private final LoadOptions loadOptions;
+    /**
+     * The first image of each row touched (by primary keys values) : {@code null} if the row was absent.
+     */
+    private final Map<List<Object>, Object[]> imagesMap = new LinkedHashMap<>();
+    /**
+     * If the trigger is initialized.
+     */
+    private boolean initialized;
+
+    /**
+     * Constructor.
+     *
+     * @param triggerName The qualified name of the trigger.
+     * @param columnsNameList The names of the columns.
+     * @param pksNameList The names of the primary keys.
+     * @param loadOptions The options of the loading of the table.
+     */
+    private TableCapture(String triggerName, List<String> columnsNameList, List<String> pksNameList,
+                         LoadOptions loadOptions) {
+      this.triggerName = triggerName;
+      this.loadOptions = loadOptions;
+      this.columnsNameList = columnsNameList;
+      this.pksNameList = pksNameList;
+      pksIndex = new int[pksNameList.size()];
+      for (int index = 0; index < pksIndex.length; index++) {
+        pksIndex[index] = columnsNameList.indexOf(pksNameList.get(index));
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void setInitialized() {
+      initialized = true;
+    }
+
+    /**
+     * Returns if the trigger is initialized.
+     *
+     * @return {@code true} if the trigger is initialized, {@code false} otherwise.
+     */
+    synchronized boolean isInitialized() {
+      return initialized;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void capture(Object[] oldRow, Object[] newRow) throws SQLException {
+      if (oldRow != null) {
+        List<Object> key = getKey(oldRow);
+        if (!imagesMap.containsKey(key)) {
+          imagesMap.put(key, getImage(oldRow));
+        }
+      }
+      if (newRow != null) {
+        List<Object> key = getKey(newRow);
+        if (!imagesMap.containsKey(key)) {
+          imagesMap.put(key, null);
+        }
+      }
+    }
+
+    /**
+     * Returns the primary keys values of a row.
+     *
+     * @param row The row.
+     * @return The primary keys values.
+     */
+    private List<Object> getKey(Object[] row) {
+      Object[] key = new Object[pksIndex.length];
+      for (int index = 0; index < pksIndex.length; index++) {
+        key[index] = row[pksIndex[index]];
+      }
+      return Arrays.asList(key);
+    }
+
+    /**
+     * Returns the image of a row (with the LOBs read because they are not usable after the trigger).
+     * <p>
+     * The LOBs are read as digests if the table is loaded with the digests of the LOBs.
+     * </p>
+     *
+     * @param row The row.
+     * @return The image.
+     * @throws SQLException SQL Exception.
+     */
+    private Object[] getImage(Object[] row) throws SQLException {
+      Object[] image = row.clone();
+      for (int index = 0; index < image.length; index++) {
+        Object object = image[index];
+        if (loadOptions.isLobDigest() && (object instanceof Blob || object instanceof Clob)) {
+          image[index] = loadOptions.getLobDigest(object);
+        } else if (object instanceof Blob) {
+          Blob blob = (Blob) object;
+          image[index] = blob.getBytes(1, (int) blob.length());
+        } else if (object instanceof Clob) {
+          Clob clob = (Clob) object;
+          image[index] = clob.getSubString(1, (int) clob.length());
+        }
+      }
+      return image;
+    }
+
+    /**
+     * Sets the rows of the table at start point : the images of the rows which are present at start point.
+     *
+     * @param table The table at start point.
+     */
+    synchronized void setRowsAtStartPoint(Table table) {
+      List<String> names = new ArrayList<>();
+      for (String columnName : columnsNameList) {
+        names.add(table.getDialectOrDefault().getIdentifier(columnName));
+      }
+      List<Row> rowsList = new ArrayList<>();
+      for (Object[] image : imagesMap.values()) {
+        if (image != null) {
+          List<Value> valuesList = new ArrayList<>();
+          for (int index = 0; index < image.length; index++) {
+            valuesList.add(new Value(names.get(index), image[index]));
+          }
+          rowsList.add(new Row(null, names, valuesList));
+        }
+      }
+      table.setRowsList(names, pksNameList, rowsList);
+    }
+
+    /**
+     * Sets the table at end point : the table is filtered on the rows which are touched.
+     * <p>
+     * If no row is touched, the table is empty without reading the database.
+     * </p>
+     *
+     * @param table The table at end point.
+     * @param tableAtStartPoint The table at start point (with the rows already set).
+     */
+    synchronized void setRowsAtEndPoint(Table table, Table tableAtStartPoint) {
+      if (imagesMap.isEmpty()) {
+        table.setRowsList(tableAtStartPoint.getColumnsNameList(), pksNameList, new ArrayList<Row>());
+        return;
+      }
+      table.setFilterOnPksValues(pksNameList, imagesMap.keySet());
+    }
+  }
+}
@@ -59,6 +59,9 @@ public class Value implements DbElement {
     if (object instanceof byte[]) {
       return ValueType.BYTES;
     }
+    if (object instanceof LobDigest) {
+      return ((LobDigest) object).isText() ? ValueType.TEXT : ValueType.BYTES;
+    }
     if (object instanceof Boolean) {
       return ValueType.BOOLEAN;
     }
@@ -151,11 +154,11 @@ public class Value implements DbElement {
   public boolean isComparisonPossible(Object object) {
     switch (valueType) {
     case BYTES:
-      return (object instanceof byte[]);
+      return (object instanceof byte[] || object instanceof LobDigest || object instanceof BytesContent);
     case BOOLEAN:
       return (object instanceof Boolean);
     case TEXT:
-      return (object instanceof String);
+      return (object instanceof String || object instanceof LobDigest);
     case DATE:
     case DATE_TIME:
       return (object instanceof DateValue ||object instanceof DateTimeValue ||  object instanceof String);
@@ -68,6 +68,12 @@ public enum ValueType {
     if (expected instanceof byte[]) {
       return new ValueType[] { BYTES };
     }
+    if (expected instanceof BytesContent) {
+      return new ValueType[] { BYTES };
+    }
+    if (expected instanceof LobDigest) {
+      return new ValueType[] { ((LobDigest) expected).isText() ? TEXT : BYTES };
+    }
     if (expected instanceof Boolean) {
       return new ValueType[] { BOOLEAN };
     }
@@ -12,16 +12,36 @@
  */
 package org.assertj.db.util;
 
-import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.Dialect;
+
+import java.util.List;
 
 public class DialectHelper {
 
     public static final String ASSERTJ_DB_DIALECT_PROPERTY_NAME = "ASSERTJ_DB_DIALECT";
 
+    /**
+     * @deprecated Use {@link Dialect#getIdentifier(String)} on the dialect of the element (or on
+     * {@link Dialect#getDefault()}).
+     */
+    @Deprecated
     public static String getColumnName(String name) {
-        String assertj_db_dialect = System.getProperty(ASSERTJ_DB_DIALECT_PROPERTY_NAME);
-        if (name == null)
-            throw new AssertJDBException("ColumnName is mandatory");
-        return assertj_db_dialect == null || "H2".equals(assertj_db_dialect) ? name.toUpperCase() : name;
+        return Dialect.getDefault().getIdentifier(name);
+    }
+
+    /**
+     * Returns the name of a column as in a list of names normalized by a dialect : the name itself if it is in the list,
+     * the name normalized with the dialect otherwise.
+     *
+     * @param columnsNameList The list of the names of the columns.
+     * @param name The name of the column.
+     * @param dialect The dialect of the element of the columns ({@code null} for {@link Dialect#getDefault()}).
+     * @return The name in the list, or the name normalized with the dialect.
+     */
+    public static String getColumnName(List<String> columnsNameList, String name, Dialect dialect) {
+        if (columnsNameList.contains(name)) {
+            return name;
+        }
+        return (dialect == null ? Dialect.getDefault() : dialect).getIdentifier(name);
     }
 }
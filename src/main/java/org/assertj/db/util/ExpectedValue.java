@@ -0,0 +1,284 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.LobDigest;
+import org.assertj.db.type.TimeValue;
+import org.assertj.db.type.Value;
+import org.assertj.db.type.ValueType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.util.UUID;
+
+/**
+ * Expected value compiled to be compared to many values.
+ * <p>
+ * When the expected value is a {@code String}, it is converted only once into the type of the values (like a
+ * {@link DateTimeValue}, a {@link UUID} or a {@link BigDecimal}), at the first comparison with a value of this type.
+ * So an assertion comparing an expected value to all the values of a column parses it once. The other expected
+ * values are compared like with {@link Values#areEqual(Value, Object)}.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @since 1.1.0
+ */
+public final class ExpectedValue {
+
+  /**
+   * The expected value.
+   */
+  private final Object expected;
+  /**
+   * The expected {@code String} as a date/time (converted at the first comparison to a date or a date/time).
+   */
+  private DateTimeValue dateTimeValue;
+  /**
+   * The expected {@code String} as a time (converted at the first comparison to a time).
+   */
+  private TimeValue timeValue;
+  /**
+   * The expected {@code String} as a {@code UUID} (converted at the first comparison to a {@code UUID}).
+   */
+  private UUID uuid;
+  /**
+   * The expected {@code String} as a digest (computed at the first comparison to a digest).
+   */
+  private LobDigest lobDigest;
+  /**
+   * The expected {@code String} as a {@code Float} (converted at the first comparison to a {@code Float}).
+   */
+  private Float floatValue;
+  /**
+   * The expected {@code String} as a {@code Double} (converted at the first comparison to a {@code Double}).
+   */
+  private Double doubleValue;
+  /**
+   * The expected {@code String} as a {@code BigInteger} (converted at the first comparison to a {@code BigInteger}).
+   */
+  private BigInteger bigInteger;
+  /**
+   * The expected {@code String} as a {@code BigDecimal} (converted at the first comparison to a {@code BigDecimal}).
+   */
+  private BigDecimal bigDecimal;
+  /**
+   * The expected {@code String} as a {@code Long} (converted at the first comparison to an integer number).
+   */
+  private Long longValue;
+
+  /**
+   * Constructor.
+   *
+   * @param expected The expected value.
+   */
+  private ExpectedValue(Object expected) {
+    this.expected = expected;
+  }
+
+  /**
+   * Returns the compiled expected value.
+   *
+   * @param expected The expected value.
+   * @return The compiled expected value.
+   */
+  public static ExpectedValue of(Object expected) {
+    return new ExpectedValue(expected);
+  }
+
+  /**
+   * Returns the compiled expected values.
+   *
+   * @param expected The expected values.
+   * @return The compiled expected values.
+   */
+  public static ExpectedValue[] arrayOf(Object[] expected) {
+    ExpectedValue[] expectedValues = new ExpectedValue[expected.length];
+    for (int index = 0; index < expected.length; index++) {
+      expectedValues[index] = new ExpectedValue(expected[index]);
+    }
+    return expectedValues;
+  }
+
+  /**
+   * Returns the expected value.
+   *
+   * @return The expected value.
+   */
+  public Object getExpected() {
+    return expected;
+  }
+
+  /**
+   * Returns if the value is equal to the expected value.
+   *
+   * @param value The value.
+   * @return {@code true} if the value is equal to the expected value, {@code false} otherwise.
+   * @throws AssertJDBException If it is not possible to compare the value to the expected {@code String}.
+   * @see Values#areEqual(Value, Object)
+   * @see Values#areEqual(Value, String)
+   */
+  public boolean isEqualTo(Value value) {
+    if (expected instanceof String) {
+      ValueType valueType = value.getValueType();
+      if (valueType == ValueType.NUMBER || valueType == ValueType.TEXT || valueType == ValueType.UUID
+          || valueType == ValueType.DATE || valueType == ValueType.TIME || valueType == ValueType.DATE_TIME) {
+        return isEqualToText(value);
+      }
+    }
+    return Values.areEqual(value, expected);
+  }
+
+  /**
+   * Returns if the value is equal to the expected {@code String} (the expected value must be a {@code String}).
+   *
+   * @param value The value.
+   * @return {@code true} if the value is equal to the expected {@code String}, {@code false} otherwise.
+   * @throws AssertJDBException If it is not possible to compare the value to the expected {@code String}.
+   * @see Values#areEqual(Value, String)
+   */
+  boolean isEqualToText(Value value) {
+    String text = (String) expected;
+    Object object = value.getValue();
+    if (text == null) {
+      return object == null;
+    }
+
+    if (object instanceof Number) {
+      return isEqualToText((Number) object);
+    } else if (object instanceof Date) {
+      return DateTimeValue.of(DateValue.from((Date) object)).equals(getDateTimeValue(object));
+    } else if (object instanceof Time) {
+      return TimeValue.from((Time) object).equals(getTimeValue(object));
+    } else if (object instanceof Timestamp) {
+      return DateTimeValue.from((Timestamp) object).equals(getDateTimeValue(object));
+    } else if (object instanceof UUID) {
+      return getUUID(object).equals(object);
+    } else if (object instanceof LobDigest) {
+      if (lobDigest == null) {
+        lobDigest = LobDigest.of(text);
+      }
+      return lobDigest.equals(object);
+    }
+    return text.equals(object);
+  }
+
+  /**
+   * Returns if the number is equal to the expected {@code String}.
+   *
+   * @param number The number.
+   * @return {@code true} if the number is equal to the expected {@code String}, {@code false} otherwise.
+   * @throws AssertJDBException If it is not possible to compare the number to the expected {@code String}.
+   */
+  private boolean isEqualToText(Number number) {
+    String text = (String) expected;
+    try {
+      if (number instanceof Float) {
+        if (floatValue == null) {
+          floatValue = Float.parseFloat(text);
+        }
+        return number.floatValue() == floatValue;
+      } else if (number instanceof Double) {
+        if (doubleValue == null) {
+          doubleValue = Double.parseDouble(text);
+        }
+        return number.doubleValue() == doubleValue;
+      } else if (number instanceof BigInteger) {
+        if (bigInteger == null) {
+          bigInteger = new BigInteger(text);
+        }
+        return ((BigInteger) number).compareTo(bigInteger) == 0;
+      } else if (number instanceof BigDecimal) {
+        if (bigDecimal == null) {
+          bigDecimal = new BigDecimal(text);
+        }
+        return ((BigDecimal) number).compareTo(bigDecimal) == 0;
+      } else if (number instanceof Long || number instanceof Integer || number instanceof Short
+                 || number instanceof Byte) {
+        if (longValue == null) {
+          longValue = Long.parseLong(text);
+        }
+        return number.longValue() == longValue;
+      }
+    } catch (NumberFormatException e) {
+      throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", text, number);
+    }
+    return false;
+  }
+
+  /**
+   * Returns the expected {@code String} as a date/time.
+   *
+   * @param object The value to compare (for the message of the exception).
+   * @return The date/time.
+   * @throws AssertJDBException If the expected {@code String} is not a date/time.
+   */
+  private DateTimeValue getDateTimeValue(Object object) {
+    if (dateTimeValue == null) {
+      try {
+        dateTimeValue = DateTimeValue.parse((String) expected);
+      } catch (ParseException e) {
+        throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", expected, object);
+      }
+    }
+    return dateTimeValue;
+  }
+
+  /**
+   * Returns the expected {@code String} as a time.
+   *
+   * @param object The value to compare (for the message of the exception).
+   * @return The time.
+   * @throws AssertJDBException If the expected {@code String} is not a time.
+   */
+  private TimeValue getTimeValue(Object object) {
+    if (timeValue == null) {
+      try {
+        timeValue = TimeValue.parse((String) expected);
+      } catch (ParseException e) {
+        throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", expected, object);
+      }
+    }
+    return timeValue;
+  }
+
+  /**
+   * Returns the expected {@code String} as a {@code UUID}.
+   *
+   * @param object The value to compare (for the message of the exception).
+   * @return The {@code UUID}.
+   * @throws AssertJDBException If the expected {@code String} is not a {@code UUID}.
+   */
+  private UUID getUUID(Object object) {
+    if (uuid == null) {
+      try {
+        uuid = UUID.fromString((String) expected);
+      } catch (IllegalArgumentException e) {
+        throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", expected, object);
+      }
+    }
+    return uuid;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return String.valueOf(expected);
+  }
+}
@@ -17,10 +17,10 @@ import org.assertj.db.type.*;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.text.ParseException;
 import java.util.UUID;
 
 /**
@@ -63,11 +63,17 @@ public class Values {
     case BYTES:
       if (expected instanceof byte[]) {
         return areEqual(value, (byte[]) expected);
+      } else if (expected instanceof LobDigest) {
+        return areEqual(value, (LobDigest) expected);
+      } else if (expected instanceof BytesContent) {
+        return areEqual(value, (BytesContent) expected);
       }
       break;
     case TEXT:
       if (expected instanceof String) {
         return areEqual(value, (String) expected);
+      } else if (expected instanceof LobDigest) {
+        return areEqual(value, (LobDigest) expected);
       }
       break;
     case UUID:
@@ -151,14 +157,10 @@ public class Values {
     if (expected instanceof BigInteger) {
       BigInteger bi;
 
-      if (object instanceof BigInteger) {
-        bi = (BigInteger) object;
-      } else {
-        try {
-          bi = new BigInteger("" + object);
-        } catch (NumberFormatException e) {
-          throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, object);
-        }
+      try {
+        bi = getBigInteger(object);
+      } catch (NumberFormatException e) {
+        throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, object);
       }
 
       if (bi.compareTo((BigInteger) expected) == 0) {
@@ -170,14 +172,10 @@ public class Values {
     else if (expected instanceof BigDecimal) {
       BigDecimal bd;
 
-      if (object instanceof BigDecimal) {
-        bd = (BigDecimal) object;
-      } else {
-        try {
-          bd = new BigDecimal("" + object);
-        } catch (NumberFormatException e) {
-          throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, object);
-        }
+      try {
+        bd = getBigDecimal(object);
+      } catch (NumberFormatException e) {
+        throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, object);
       }
 
       if (bd.compareTo((BigDecimal) expected) == 0) {
@@ -188,10 +186,8 @@ public class Values {
     // If the value is Float, Double, BigInteger or BigDecimal
     // change the value to compare to make the comparison possible
     // else
-    // get the value value in Long to compare
+    // get the value value in long to compare
     else {
-      Long actualValue = null;
-
       if (object instanceof Float) {
         if (((Float) object) == expected.floatValue()) {
           return true;
@@ -201,26 +197,17 @@ public class Values {
           return true;
         }
       } else if (object instanceof BigInteger) {
-        BigInteger bi = new BigInteger("" + expected);
+        BigInteger bi = getBigInteger(expected);
         if (((BigInteger) object).compareTo(bi) == 0) {
           return true;
         }
       } else if (object instanceof BigDecimal) {
-        BigDecimal bd = new BigDecimal("" + expected);
+        BigDecimal bd = getBigDecimal(expected);
         if (((BigDecimal) object).compareTo(bd) == 0) {
           return true;
         }
-      } else if (object instanceof Byte) {
-        actualValue = ((Byte) object).longValue();
-      } else if (object instanceof Short) {
-        actualValue = ((Short) object).longValue();
-      } else if (object instanceof Integer) {
-        actualValue = ((Integer) object).longValue();
-      } else if (object instanceof Long) {
-        actualValue = (Long) object;
-      }
-
-      if (actualValue != null) {
+      } else if (isLong(object)) {
+        long actualValue = ((Number) object).longValue();
         if (expected instanceof Float) {
           if (actualValue == expected.floatValue()) {
             return true;
@@ -240,6 +227,60 @@ public class Values {
     return false;
   }
 
+  /**
+   * Returns if the number is an integer which is contained in a {@code long} without loss ({@code Byte},
+   * {@code Short}, {@code Integer} or {@code Long}).
+   *
+   * @param number The number.
+   * @return {@code true} if the number is contained in a {@code long}, {@code false} otherwise.
+   */
+  private static boolean isLong(Object number) {
+    return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+  }
+
+  /**
+   * Returns the {@code BigInteger} corresponding to the number.
+   * <p>
+   * The conversion of an integer contained in a {@code long} do not use its {@code String} representation.
+   * </p>
+   *
+   * @param number The number.
+   * @return The {@code BigInteger}.
+   * @throws NumberFormatException If the number can not be converted.
+   */
+  private static BigInteger getBigInteger(Object number) {
+    if (number instanceof BigInteger) {
+      return (BigInteger) number;
+    }
+    if (isLong(number)) {
+      return BigInteger.valueOf(((Number) number).longValue());
+    }
+    return new BigInteger("" + number);
+  }
+
+  /**
+   * Returns the {@code BigDecimal} corresponding to the number.
+   * <p>
+   * The conversion of an integer do not use its {@code String} representation.
+   * </p>
+   *
+   * @param number The number.
+   * @return The {@code BigDecimal}.
+   * @throws NumberFormatException If the number can not be converted.
+   */
+  private static BigDecimal getBigDecimal(Object number) {
+    if (number instanceof BigDecimal) {
+      return (BigDecimal) number;
+    }
+    if (isLong(number)) {
+      return BigDecimal.valueOf(((Number) number).longValue());
+    }
+    if (number instanceof BigInteger) {
+      return new BigDecimal((BigInteger) number);
+    }
+    return new BigDecimal("" + number);
+  }
+
   /**
    * Returns if the value is equal to the array of {@code byte} in parameter.
    *
@@ -264,119 +305,58 @@ public class Values {
         }
       }
       return true;
+    } else if (object instanceof LobDigest) {
+      return ((LobDigest) object).isDigestOf(expected);
     }
     return false;
   }
 
   /**
-   * Returns if the date is equal to the {@code String} representation in parameter.
+   * Returns if the value is equal to the digest of a LOB in parameter.
+   * <p>
+   * The value can be a digest, an array of bytes or a text.
+   * </p>
    *
-   * @param date     The date.
-   * @param expected The {@code String} representation to compare.
-   * @return {@code true} if the date is equal to the {@code String} representation parameter, {@code false} otherwise.
-   * @throws AssertJDBException If it is not possible to compare {@code date} to {@code expected}.
+   * @param value    The value.
+   * @param expected The digest to compare.
+   * @return {@code true} if the value is equal to the digest in parameter, {@code false} otherwise.
+   * @since 1.1.0
    */
-  private static boolean areEqual(Date date, String expected) {
-    try {
-      DateTimeValue dateTimeValue = DateTimeValue.of(DateValue.from(date));
-      DateTimeValue expectedDateTimeValue = DateTimeValue.parse(expected);
-      if (dateTimeValue.equals(expectedDateTimeValue)) {
-        return true;
-      }
-    } catch (ParseException e) {
-      throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", expected, date);
+  public static boolean areEqual(Value value, LobDigest expected) {
+    Object object = value.getValue();
+    if (expected == null) {
+      return object == null;
     }
-    return false;
-  }
 
-  /**
-   * Returns if the time is equal to the {@code String} representation in parameter.
-   *
-   * @param time     The time.
-   * @param expected The {@code String} representation to compare.
-   * @return {@code true} if the time is equal to the {@code String} representation parameter, {@code false} otherwise.
-   * @throws AssertJDBException If it is not possible to compare {@code time} to {@code expected}.
-   */
-  private static boolean areEqual(Time time, String expected) {
-    try {
-      TimeValue timeValue = TimeValue.from(time);
-      TimeValue expectedTimeValue = TimeValue.parse(expected);
-      if (timeValue.equals(expectedTimeValue)) {
-        return true;
-      }
-    } catch (ParseException e) {
-      throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", expected, time);
+    if (object instanceof byte[]) {
+      return expected.equals(LobDigest.of((byte[]) object));
+    } else if (object instanceof String) {
+      return expected.equals(LobDigest.of((String) object));
     }
-    return false;
+    return expected.equals(object);
   }
 
   /**
-   * Returns if the timestamp is equal to the {@code String} representation in parameter.
+   * Returns if the value is equal to the content of a file in parameter.
+   * <p>
+   * The value can be an array of bytes or a digest. The content of the file is compared part by part.
+   * </p>
    *
-   * @param timestamp The timestamp.
-   * @param expected  The {@code String} representation to compare.
-   * @return {@code true} if the timestamp is equal to the {@code String} representation parameter, {@code false}
-   * otherwise.
-   * @throws AssertJDBException If it is not possible to compare {@code timestamp} to {@code expected}.
+   * @param value    The value.
+   * @param expected The content to compare.
+   * @return {@code true} if the value is equal to the content in parameter, {@code false} otherwise.
+   * @since 1.1.0
    */
-  private static boolean areEqual(Timestamp timestamp, String expected) {
-    try {
-      DateTimeValue dateTimeValue = DateTimeValue.from(timestamp);
-      DateTimeValue expectedDateTimeValue = DateTimeValue.parse(expected);
-      if (dateTimeValue.equals(expectedDateTimeValue)) {
-        return true;
-      }
-    } catch (ParseException e) {
-      throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", expected, timestamp);
+  public static boolean areEqual(Value value, BytesContent expected) {
+    Object object = value.getValue();
+    if (expected == null) {
+      return object == null;
     }
-    return false;
-  }
 
-  /**
-   * Returns if the number is equal to the {@code String} representation in parameter.
-   *
-   * @param number   The number.
-   * @param expected The {@code String} representation to compare.
-   * @return {@code true} if the number is equal to the {@code String} representation parameter, {@code false}
-   * otherwise.
-   * @throws NullPointerException if {@code expected} is {@code null}.
-   * @throws AssertJDBException   If it is not possible to compare {@code number} to {@code expected}.
-   */
-  private static boolean areEqual(Number number, String expected) {
-    try {
-      if (number instanceof Float) {
-        if (number.floatValue() == Float.parseFloat(expected)) {
-          return true;
-        }
-      } else if (number instanceof Double) {
-        if (number.doubleValue() == Double.parseDouble(expected)) {
-          return true;
-        }
-      } else if (number instanceof BigInteger) {
-        BigInteger bi = new BigInteger("" + expected);
-        if (((BigInteger) number).compareTo(bi) == 0) {
-          return true;
-        }
-      } else if (number instanceof BigDecimal) {
-        BigDecimal bd = new BigDecimal("" + expected);
-        if (((BigDecimal) number).compareTo(bd) == 0) {
-          return true;
-        }
-      } else {
-        Long actual = null;
-
-        if (number instanceof Byte || number instanceof Short || number instanceof Integer) {
-          actual = number.longValue();
-        } else if (number instanceof Long) {
-          actual = (Long) number;
-        }
-
-        if (actual != null && actual == Long.parseLong(expected)) {
-          return true;
-        }
-      }
-    } catch (NumberFormatException e) {
-      throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", expected, number);
+    if (object instanceof byte[]) {
+      return expected.isContentOf((byte[]) object);
+    } else if (object instanceof LobDigest) {
+      return expected.isContentOf((LobDigest) object);
     }
     return false;
   }
@@ -392,23 +372,7 @@ public class Values {
    *                              {@code expected}.
    */
   public static boolean areEqual(Value value, String expected) {
-    Object object = value.getValue();
-    if (expected == null) {
-      return object == null;
-    }
-
-    if (object instanceof Number) {
-      return areEqual((Number) object, expected);
-    } else if (object instanceof Date) {
-      return areEqual((Date) object, expected);
-    } else if (object instanceof Time) {
-      return areEqual((Time) object, expected);
-    } else if (object instanceof Timestamp) {
-      return areEqual((Timestamp) object, expected);
-    } else if (object instanceof UUID) {
-      return areEqual((UUID) object, expected);
-    }
-    return expected.equals(object);
+    return ExpectedValue.of(expected).isEqualToText(value);
   }
 
   /**
@@ -535,14 +499,10 @@ public class Values {
     if (expected instanceof BigInteger) {
       BigInteger bi;
 
-      if (object instanceof BigInteger) {
-        bi = (BigInteger) object;
-      } else {
-        try {
-          bi = new BigInteger("" + object);
-        } catch (NumberFormatException e) {
-          throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, object);
-        }
+      try {
+        bi = getBigInteger(object);
+      } catch (NumberFormatException e) {
+        throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, object);
       }
 
       return bi.compareTo((BigInteger) expected);
@@ -552,14 +512,10 @@ public class Values {
     else if (expected instanceof BigDecimal) {
       BigDecimal bd;
 
-      if (object instanceof BigDecimal) {
-        bd = (BigDecimal) object;
-      } else {
-        try {
-          bd = new BigDecimal("" + object);
-        } catch (NumberFormatException e) {
-          throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, object);
-        }
+      try {
+        bd = getBigDecimal(object);
+      } catch (NumberFormatException e) {
+        throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, object);
       }
 
       return bd.compareTo((BigDecimal) expected);
@@ -568,10 +524,8 @@ public class Values {
     // If the value is Float, Double, BigInteger or BigDecimal
     // change the value to compare to make the comparison possible
     // else
-    // get the value value in Long to compare
+    // get the value value in long to compare
     else {
-      Long actualValue = null;
-
       if (object instanceof Float) {
         float f = (Float) object;
         float expectedF = expected.floatValue();
@@ -593,22 +547,13 @@ public class Values {
           return 0;
         }
       } else if (object instanceof BigInteger) {
-        BigInteger bi = new BigInteger("" + expected);
+        BigInteger bi = getBigInteger(expected);
         return ((BigInteger) object).compareTo(bi);
       } else if (object instanceof BigDecimal) {
-        BigDecimal bd = new BigDecimal("" + expected);
+        BigDecimal bd = getBigDecimal(expected);
         return ((BigDecimal) object).compareTo(bd);
-      } else if (object instanceof Byte) {
-        actualValue = ((Byte) object).longValue();
-      } else if (object instanceof Short) {
-        actualValue = ((Short) object).longValue();
-      } else if (object instanceof Integer) {
-        actualValue = ((Integer) object).longValue();
-      } else if (object instanceof Long) {
-        actualValue = (Long) object;
-      }
-
-      if (actualValue != null) {
+      } else if (isLong(object)) {
+        long actualValue = ((Number) object).longValue();
         if (expected instanceof Float) {
           float expectedF = expected.floatValue();
           if (actualValue > expectedF) {
@@ -628,7 +573,7 @@ public class Values {
             return 0;
           }
         } else {
-          double expectedL = expected.longValue();
+          long expectedL = expected.longValue();
           if (actualValue > expectedL) {
             return 1;
           } else if (actualValue < expectedL) {
@@ -643,6 +588,58 @@ public class Values {
     throw new AssertJDBException("Expected <%s> can not be compared to a Number (<%s>)", expected, object);
   }
 
+  /**
+   * Returns a normalized object from the value, usable as a key in a hash based structure.
+   * <p>
+   * Two values which are equal by {@link #areEqual(Value, Object)} have equal normalized objects : for example a
+   * {@code Long} with {@code 1} and a {@code BigDecimal} with {@code 1.00} are both normalized to the same
+   * {@code BigDecimal}.
+   * </p>
+   *
+   * @param value The value.
+   * @return The normalized object (can be {@code null}).
+   */
+  public static Object getNormalizedObject(Value value) {
+    Object object = value.getValue();
+    if (object == null) {
+      return null;
+    }
+    switch (value.getValueType()) {
+    case NUMBER:
+      BigDecimal bd;
+      if (object instanceof BigDecimal) {
+        bd = (BigDecimal) object;
+      } else if (object instanceof BigInteger) {
+        bd = new BigDecimal((BigInteger) object);
+      } else if (object instanceof Float || object instanceof Double) {
+        double d = ((Number) object).doubleValue();
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+          return d;
+        }
+        bd = new BigDecimal(object.toString());
+      } else {
+        bd = BigDecimal.valueOf(((Number) object).longValue());
+      }
+      if (bd.signum() == 0) {
+        return BigDecimal.ZERO;
+      }
+      return bd.stripTrailingZeros();
+    case BYTES:
+      if (object instanceof LobDigest) {
+        return object;
+      }
+      return ByteBuffer.wrap((byte[]) object);
+    case DATE:
+      return DateTimeValue.of(DateValue.from((Date) object));
+    case TIME:
+      return TimeValue.from((Time) object);
+    case DATE_TIME:
+      return DateTimeValue.from((Timestamp) object);
+    default:
+      return object;
+    }
+  }
+
   /**
    * Returns a representation of the values (this representation is used for error message).
    *
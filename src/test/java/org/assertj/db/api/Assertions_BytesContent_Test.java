@@ -100,6 +100,11 @@ public class Assertions_BytesContent_Test {
         throw new IOException();
       }
 
+      @Override
+      public synchronized int read(byte[] b, int off, int len) throws IOException {
+        throw new IOException();
+      }
+
       @Override
       public void close() throws IOException {
         throw new IOException();
@@ -130,6 +135,11 @@ public class Assertions_BytesContent_Test {
       public synchronized int read() throws IOException {
         throw new IOException();
       }
+
+      @Override
+      public synchronized int read(byte[] b, int off, int len) throws IOException {
+        throw new IOException();
+      }
     };
     
     Class<?> assertionClass = Assertions.class;
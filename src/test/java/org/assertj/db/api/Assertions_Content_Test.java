@@ -0,0 +1,84 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.BytesContent;
+import org.assertj.db.type.LobDigest;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.db.api.Assertions.bytesContentFromClassPathOf;
+import static org.assertj.db.api.Assertions.contentFromClassPathOf;
+import static org.assertj.db.api.Assertions.contentOf;
+
+/**
+ * Tests on {@code contentOf} and {@code contentFromClassPathOf} methods of {@code Assertions}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Assertions_Content_Test {
+
+  /**
+   * This method should throw a {@code NullPointerException}, because of call to {@code contentOf} with
+   * {@code null} in parameter.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_throw_NullPointerException_if_call_of_contentOf_with_null_in_parameter() {
+    contentOf(null);
+  }
+
+  /**
+   * This method should throw an {@code AssertJDBException}, because of call to {@code contentFromClassPathOf}
+   * with a resource which don't exist in parameter.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_throw_AssertJDBException_if_call_of_contentFromClassPathOf_with_resource_which_dont_exist_in_parameter() {
+    contentFromClassPathOf("notexist");
+  }
+
+  /**
+   * This method tests the comparison of the content of a file.
+   */
+  @Test
+  public void test_contentOf() {
+    BytesContent content = contentOf(new File("target/test-classes/h2-logo-2.png"));
+    byte[] bytes = bytesContentFromClassPathOf("h2-logo-2.png");
+    assertThat(content.getLength()).isEqualTo(bytes.length);
+    assertThat(content.isContentOf(bytes)).isTrue();
+    assertThat(content.isContentOf(LobDigest.of(bytes))).isTrue();
+
+    bytes[bytes.length - 1]++;
+    assertThat(content.isContentOf(bytes)).isFalse();
+    assertThat(content.isContentOf(LobDigest.of(bytes))).isFalse();
+    assertThat(content.isContentOf(new byte[0])).isFalse();
+    assertThat(content.isContentOf((byte[]) null)).isFalse();
+  }
+
+  /**
+   * This method tests the comparison of the content of a file in the classpath.
+   */
+  @Test
+  public void test_contentFromClassPathOf() {
+    BytesContent content = contentFromClassPathOf("test.txt");
+    byte[] bytes = new byte[] { 'T', 'e', 'x', 't', ' ', 'f', 'o', 'r', ' ', 't', 'e', 's', 't', 's' };
+    assertThat(content.getLength()).isEqualTo(14);
+    assertThat(content.isContentOf(bytes)).isTrue();
+    assertThat(content.isContentOf(LobDigest.of(bytes))).isTrue();
+    assertThat(content.isContentOf(LobDigest.of("Text for tests"))).isFalse();
+    assertThat(content.isContentOf(new byte[] { 'T', 'e', 'x', 't' })).isFalse();
+  }
+}
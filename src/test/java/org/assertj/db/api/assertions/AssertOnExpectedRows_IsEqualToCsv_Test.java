@@ -0,0 +1,107 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link org.assertj.db.api.assertions.AssertOnExpectedRows} class :
+ * {@link org.assertj.db.api.assertions.AssertOnExpectedRows#isEqualToCsv(java.io.File)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnExpectedRows_IsEqualToCsv_Test extends AbstractTest {
+
+  /**
+   * Returns a new CSV file.
+   *
+   * @param content The content of the file.
+   * @return The file.
+   * @throws IOException I/O Exception.
+   */
+  private static File createCsvFile(String content) throws IOException {
+    File file = File.createTempFile("assertj-db", ".csv");
+    file.deleteOnExit();
+    try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8")) {
+      writer.write(content);
+    }
+    return file;
+  }
+
+  /**
+   * This method tests the {@code isEqualToCsv} assertion method.
+   */
+  @Test
+  public void test_is_equal_to_csv() throws IOException {
+    File file = createCsvFile("ID,TITLE,YEAR,MOVIE_IMDB\n"
+                              + "1,Alien,1979,30B443AE-C0C9-4790-9BEC-CE1380808435\n"
+                              + "2,\"The Village\",2004,16319617-AE95-4087-9264-D3D21BF611B6\r\n"
+                              + "3,Avatar,2009.0,D735221B-5DE5-4112-AA1E-49090CB75ADA\n");
+
+    TableAssert tableAssert = assertThat(new Table(source, "movie"));
+    TableAssert tableAssert2 = tableAssert.isEqualToCsv(file);
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+  }
+
+  /**
+   * This method tests the {@code isEqualToCsv} assertion method when the rows are not in the order of the primary keys.
+   */
+  @Test
+  public void test_is_equal_to_csv_with_rows_not_in_order() throws IOException {
+    File file = createCsvFile("title,id,year,movie_imdb\n"
+                              + "Avatar,3,2009,D735221B-5DE5-4112-AA1E-49090CB75ADA\n"
+                              + "Alien,1,1979,30B443AE-C0C9-4790-9BEC-CE1380808435\n"
+                              + "The Village,2,2004,16319617-AE95-4087-9264-D3D21BF611B6\n");
+
+    assertThat(new Table(source, "movie")).isEqualToCsv(file);
+    assertThat(new Request(source, "select * from movie")).isEqualToCsv(file);
+  }
+
+  /**
+   * This method should fail because a row is missing.
+   */
+  @Test
+  public void should_fail_because_row_is_missing() throws IOException {
+    File file = createCsvFile("ID,TITLE,YEAR,MOVIE_IMDB\n"
+                              + "1,Alien,1979,30B443AE-C0C9-4790-9BEC-CE1380808435\n"
+                              + "2,The Village,2004,16319617-AE95-4087-9264-D3D21BF611B6\n"
+                              + "3,Avatar,2009,D735221B-5DE5-4112-AA1E-49090CB75ADA\n"
+                              + "4,Ghostbusters,1984,\n");
+
+    try {
+      assertThat(new Table(source, "movie")).isEqualToCsv(file);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[movie table] %n"
+                                                      + "Expecting the rows to be equal to the rows of :%n"
+                                                      + "   <" + file + ">%n"
+                                                      + "but there are 1 differences :%n"
+                                                      + "   missing row with primary keys [4] [4, Ghostbusters, 1984, null]"));
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.RequestAssert;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.type.Request;
+import org.assertj.db.type.SnapshotFile;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link org.assertj.db.api.assertions.AssertOnExpectedRows} class :
+ * {@link org.assertj.db.api.assertions.AssertOnExpectedRows#isEqualToSnapshot(java.io.File)} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AssertOnExpectedRows_IsEqualToSnapshot_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code isEqualToSnapshot} assertion method.
+   */
+  @Test
+  public void test_is_equal_to_snapshot() throws IOException {
+    File file = File.createTempFile("assertj-db", ".snapshot");
+    file.deleteOnExit();
+    SnapshotFile.write(file, new Table(source, "movie"));
+
+    TableAssert tableAssert = assertThat(new Table(source, "movie"));
+    TableAssert tableAssert2 = tableAssert.isEqualToSnapshot(file);
+    Assertions.assertThat(tableAssert).isSameAs(tableAssert2);
+
+    Request request = new Request(source, "select * from movie order by year desc");
+    RequestAssert requestAssert = assertThat(request);
+    RequestAssert requestAssert2 = requestAssert.isEqualToSnapshot(file);
+    Assertions.assertThat(requestAssert).isSameAs(requestAssert2);
+  }
+
+  /**
+   * This method should fail because the rows are different.
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_rows_are_different() throws IOException {
+    File file = File.createTempFile("assertj-db", ".snapshot");
+    file.deleteOnExit();
+    SnapshotFile.write(file, new Table(source, "movie"));
+    update("update movie set title = 'The Avatar' where id = 3");
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+
+    try {
+      assertThat(new Table(source, "movie")).isEqualToSnapshot(file);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[movie table] %n"
+                                                      + "Expecting the rows to be equal to the rows of :%n"
+                                                      + "   <" + file + ">%n"
+                                                      + "but there are 2 differences :%n"
+                                                      + "   different row with primary keys [3] [3, The Avatar, 2009, d735221b-5de5-4112-aa1e-49090cb75ada] instead of with primary keys [3] [3, Avatar, 2009, d735221b-5de5-4112-aa1e-49090cb75ada]%n"
+                                                      + "   unexpected row with primary keys [4] [4, Ghostbusters, 1984, 30b443ae-c0c9-4790-9bec-ce1380808435]"));
+    }
+  }
+}
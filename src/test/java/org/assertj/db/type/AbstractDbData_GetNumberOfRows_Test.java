@@ -0,0 +1,70 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the number of rows of a {@code Table} or a {@code Request}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class AbstractDbData_GetNumberOfRows_Test extends AbstractTest {
+
+  /**
+   * This method tests that the rows of a table are counted by the database as long as they are not loaded.
+   */
+  @Test
+  @NeedReload
+  public void test_number_of_rows_of_table() {
+    Table table = new Table(source, "movie");
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    assertThat(table.getNumberOfRows()).isEqualTo(4);
+
+    assertThat(table.getRowsList()).hasSize(4);
+    update("delete from movie where id = 4");
+    assertThat(table.getNumberOfRows()).isEqualTo(4);
+  }
+
+  /**
+   * This method tests that the rows of a request with parameters are counted by the database.
+   */
+  @Test
+  @NeedReload
+  public void test_number_of_rows_of_request() {
+    Request request = new Request(source, "select * from movie where year > ?", 2000);
+    assertThat(request.getNumberOfRows()).isEqualTo(2);
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    update("insert into movie values(5, 'Interstellar', 2014, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    assertThat(request.getNumberOfRows()).isEqualTo(3);
+
+    assertThat(request.getRowsList()).hasSize(3);
+    update("delete from movie where id = 5");
+    assertThat(request.getNumberOfRows()).isEqualTo(3);
+  }
+
+  /**
+   * This method should fail because the table does not exist.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_table_does_not_exist() {
+    new Table(source, "not_exist").getNumberOfRows();
+  }
+}
@@ -0,0 +1,120 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.DefaultDataSource;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the consistent snapshots of {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_ConsistentSnapshot_Test extends AbstractTest {
+
+  /**
+   * Data source which keeps the connections.
+   */
+  private class KeepingDataSource extends DefaultDataSource {
+
+    private final List<Connection> connectionsList = new ArrayList<>();
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      Connection connection = dataSource.getConnection();
+      connectionsList.add(connection);
+      return connection;
+    }
+  }
+
+  /**
+   * This method tests the default value and the setter.
+   */
+  @Test
+  public void test_consistent_snapshot() {
+    Changes changes = new Changes(source);
+    assertThat(changes.isConsistentSnapshot()).isFalse();
+    assertThat(changes.setConsistentSnapshot(true)).isSameAs(changes);
+    assertThat(changes.isConsistentSnapshot()).isTrue();
+  }
+
+  /**
+   * This method tests that only one connection is used for each point and that it is restored and closed.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_consistent_snapshot() throws SQLException {
+    KeepingDataSource keepingDataSource = new KeepingDataSource();
+    Changes changes = new Changes(keepingDataSource).setConsistentSnapshot(true).setParallelism(4);
+    changes.setStartPointNow();
+    assertThat(keepingDataSource.connectionsList).hasSize(1);
+    updateChangesForTests();
+    changes.setEndPointNow();
+    assertThat(keepingDataSource.connectionsList).hasSize(2);
+
+    for (Connection connection : keepingDataSource.connectionsList) {
+      assertThat(connection.isClosed()).isTrue();
+    }
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+  }
+
+  /**
+   * This method tests that the connection is only shared during the snapshot.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_consistent_snapshot_and_streamed_end_point() throws SQLException {
+    KeepingDataSource keepingDataSource = new KeepingDataSource();
+    Changes changes = new Changes(keepingDataSource).setConsistentSnapshot(true).setStreamedEndPoint(true);
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+    assertThat(keepingDataSource.connectionsList).hasSize(2);
+    assertThat(changes.getChangesList()).hasSize(8);
+
+    // The tables at end point with primary keys are not loaded : they get their own connection
+    assertThat(changes.getTablesAtEndPointList().get(0).getRowsList()).isNotNull();
+    assertThat(keepingDataSource.connectionsList).hasSize(3);
+  }
+
+  /**
+   * This method tests the consistent snapshot on a request.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_request_with_consistent_snapshot() {
+    KeepingDataSource keepingDataSource = new KeepingDataSource();
+    Changes changes = new Changes(new Request(keepingDataSource, "select * from movie")).setConsistentSnapshot(true);
+    // The request is loaded once to duplicate it
+    assertThat(keepingDataSource.connectionsList).hasSize(1);
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+    assertThat(keepingDataSource.connectionsList).hasSize(3);
+    // Without primary key, the modification is a deletion and a creation
+    assertThat(changes.getChangesList()).hasSize(3);
+  }
+}
@@ -0,0 +1,87 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the comparison of the fingerprints of the tables by {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_FingerprintCheck_Test extends AbstractTest {
+
+  /**
+   * This method tests the default value and the setter.
+   */
+  @Test
+  public void test_fingerprint_check() {
+    Changes changes = new Changes(source);
+    assertThat(changes.isFingerprintCheck()).isFalse();
+    assertThat(changes.setFingerprintCheck(true)).isSameAs(changes);
+    assertThat(changes.isFingerprintCheck()).isTrue();
+  }
+
+  /**
+   * This method tests the fingerprint of a table.
+   */
+  @Test
+  @NeedReload
+  public void test_fingerprint_of_table() {
+    String fingerprint = new Table(source, "movie").getFingerprint();
+    assertThat(fingerprint).startsWith("3:");
+    assertThat(fingerprint.split(":")).hasSize(3);
+    assertThat(new Table(source, "movie").getFingerprint()).isEqualTo(fingerprint);
+    assertThat(new Table(source, "movie").setFilter("id < 3").getFingerprint()).startsWith("2:");
+    assertThat(new Table(source, "movie").setMaxRows(2).getFingerprint()).isNull();
+
+    update("update movie set title = 'The Avatar' where id = 3");
+    assertThat(new Table(source, "movie").getFingerprint()).isNotEqualTo(fingerprint).startsWith("3:");
+    update("update movie set title = 'Avatar' where id = 3");
+    assertThat(new Table(source, "movie").getFingerprint()).isEqualTo(fingerprint);
+  }
+
+  /**
+   * This method tests that the tables which did not change are not loaded at end point.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_fingerprint_check() {
+    Changes changes = new Changes(source).setFingerprintCheck(true);
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    List<Table> tablesAtStartPointList = changes.getTablesAtStartPointList();
+    List<Table> tablesAtEndPointList = changes.getTablesAtEndPointList();
+    for (int index = 0; index < tablesAtStartPointList.size(); index++) {
+      String name = tablesAtStartPointList.get(index).getName().toUpperCase();
+      if (name.startsWith("TEST")) {
+        assertThat(tablesAtEndPointList.get(index)).isSameAs(tablesAtStartPointList.get(index));
+      } else {
+        assertThat(tablesAtEndPointList.get(index)).isNotSameAs(tablesAtStartPointList.get(index));
+      }
+    }
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+  }
+}
@@ -0,0 +1,162 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regression tests on the list of changes for data without primary key : the result must be the same as the one of the
+ * previous algorithm (which browsed all the rows for each row).
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_GetChangesListWithoutPks_Regression_Test extends AbstractTest {
+
+  /**
+   * Inserts rows with duplicates in the table without primary key.
+   *
+   * @param random The random generator.
+   * @param size The number of rows.
+   */
+  private void insertRows(Random random, int size) {
+    for (int i = 0; i < size; i++) {
+      int id = random.nextInt(size / 2);
+      update("insert into test2(var1, var12, var13) values(?, ?, ?)", id, "name " + (id % 10),
+             id % 3 == 0 ? null : id % 7);
+    }
+  }
+
+  /**
+   * Returns the rows which are not found in the other list (like the previous algorithm).
+   *
+   * @param rowsList The rows to find.
+   * @param otherRowsList The rows in which the rows are searched.
+   * @return The rows which are not found.
+   */
+  private static List<Row> getRowsNotFound(List<Row> rowsList, List<Row> otherRowsList) {
+    List<Row> rowsNotFoundList = new ArrayList<>();
+    List<Row> remainingRowsList = new ArrayList<>(otherRowsList);
+    for (Row row : rowsList) {
+      int index = -1;
+      int index1 = 0;
+      for (Row otherRow : remainingRowsList) {
+        if (row.hasValues(otherRow)) {
+          index = index1;
+          break;
+        }
+        index1++;
+      }
+      if (index == -1) {
+        rowsNotFoundList.add(row);
+      } else {
+        remainingRowsList.remove(index);
+      }
+    }
+    return rowsNotFoundList;
+  }
+
+  /**
+   * This method tests that the changes are the same as the previous algorithm.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_are_the_same_as_the_previous_algorithm() {
+    Random random = new Random(42);
+    insertRows(random, 500);
+    Changes changes = new Changes(new Table(source, "test2"));
+    changes.setStartPointNow();
+    update("delete from test2 where var1 < 50");
+    insertRows(random, 500);
+    changes.setEndPointNow();
+
+    List<Row> rowsAtStartPointList = changes.getTablesAtStartPointList().get(0).getRowsList();
+    List<Row> rowsAtEndPointList = changes.getTablesAtEndPointList().get(0).getRowsList();
+    List<Row> createdRowsList = getRowsNotFound(rowsAtEndPointList, rowsAtStartPointList);
+    List<Row> deletedRowsList = getRowsNotFound(rowsAtStartPointList, rowsAtEndPointList);
+
+    List<Row> actualCreatedRowsList = new ArrayList<>();
+    List<Row> actualDeletedRowsList = new ArrayList<>();
+    for (Change change : changes.getChangesList()) {
+      if (change.getChangeType() == ChangeType.CREATION) {
+        actualCreatedRowsList.add(change.getRowAtEndPoint());
+      } else {
+        assertThat(change.getChangeType()).isEqualTo(ChangeType.DELETION);
+        actualDeletedRowsList.add(change.getRowAtStartPoint());
+      }
+    }
+    assertThat(createdRowsList).isNotEmpty();
+    assertThat(deletedRowsList).isNotEmpty();
+    assertThat(actualCreatedRowsList).containsExactly(createdRowsList.toArray(new Row[createdRowsList.size()]));
+    assertThat(actualDeletedRowsList).containsExactly(deletedRowsList.toArray(new Row[deletedRowsList.size()]));
+  }
+
+  /**
+   * This method tests the changes when only the number of duplicate rows changes.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_when_only_the_number_of_duplicates_changes() {
+    update("insert into test2(var1, var12) values(100, 'three')");
+    update("insert into test2(var1, var12) values(100, 'three')");
+    update("insert into test2(var1, var12) values(100, 'three')");
+    update("insert into test2(var1, var12) values(200, 'two')");
+    update("insert into test2(var1, var12) values(200, 'two')");
+    Changes changes = new Changes(new Table(source, "test2"));
+    changes.setStartPointNow();
+    update("delete from test2 where var1 = 100 limit 1");
+    update("insert into test2(var1, var12) values(200, 'two')");
+    changes.setEndPointNow();
+
+    List<Change> changesList = changes.getChangesList();
+    assertThat(changesList).hasSize(2);
+    assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changesList.get(0).getRowAtEndPoint().getColumnValue("VAR1").getValue()).isEqualTo(200);
+    assertThat(changesList.get(1).getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(changesList.get(1).getRowAtStartPoint().getColumnValue("VAR1").getValue()).isEqualTo(100);
+  }
+
+  /**
+   * This method tests that the changes of a large table without primary key are computed in a linear time : the
+   * previous algorithm (which browsed all the rows for each row) needs several minutes with these rows which differ
+   * only by their last columns.
+   */
+  @Test(timeout = 60000)
+  @NeedReload
+  public void test_changes_of_a_large_table_are_computed_in_linear_time() {
+    update("insert into test2(var1, var12, var13) select 1, 'name', x from system_range(1, 50000)");
+    Changes changes = new Changes(new Table(source, "test2"));
+    changes.setStartPointNow();
+    update("delete from test2 where mod(var13, 2) = 0");
+    update("insert into test2(var1, var12, var13) select 1, 'name', x from system_range(50001, 60000)");
+    changes.setEndPointNow();
+
+    List<Change> changesList = changes.getChangesList();
+    assertThat(changesList).hasSize(35000);
+    int creations = 0;
+    for (Change change : changesList) {
+      if (change.getChangeType() == ChangeType.CREATION) {
+        creations++;
+      }
+    }
+    assertThat(creations).isEqualTo(10000);
+  }
+}
@@ -0,0 +1,94 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the comparison of the hashes of the rows at end point by {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_HashedEndPoint_Test extends AbstractTest {
+
+  /**
+   * This method tests the default value and the setter.
+   */
+  @Test
+  public void test_hashed_end_point() {
+    Changes changes = new Changes(source);
+    assertThat(changes.isHashedEndPoint()).isFalse();
+    assertThat(changes.setHashedEndPoint(true)).isSameAs(changes);
+    assertThat(changes.isHashedEndPoint()).isTrue();
+  }
+
+  /**
+   * This method tests the hashes of the rows of a table.
+   */
+  @Test
+  @NeedReload
+  public void test_rows_hashes_of_table() {
+    Map<List<Object>, String> rowsHashesMap = new Table(source, "movie").getRowsHashesMap();
+    assertThat(rowsHashesMap).hasSize(3);
+    assertThat(new Table(source, "movie", new String[] { "id", "title" }, null).getRowsHashesMap()).isNull();
+
+    update("update movie set title = 'The Avatar' where id = 3");
+    Map<List<Object>, String> rowsHashesMapAfterUpdate = new Table(source, "movie").getRowsHashesMap();
+    List<Object> key1 = rowsHashesMap.keySet().iterator().next();
+    assertThat(rowsHashesMapAfterUpdate.get(key1)).isEqualTo(rowsHashesMap.get(key1));
+    assertThat(rowsHashesMapAfterUpdate).isNotEqualTo(rowsHashesMap);
+  }
+
+  /**
+   * This method tests that only the rows which changed are read at end point.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_hashed_end_point() {
+    Changes changes = new Changes(new Table(source, "movie"), new Table(source, "actor"),
+                                  new Table(source, "interpretation")).setHashedEndPoint(true);
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getTablesAtStartPointList().get(0).getRowsList()).hasSize(3);
+    assertThat(changes.getTablesAtEndPointList().get(0).getRowsList()).hasSize(2);
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+  }
+
+  /**
+   * This method tests that the changes are the same when the end point is hashed and streamed.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_hashed_and_streamed_end_point() {
+    Changes changes = new Changes(source).setHashedEndPoint(true).setStreamedEndPoint(true);
+    changes.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfTable("movie").getChangesList()).hasSize(2);
+  }
+}
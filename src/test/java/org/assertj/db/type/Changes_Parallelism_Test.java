@@ -0,0 +1,79 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the loading of the tables in parallel by {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_Parallelism_Test extends AbstractTest {
+
+  /**
+   * This method tests the default value and the setter.
+   */
+  @Test
+  public void test_parallelism() {
+    Changes changes = new Changes(source);
+    assertThat(changes.getParallelism()).isEqualTo(1);
+    assertThat(changes.setParallelism(4)).isSameAs(changes);
+    assertThat(changes.getParallelism()).isEqualTo(4);
+  }
+
+  /**
+   * This method should fail because the parallelism must be greater than 0.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_parallelism_is_less_than_one() {
+    new Changes(source).setParallelism(0);
+  }
+
+  /**
+   * This method tests that the tables are in the same order and that the changes are the same when the tables are
+   * loaded in parallel.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_parallelism() {
+    Changes changes = new Changes(source).setParallelism(3);
+    Changes changesSequential = new Changes(dataSource);
+    changes.setStartPointNow();
+    changesSequential.setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+    changesSequential.setEndPointNow();
+
+    List<Table> tablesList = changes.getTablesAtStartPointList();
+    List<Table> tablesSequentialList = changesSequential.getTablesAtStartPointList();
+    assertThat(tablesList).hasSameSizeAs(tablesSequentialList);
+    for (int index = 0; index < tablesList.size(); index++) {
+      assertThat(tablesList.get(index).getName()).isEqualTo(tablesSequentialList.get(index).getName());
+      assertThat(changes.getTablesAtEndPointList().get(index).getName())
+              .isEqualTo(tablesSequentialList.get(index).getName());
+      assertThat(tablesList.get(index).getRowsList()).hasSameSizeAs(tablesSequentialList.get(index).getRowsList());
+    }
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+  }
+}
@@ -0,0 +1,96 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the changes when the end point is streamed.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_StreamedEndPoint_Test extends AbstractTest {
+
+  /**
+   * This method tests the default value and the setter.
+   */
+  @Test
+  public void test_streamed_end_point() {
+    Changes changes = new Changes(source);
+    assertThat(changes.isStreamedEndPoint()).isFalse();
+    assertThat(changes.setStreamedEndPoint(true)).isSameAs(changes);
+    assertThat(changes.isStreamedEndPoint()).isTrue();
+  }
+
+  /**
+   * This method tests that the changes are the same as when the end point is not streamed.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_streamed_end_point() {
+    Changes changes = new Changes(source).setStreamedEndPoint(true);
+    Changes changesNotStreamed = new Changes(source);
+    changes.setStartPointNow();
+    changesNotStreamed.setStartPointNow();
+    updateChangesForTests();
+    update("delete from test2 where VAR1 is null");
+    changes.setEndPointNow();
+    changesNotStreamed.setEndPointNow();
+
+    List<Change> changesList = changes.getChangesList();
+    List<Change> changesNotStreamedList = changesNotStreamed.getChangesList();
+    assertThat(changesList).hasSize(9);
+    assertThat(changesList).hasSameSizeAs(changesNotStreamedList);
+    for (int index = 0; index < changesList.size(); index++) {
+      Change change = changesList.get(index);
+      Change changeNotStreamed = changesNotStreamedList.get(index);
+      assertThat(change.getDataName()).isEqualTo(changeNotStreamed.getDataName());
+      assertThat(change.getChangeType()).isEqualTo(changeNotStreamed.getChangeType());
+      assertThat(change.getPksValueList()).hasSameSizeAs(changeNotStreamed.getPksValueList());
+    }
+
+    Changes changesOfMovie = changes.getChangesOfTable("movie").getChangesOfType(ChangeType.MODIFICATION);
+    assertThat(changesOfMovie.getChangesList()).hasSize(1);
+    Change change = changesOfMovie.getChangesList().get(0);
+    assertThat(change.getRowAtStartPoint().getValuesList().get(0).getValue()).isEqualTo(new BigDecimal(3));
+    assertThat(change.getRowAtStartPoint().getValuesList().get(1).getValue()).isEqualTo("Avatar");
+    assertThat(change.getRowAtEndPoint().getValuesList().get(1).getValue()).isEqualTo("The Avatar");
+  }
+
+  /**
+   * This method tests that the tables at end point only contain the rows changed as read at end point.
+   */
+  @Test
+  @NeedReload
+  public void test_tables_at_end_point_are_read_at_end_point() {
+    Changes changes = new Changes(new Table(source, "movie")).setStreamedEndPoint(true);
+    changes.setStartPointNow();
+    update("update movie set title = 'The Avatar' where id = 3");
+    changes.setEndPointNow();
+    update("update movie set title = 'Avatar 2' where id = 3");
+    update("insert into movie values(4, 'Ghostbusters', 1984, null)");
+
+    Table tableAtEndPoint = changes.getTablesAtEndPointList().get(0);
+    assertThat(tableAtEndPoint.getRowsList()).hasSize(1);
+    assertThat(tableAtEndPoint.getRowsList().get(0).getValuesList().get(1).getValue()).isEqualTo("The Avatar");
+    assertThat(changes.getChangesList()).hasSize(1);
+  }
+}
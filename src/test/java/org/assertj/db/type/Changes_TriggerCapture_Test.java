@@ -0,0 +1,192 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the capture of the changes by triggers in {@code Changes}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Changes_TriggerCapture_Test extends AbstractTest {
+
+  /**
+   * This method tests the default value and the setter.
+   */
+  @Test
+  public void test_trigger_capture() {
+    Changes changes = new Changes(source);
+    assertThat(changes.isTriggerCapture()).isFalse();
+    assertThat(changes.setTriggerCapture(true)).isSameAs(changes);
+    assertThat(changes.isTriggerCapture()).isTrue();
+  }
+
+  /**
+   * This method tests that the changes are the same when they are captured by triggers.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_trigger_capture() throws Exception {
+    Changes changes = new Changes(source).setTriggerCapture(true);
+    Changes changesWithoutCapture = new Changes(source);
+    changes.setStartPointNow();
+    changesWithoutCapture.setStartPointNow();
+    assertThat(getNumberOfTriggers()).isGreaterThan(0);
+    updateChangesForTests();
+    changes.setEndPointNow();
+    changesWithoutCapture.setEndPointNow();
+    assertThat(getNumberOfTriggers()).isEqualTo(0);
+
+    List<Change> changesList = changes.getChangesList();
+    List<Change> changesWithoutCaptureList = changesWithoutCapture.getChangesList();
+    assertThat(changesList).hasSize(8);
+    for (int index = 0; index < changesList.size(); index++) {
+      Change change = changesList.get(index);
+      Change changeWithoutCapture = changesWithoutCaptureList.get(index);
+      assertThat(change.getDataName()).isEqualTo(changeWithoutCapture.getDataName());
+      assertThat(change.getChangeType()).isEqualTo(changeWithoutCapture.getChangeType());
+      assertThat(change.getPksValueList().get(0).getValue())
+              .isEqualTo(changeWithoutCapture.getPksValueList().get(0).getValue());
+    }
+
+    // Only the rows touched are read
+    Table movieAtStartPoint = changes.getTablesAtStartPointList().get(getMovieIndex(changes));
+    Table movieAtEndPoint = changes.getTablesAtEndPointList().get(getMovieIndex(changes));
+    assertThat(movieAtStartPoint.getRowsList()).hasSize(1);
+    assertThat(movieAtEndPoint.getRowsList()).hasSize(2);
+  }
+
+  /**
+   * This method tests that a change which is rolled back is not a change.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_rolled_back_with_trigger_capture() throws Exception {
+    Changes changes = new Changes(new Table(source, "movie")).setTriggerCapture(true);
+    changes.setStartPointNow();
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (Statement statement = connection.createStatement()) {
+        statement.executeUpdate("update movie set title = 'The Avatar' where id = 3");
+      }
+      connection.rollback();
+    }
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).isEmpty();
+    assertThat(changes.getTablesAtStartPointList().get(0).getRowsList()).hasSize(1);
+  }
+
+  /**
+   * This method tests that the triggers are removed by {@code close} when no end point is set.
+   */
+  @Test
+  @NeedReload
+  public void test_close_removes_the_triggers() throws Exception {
+    try (Changes changes = new Changes(new Table(source, "movie")).setTriggerCapture(true)) {
+      changes.setStartPointNow();
+      assertThat(getNumberOfTriggers()).isEqualTo(1);
+      update("update movie set title = 'The Avatar' where id = 3");
+      changes.close();
+      assertThat(getNumberOfTriggers()).isEqualTo(0);
+
+      // The changes after the close are not known
+      try {
+        changes.setEndPointNow();
+        fail("An exception must be raised");
+      } catch (AssertJDBException e) {
+        assertThat(e.getMessage()).isEqualTo("The capture by triggers is ended : start point must be set again");
+      }
+    }
+    assertThat(getNumberOfTriggers()).isEqualTo(0);
+  }
+
+  /**
+   * This method should fail because the capture is ended by the first end point.
+   */
+  @Test(expected = AssertJDBException.class)
+  @NeedReload
+  public void should_fail_because_capture_is_ended_by_first_end_point() {
+    Changes changes = new Changes(new Table(source, "movie")).setTriggerCapture(true).setStartPointNow();
+    update("update movie set title = 'The Avatar' where id = 3");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(1);
+    update("update movie set title = 'Alien 1' where id = 1");
+    changes.setEndPointNow();
+  }
+
+  /**
+   * This method tests that the tables are fully read when the triggers can not be created.
+   */
+  @Test
+  @NeedReload
+  public void test_trigger_not_created() throws Exception {
+    Dialect dialect = new Dialect(true) {
+      @Override
+      public String getCreateTriggerRequest(String triggerName, String tableName, String triggerClassName) {
+        return Dialect.H2.getCreateTriggerRequest(triggerName, tableName, "org.assertj.db.type.NotExistingTrigger");
+      }
+    };
+    Changes changes = new Changes(new Table(source, "movie").setDialect(dialect)).setTriggerCapture(true);
+    changes.setStartPointNow();
+    assertThat(getNumberOfTriggers()).isEqualTo(0);
+    assertThat(changes.getTablesAtStartPointList().get(0).getRowsList()).hasSize(3);
+    update("update movie set title = 'The Avatar' where id = 3");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(1);
+  }
+
+  /**
+   * Returns the number of triggers in the database.
+   *
+   * @return The number of triggers.
+   * @throws Exception Exception.
+   */
+  private int getNumberOfTriggers() throws Exception {
+    try (Connection connection = dataSource.getConnection();
+         Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TRIGGERS")) {
+      resultSet.next();
+      return resultSet.getInt(1);
+    }
+  }
+
+  /**
+   * Returns the index of the movie table.
+   *
+   * @param changes The changes.
+   * @return The index.
+   */
+  private static int getMovieIndex(Changes changes) {
+    List<Table> tablesList = changes.getTablesList();
+    for (int index = 0; index < tablesList.size(); index++) {
+      if ("MOVIE".equalsIgnoreCase(tablesList.get(index).getName())) {
+        return index;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,116 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.db.api.Assertions.assertThat;
+
+/**
+ * Tests on the number of values of a {@code Column}, counted by the database when the rows are not loaded.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Column_NumberOfValues_Test extends AbstractTest {
+
+  /**
+   * Returns the list of rows of the data without loading it.
+   *
+   * @param data The data.
+   * @return The list of rows ({@code null} if the rows are not loaded).
+   */
+  private static List<?> getRowsListField(AbstractDbData<?> data) throws Exception {
+    Field field = AbstractDbData.class.getDeclaredField("rowsList");
+    field.setAccessible(true);
+    return (List<?>) field.get(data);
+  }
+
+  /**
+   * This method tests the number of values of the columns of a table which is not loaded.
+   */
+  @Test
+  public void test_number_of_values_of_table_not_loaded() throws Exception {
+    Table table = new Table(source, "test2");
+    Column column = table.getColumn(0);
+    assertThat(column.getName()).isEqualTo("VAR1");
+    assertThat(column.getNumberOfValues()).isEqualTo(2);
+    assertThat(column.getNumberOfNullValues()).isEqualTo(1);
+    assertThat(column.getNumberOfNotNullValues()).isEqualTo(1);
+    assertThat(table.getColumn(14).getNumberOfNullValues()).isEqualTo(2);
+    assertThat(getRowsListField(table)).isNull();
+
+    assertThat(column.getValuesList()).hasSize(2);
+    assertThat(getRowsListField(table)).isNotNull();
+    assertThat(column.getNumberOfNullValues()).isEqualTo(1);
+    assertThat(column.getNumberOfNotNullValues()).isEqualTo(1);
+  }
+
+  /**
+   * This method tests that the values of the columns of a table which is loaded are counted in memory.
+   */
+  @Test
+  @NeedReload
+  public void test_number_of_values_of_table_loaded() throws Exception {
+    Table table = new Table(source, "test2");
+    assertThat(table.getRowsList()).hasSize(2);
+    update("update test2 set var1 = null");
+    Column column = table.getColumn(0);
+    assertThat(column.getNumberOfValues()).isEqualTo(2);
+    assertThat(column.getNumberOfNullValues()).isEqualTo(1);
+    assertThat(column.getNumberOfNotNullValues()).isEqualTo(1);
+    assertThat(table).column("var15").hasOnlyNullValues();
+  }
+
+  /**
+   * This method tests the number of values of the columns of a request which is not loaded.
+   */
+  @Test
+  public void test_number_of_values_of_request_not_loaded() throws Exception {
+    Request request = new Request(source, "select var1, var15 from test2 where var1 = ?", 1);
+    assertThat(request.getColumn(0).getNumberOfValues()).isEqualTo(1);
+    assertThat(request.getColumn(0).getNumberOfNullValues()).isEqualTo(0);
+    assertThat(request.getColumn(1).getNumberOfNotNullValues()).isEqualTo(0);
+    assertThat(getRowsListField(request)).isNull();
+  }
+
+  /**
+   * This method tests that the nullity assertions are evaluated without loading the rows when they succeed.
+   */
+  @Test
+  public void test_nullity_assertions_without_loading() throws Exception {
+    Table table = new Table(source, "test");
+    assertThat(table).column("var14").hasOnlyNotNullValues().hasNumberOfRows(4);
+    Table table2 = new Table(source, "test2");
+    assertThat(table2).column("var15").hasOnlyNullValues();
+    assertThat(getRowsListField(table)).isNull();
+    assertThat(getRowsListField(table2)).isNull();
+  }
+
+  /**
+   * This method tests the number of values of a column whose label is an alias which is a reserved word.
+   */
+  @Test
+  public void test_number_of_values_of_alias_not_loaded() throws Exception {
+    Request request = new Request(source, "select var1 as \"select\", var15 as \"Lower\" from test2");
+    assertThat(request.getColumn(0).getNumberOfNullValues()).isEqualTo(1);
+    assertThat(request.getColumn(1).getNumberOfNullValues()).isEqualTo(2);
+    assertThat(getRowsListField(request)).isNull();
+  }
+}
@@ -0,0 +1,207 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the pool of connections of a {@code Source}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class ConnectionPool_Test extends AbstractTest {
+
+  /**
+   * This method tests that the sources with the same url, user and password share the same pool.
+   */
+  @Test
+  public void test_of() {
+    ConnectionPool pool = ConnectionPool.of(source);
+    assertThat(ConnectionPool.of(new Source("jdbc:h2:mem:test", "sa", ""))).isSameAs(pool);
+    assertThat(ConnectionPool.of(new Source("jdbc:h2:mem:test", "user", ""))).isNotSameAs(pool);
+  }
+
+  /**
+   * This method should fail because the source is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_source_is_null() {
+    ConnectionPool.of(null);
+  }
+
+  /**
+   * This method should fail because the maximum number of idle connections is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_max_idle_is_negative() {
+    ConnectionPool.of(source).setMaxIdle(-1);
+  }
+
+  /**
+   * This method should fail because the maximum idle time is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_max_idle_time_is_negative() {
+    ConnectionPool.of(source).setMaxIdleTime(-1);
+  }
+
+  /**
+   * This method tests that the connection is reused by the loadings of the tables.
+   */
+  @Test
+  public void test_connection_reused() {
+    ConnectionPool pool = ConnectionPool.of(source);
+    ConnectionPool.setEnabled(true);
+    try {
+      int opened = pool.getOpenedConnectionsCount();
+      int borrowed = pool.getBorrowedConnectionsCount();
+
+      new Table(source, "movie").getRowsList();
+      new Table(source, "actor").getRowsList();
+      new Request(source, "select * from movie").getRowsList();
+
+      assertThat(pool.getBorrowedConnectionsCount()).isEqualTo(borrowed + 3);
+      assertThat(pool.getOpenedConnectionsCount()).isLessThanOrEqualTo(opened + 1);
+      assertThat(pool.getIdleConnectionsCount()).isGreaterThanOrEqualTo(1);
+    } finally {
+      ConnectionPool.setEnabled(false);
+    }
+  }
+
+  /**
+   * This method tests that a closed connection is released in the pool and can not be used anymore.
+   */
+  @Test
+  public void test_close() throws SQLException {
+    ConnectionPool pool = ConnectionPool.of(source);
+    pool.close();
+    assertThat(pool.getIdleConnectionsCount()).isEqualTo(0);
+
+    Connection connection = pool.getConnection();
+    assertThat(connection.isClosed()).isFalse();
+    connection.setAutoCommit(false);
+    connection.close();
+    connection.close();
+    assertThat(connection.isClosed()).isTrue();
+    assertThat(pool.getIdleConnectionsCount()).isEqualTo(1);
+    try {
+      connection.createStatement();
+      fail("An exception must be raised");
+    } catch (SQLException e) {
+      assertThat(e.getMessage()).isEqualTo("The connection is closed");
+    }
+
+    Connection connection2 = pool.getConnection();
+    assertThat(connection2).isNotSameAs(connection);
+    assertThat(connection2.getAutoCommit()).isTrue();
+    assertThat(pool.getIdleConnectionsCount()).isEqualTo(0);
+    connection2.close();
+  }
+
+  /**
+   * This method tests that the pooled connection is returned when it is unwrapped and is only equal to itself.
+   */
+  @Test
+  public void test_unwrap_and_equals() throws SQLException {
+    ConnectionPool pool = ConnectionPool.of(source);
+    pool.close();
+
+    Connection connection = pool.getConnection();
+    assertThat(connection.isWrapperFor(Connection.class)).isTrue();
+    assertThat(connection.unwrap(Connection.class)).isSameAs(connection);
+    assertThat(connection.unwrap(Connection.class).equals(connection)).isTrue();
+    assertThat(connection.equals(connection)).isTrue();
+    assertThat(connection.hashCode()).isEqualTo(System.identityHashCode(connection));
+    connection.unwrap(Connection.class).close();
+    assertThat(pool.getIdleConnectionsCount()).isEqualTo(1);
+
+    Connection connection2 = pool.getConnection();
+    assertThat(connection2.isClosed()).isFalse();
+    assertThat(connection2.equals(connection)).isFalse();
+    connection2.close();
+  }
+
+  /**
+   * This method tests that the state of a connection is restored when it is released in the pool.
+   */
+  @Test
+  public void test_state_restored() throws SQLException {
+    ConnectionPool pool = ConnectionPool.of(source);
+    pool.close();
+
+    Connection connection = pool.getConnection();
+    boolean readOnly = connection.isReadOnly();
+    int transactionIsolation = connection.getTransactionIsolation();
+    connection.setReadOnly(!readOnly);
+    connection.setTransactionIsolation(transactionIsolation == Connection.TRANSACTION_SERIALIZABLE
+                                       ? Connection.TRANSACTION_READ_COMMITTED
+                                       : Connection.TRANSACTION_SERIALIZABLE);
+    connection.close();
+
+    Connection connection2 = pool.getConnection();
+    try {
+      assertThat(connection2.isReadOnly()).isEqualTo(readOnly);
+      assertThat(connection2.getTransactionIsolation()).isEqualTo(transactionIsolation);
+    } finally {
+      connection2.close();
+    }
+  }
+
+  /**
+   * This method tests that the idle connections are closed when they are too old or when the pool is full.
+   */
+  @Test
+  public void test_max_idle_time_and_max_idle() throws SQLException {
+    ConnectionPool pool = ConnectionPool.of(source);
+    try {
+      Connection connection1 = pool.getConnection();
+      Connection connection2 = pool.getConnection();
+      pool.setMaxIdle(1);
+      connection1.close();
+      connection2.close();
+      assertThat(pool.getIdleConnectionsCount()).isEqualTo(1);
+
+      int opened = pool.getOpenedConnectionsCount();
+      pool.setMaxIdleTime(0);
+      pool.getConnection().close();
+      assertThat(pool.getOpenedConnectionsCount()).isEqualTo(opened + 1);
+      assertThat(pool.getIdleConnectionsCount()).isEqualTo(0);
+
+      pool.setMaxIdle(0).setMaxIdleTime(ConnectionPool.DEFAULT_MAX_IDLE_TIME);
+      pool.getConnection().close();
+      assertThat(pool.getIdleConnectionsCount()).isEqualTo(0);
+    } finally {
+      pool.setMaxIdle(ConnectionPool.DEFAULT_MAX_IDLE).setMaxIdleTime(ConnectionPool.DEFAULT_MAX_IDLE_TIME);
+    }
+  }
+
+  /**
+   * This method tests that the pool is not used when the pools are disabled (by default).
+   */
+  @Test
+  public void test_enabled() {
+    ConnectionPool pool = ConnectionPool.of(source);
+    assertThat(ConnectionPool.isEnabled()).isFalse();
+    int borrowed = pool.getBorrowedConnectionsCount();
+    new Table(source, "movie").getRowsList();
+    assertThat(pool.getBorrowedConnectionsCount()).isEqualTo(borrowed);
+  }
+}
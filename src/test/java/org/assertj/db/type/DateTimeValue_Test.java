@@ -124,6 +124,24 @@ public class DateTimeValue_Test extends AbstractTest {
     new DateTimeValue("2007a12-23");
   }
 
+  /**
+   * This method should throw a {@code ParseException} because passing a parameter to constructor with a bad character
+   * between the date and the time.
+   */
+  @Test(expected = ParseException.class)
+  public void should_constructor_with_string_fail_if_date_time_has_bad_character_before_time() throws ParseException {
+    new DateTimeValue("2007-12-23a09:01");
+  }
+
+  /**
+   * This method should throw a {@code ParseException} because passing a parameter to constructor with a bad character
+   * in the time.
+   */
+  @Test(expected = ParseException.class)
+  public void should_constructor_with_string_fail_if_date_time_has_bad_character_on_time() throws ParseException {
+    new DateTimeValue("2007-12-23T09:a1:06");
+  }
+
   /**
    * This method tests the constructor with a {@code Calendar}.
    */
@@ -0,0 +1,186 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the dialects.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Dialect_Test extends AbstractTest {
+
+  /**
+   * This method tests the dialects from a name and from a database.
+   */
+  @Test
+  public void test_for_name_and_for_database() {
+    assertThat(Dialect.forName(null)).isSameAs(Dialect.STANDARD);
+    assertThat(Dialect.forName("H2")).isSameAs(Dialect.H2);
+    assertThat(Dialect.forName("MySQL")).isSameAs(Dialect.CASE_SENSITIVE);
+    assertThat(Dialect.forDatabase("H2")).isSameAs(Dialect.H2);
+    assertThat(Dialect.forDatabase("PostgreSQL")).isSameAs(Dialect.STANDARD);
+  }
+
+  /**
+   * This method tests the normalization of the names.
+   */
+  @Test
+  public void test_get_identifier() {
+    assertThat(Dialect.STANDARD.getIdentifier("firstName")).isEqualTo("FIRSTNAME");
+    assertThat(Dialect.H2.getIdentifier("firstName")).isEqualTo("FIRSTNAME");
+    assertThat(Dialect.CASE_SENSITIVE.getIdentifier("firstName")).isEqualTo("firstName");
+  }
+
+  /**
+   * This method should fail because the name is {@code null}.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_name_is_null() {
+    Dialect.STANDARD.getIdentifier(null);
+  }
+
+  /**
+   * This method tests the default dialect.
+   */
+  @Test
+  public void test_default() {
+    Dialect dialect = Dialect.getDefault();
+    try {
+      Dialect.setDefault(Dialect.CASE_SENSITIVE);
+      assertThat(Dialect.getDefault()).isSameAs(Dialect.CASE_SENSITIVE);
+      assertThat(new Table(source, "movie").setColumnsToCheck(new String[] { "title" }).getColumnsToCheck())
+              .containsExactly("title");
+    } finally {
+      Dialect.setDefault(dialect);
+    }
+  }
+
+  /**
+   * This method should fail because the default dialect is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_default_dialect_is_null() {
+    Dialect.setDefault(null);
+  }
+
+  /**
+   * This method tests the SQL of the dialects.
+   */
+  @Test
+  public void test_sql() {
+    assertThat(Dialect.STANDARD.quoteIdentifier("ID")).isEqualTo("\"ID\"");
+    assertThat(Dialect.STANDARD.getCountRequest("select * from movie"))
+            .isEqualTo("SELECT COUNT(*) FROM (select * from movie) COUNTED");
+    assertThat(Dialect.STANDARD.getCountRequest("movie", null)).isEqualTo("SELECT COUNT(*) FROM movie");
+    assertThat(Dialect.STANDARD.getCountRequest("movie", "id < 3"))
+            .isEqualTo("SELECT COUNT(*) FROM movie WHERE id < 3");
+    assertThat(Dialect.STANDARD.getOrderByClause(Arrays.asList("ID", "NAME")))
+            .isEqualTo(" ORDER BY \"ID\", \"NAME\"");
+    assertThat(Dialect.STANDARD.getOrderByClause(Collections.<String>emptyList())).isEmpty();
+    assertThat(Dialect.STANDARD.getLimitRequest("select * from movie", 2)).isEqualTo("select * from movie");
+    assertThat(Dialect.H2.getLimitRequest("select * from movie", 2)).isEqualTo("select * from movie LIMIT 2");
+    assertThat(Dialect.STANDARD.getRowHashExpression(Arrays.asList("ID"))).isNull();
+    assertThat(Dialect.H2.getRowHashExpression(Arrays.asList("ID"))).isNotNull();
+    assertThat(Dialect.STANDARD.getFingerprintRequest("movie", Arrays.asList("ID"), null)).isNull();
+    assertThat(Dialect.H2.getFingerprintRequest("movie", Arrays.asList("ID"), "id < 3"))
+            .startsWith("SELECT COUNT(*), SUM(").endsWith(" WHERE id < 3) HASHES").doesNotContain("ORDER BY");
+    assertThat(Dialect.STANDARD.getCreateTriggerRequest("\"T\"", "\"MOVIE\"", "Trigger")).isNull();
+    assertThat(Dialect.H2.getCreateTriggerRequest("\"T\"", "\"MOVIE\"", "Trigger"))
+            .isEqualTo("CREATE TRIGGER \"T\" AFTER INSERT, UPDATE, DELETE ON \"MOVIE\" FOR EACH ROW CALL \"Trigger\"");
+  }
+
+  /**
+   * This method tests the dialect of the elements.
+   */
+  @Test
+  public void test_dialect_of_elements() {
+    Table table = new Table(source, "movie").setColumnsToCheck(new String[] { "id", "title" });
+    assertThat(table.getDialect()).isNull();
+    assertThat(table.getDialectOrDefault()).isSameAs(Dialect.getDefault());
+    assertThat(table.getColumnsToCheck()).containsExactly("ID", "TITLE");
+
+    assertThat(table.setDialect(Dialect.CASE_SENSITIVE)).isSameAs(table);
+    assertThat(table.getDialect()).isSameAs(Dialect.CASE_SENSITIVE);
+    assertThat(table.getColumnsToCheck()).containsExactly("id", "title");
+
+    Changes changes = new Changes(table);
+    assertThat(changes.getDialect()).isSameAs(Dialect.CASE_SENSITIVE);
+  }
+
+  /**
+   * This method tests the loading with a dialect which keeps the names.
+   */
+  @Test
+  public void test_loading_with_case_sensitive_dialect() {
+    Table table = new Table(source, "movie").setDialect(Dialect.CASE_SENSITIVE);
+    assertThat(table.getColumnsNameList()).contains("ID", "TITLE");
+    assertThat(table.getPksNameList()).containsExactly("ID");
+    assertThat(table.getRow(0).getColumnValue("TITLE").getValue()).isEqualTo("Alien");
+    assertThat(table.getRow(0).getColumnValue("title")).isNull();
+
+    Request request = new Request(source, "select id, title from movie").setPksName("id")
+            .setDialect(Dialect.CASE_SENSITIVE);
+    assertThat(request.getColumnsNameList()).containsExactly("ID", "TITLE");
+    assertThat(request.getPksNameList()).containsExactly("ID");
+  }
+
+  /**
+   * This method tests that the names of the columns in the assertions are normalized with the dialect of the element.
+   */
+  @Test
+  public void test_column_names_with_dialect_of_element() {
+    Table table = new Table(source, "movie").setDialect(Dialect.H2);
+    org.assertj.db.api.Assertions.assertThat(table).column("title").hasColumnName("TITLE")
+                                                   .row().value("title").isEqualTo("Alien");
+
+    Table caseSensitiveTable = new Table(source, "movie").setDialect(Dialect.CASE_SENSITIVE);
+    org.assertj.db.api.Assertions.assertThat(caseSensitiveTable).column("TITLE").hasColumnName("TITLE");
+    try {
+      org.assertj.db.api.Assertions.assertThat(caseSensitiveTable).column("title");
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("Column <title> does not exist");
+    }
+    try {
+      org.assertj.db.api.Assertions.assertThat(caseSensitiveTable).row().value("title");
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("Column <title> does not exist");
+    }
+  }
+
+  /**
+   * This method tests the SQL of the dialect set on a table.
+   */
+  @Test
+  public void test_sql_of_the_dialect_of_a_table() {
+    assertThat(new Table(source, "movie").getFingerprint()).startsWith("3:");
+    assertThat(new Table(source, "movie").setDialect(Dialect.STANDARD).getFingerprint()).isNull();
+    assertThat(new Table(source, "movie").setDialect(Dialect.STANDARD).getRowsHashesMap()).isNull();
+    assertThat(new Table(source, "movie").setDialect(Dialect.STANDARD).getNumberOfRows()).isEqualTo(3);
+    assertThat(new Table(source, "movie").setDialect(Dialect.H2).setMaxRows(2).getRowsList()).hasSize(2);
+    assertThat(new Request(source, "select * from movie").setDialect(Dialect.STANDARD).getNumberOfRows())
+            .isEqualTo(3);
+  }
+}
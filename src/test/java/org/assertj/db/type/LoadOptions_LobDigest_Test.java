@@ -0,0 +1,156 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.rowset.serial.SerialBlob;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.assertj.db.api.Assertions.bytesContentFromClassPathOf;
+import static org.assertj.db.api.Assertions.contentFromClassPathOf;
+import static org.assertj.db.api.Assertions.digestFromClassPathOf;
+
+/**
+ * Tests on the loading of the LOBs as digests.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class LoadOptions_LobDigest_Test extends AbstractTest {
+
+  /**
+   * Creates a table with LOBs.
+   */
+  @Before
+  public void createTable() {
+    update("create table document(id number primary key, content blob, description clob)");
+    update("insert into document values(1, ?, 'The logo of H2')", (Object) bytesContentFromClassPathOf("h2-logo-2.png"));
+    update("insert into document values(2, ?, 'The logo')", (Object) bytesContentFromClassPathOf("logo-dev.jpg"));
+    update("insert into document values(3, null, null)");
+  }
+
+  /**
+   * Drops the table with LOBs.
+   */
+  @After
+  public void dropTable() {
+    update("drop table document");
+    MetadataCache.invalidate(source);
+    MetadataCache.invalidate(dataSource);
+  }
+
+  /**
+   * This method tests that the LOBs are read as digests and compared to the contents.
+   */
+  @Test
+  public void test_load_lobs_as_digests() {
+    Table table = new Table(source, "document").setLoadOptions(new LoadOptions().setLobDigest(true)
+                                                                                 .setLobPrefixSize(4));
+    Object content = table.getRow(0).getColumnValue("CONTENT").getValue();
+    org.assertj.core.api.Assertions.assertThat(content).isInstanceOf(LobDigest.class);
+    org.assertj.core.api.Assertions.assertThat(((LobDigest) content).getPrefix()).isEqualTo("89504e47");
+
+    assertThat(table).row()
+                       .value("CONTENT").isBytes()
+                                        .isEqualTo(bytesContentFromClassPathOf("h2-logo-2.png"))
+                                        .isEqualTo(digestFromClassPathOf("h2-logo-2.png"))
+                                        .isEqualTo(contentFromClassPathOf("h2-logo-2.png"))
+                       .value("DESCRIPTION").isText()
+                                            .isEqualTo("The logo of H2")
+                     .row()
+                       .value("CONTENT").isEqualTo(digestFromClassPathOf("logo-dev.jpg"))
+                     .row()
+                       .value("CONTENT").isNull()
+                       .value("DESCRIPTION").isNull();
+    assertThat(table).column("CONTENT").hasValues(bytesContentFromClassPathOf("h2-logo-2.png"),
+                                                  bytesContentFromClassPathOf("logo-dev.jpg"), null);
+  }
+
+  /**
+   * This method tests that the changes on the LOBs are detected with the digests.
+   */
+  @Test
+  public void test_changes_with_digests() {
+    Changes changes = new Changes(new Table(source, "document"))
+            .setLoadOptions(new LoadOptions().setLobDigest(true)).setStartPointNow();
+    update("update document set description = 'The logo of the H2 database' where id = 1");
+    update("update document set content = ? where id = 2", (Object) bytesContentFromClassPathOf("h2-logo-2.png"));
+    update("update document set content = content where id = 3");
+    changes.setEndPointNow();
+
+    assertThat(changes).hasNumberOfChanges(2)
+                       .change().isModification().hasModifiedColumns("DESCRIPTION")
+                       .change().isModification().hasModifiedColumns("CONTENT")
+                                .rowAtEndPoint().value("CONTENT").isEqualTo(digestFromClassPathOf("h2-logo-2.png"));
+  }
+
+  /**
+   * This method tests that the digests are written in a snapshot.
+   */
+  @Test
+  public void test_snapshot_with_digests() throws IOException {
+    File file = File.createTempFile("assertj-db", ".snapshot");
+    file.deleteOnExit();
+    Table table = new Table(source, "document").setLoadOptions(new LoadOptions().setLobDigest(true)
+                                                                                 .setLobPrefixSize(2));
+    SnapshotFile.write(file, table);
+
+    List<Change> differencesList = RowsComparison.compareWithSnapshot(
+            new Table(source, "document").setLoadOptions(new LoadOptions().setLobDigest(true)), file);
+    org.assertj.core.api.Assertions.assertThat(differencesList).isEmpty();
+    Table tableRead = new Table();
+    SnapshotFile.read(file).getDataList().get(0).setRowsOf(tableRead);
+    org.assertj.core.api.Assertions.assertThat(tableRead.getRow(0).getColumnValue("CONTENT").getValue())
+                                   .isEqualTo(table.getRow(0).getColumnValue("CONTENT").getValue());
+  }
+
+  /**
+   * This method tests that the stream of a LOB is closed and that the LOB is freed.
+   */
+  @Test
+  public void test_lob_closed_and_freed() throws SQLException {
+    final boolean[] closedAndFreed = new boolean[2];
+    SerialBlob blob = new SerialBlob(new byte[] { 1, 2, 3 }) {
+      @Override
+      public InputStream getBinaryStream() {
+        return new ByteArrayInputStream(new byte[] { 1, 2, 3 }) {
+          @Override
+          public void close() throws IOException {
+            closedAndFreed[0] = true;
+            super.close();
+          }
+        };
+      }
+
+      @Override
+      public void free() throws SQLException {
+        closedAndFreed[1] = true;
+        super.free();
+      }
+    };
+
+    LobDigest lobDigest = new LoadOptions().getLobDigest(blob);
+    org.assertj.core.api.Assertions.assertThat(lobDigest.getLength()).isEqualTo(3);
+    org.assertj.core.api.Assertions.assertThat(closedAndFreed).containsExactly(true, true);
+  }
+}
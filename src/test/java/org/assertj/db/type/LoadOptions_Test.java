@@ -0,0 +1,142 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the options of the loading.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class LoadOptions_Test extends AbstractTest {
+
+  /**
+   * This method tests the default values and the setters.
+   */
+  @Test
+  public void test_getters_and_setters() {
+    LoadOptions loadOptions = new LoadOptions();
+    assertThat(loadOptions.getFetchSize()).isNull();
+    assertThat(loadOptions.getQueryTimeout()).isEqualTo(0);
+    assertThat(loadOptions.isReadOnly()).isFalse();
+    assertThat(loadOptions.isStreaming()).isFalse();
+
+    assertThat(loadOptions.setFetchSize(100).setQueryTimeout(5).setReadOnly(true).setStreaming(true))
+            .isSameAs(loadOptions);
+    assertThat(loadOptions.getFetchSize()).isEqualTo(100);
+    assertThat(loadOptions.getQueryTimeout()).isEqualTo(5);
+    assertThat(loadOptions.isReadOnly()).isTrue();
+    assertThat(loadOptions.isStreaming()).isTrue();
+
+    Table table = new Table(source, "movie");
+    assertThat(table.getLoadOptions()).isNull();
+    assertThat(table.getLoadOptionsOrDefault()).isSameAs(LoadOptions.getDefault());
+    assertThat(table.setLoadOptions(loadOptions)).isSameAs(table);
+    assertThat(table.getLoadOptionsOrDefault()).isSameAs(loadOptions);
+
+    assertThat(loadOptions.isLobDigest()).isFalse();
+    assertThat(loadOptions.getLobPrefixSize()).isEqualTo(0);
+    assertThat(loadOptions.setLobDigest(true).setLobPrefixSize(16)).isSameAs(loadOptions);
+    assertThat(loadOptions.isLobDigest()).isTrue();
+    assertThat(loadOptions.getLobPrefixSize()).isEqualTo(16);
+  }
+
+  /**
+   * This method should fail because the query timeout is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_query_timeout_is_negative() {
+    new LoadOptions().setQueryTimeout(-1);
+  }
+
+  /**
+   * This method should fail because the size of the prefix of the LOBs is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_lob_prefix_size_is_negative() {
+    new LoadOptions().setLobPrefixSize(-1);
+  }
+
+  /**
+   * This method should fail because the default options are {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_default_is_null() {
+    LoadOptions.setDefault(null);
+  }
+
+  /**
+   * This method tests that the statement is prepared according to the options.
+   */
+  @Test
+  public void test_prepare_statement() throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      LoadOptions loadOptions = new LoadOptions().setFetchSize(10).setQueryTimeout(3);
+      try (PreparedStatement statement = loadOptions.prepareStatement(connection, "select * from movie")) {
+        assertThat(statement.getFetchSize()).isEqualTo(10);
+        assertThat(statement.getQueryTimeout()).isEqualTo(3);
+        assertThat(statement.getResultSetType()).isEqualTo(ResultSet.TYPE_FORWARD_ONLY);
+        assertThat(statement.getResultSetConcurrency()).isEqualTo(ResultSet.CONCUR_READ_ONLY);
+      }
+      try (PreparedStatement statement = new LoadOptions().setStreaming(true)
+                                                          .prepareStatement(connection, "select * from movie")) {
+        assertThat(statement.getFetchSize()).isEqualTo(LoadOptions.DEFAULT_STREAMING_FETCH_SIZE);
+      }
+    }
+  }
+
+  /**
+   * This method tests that the settings of the connection are changed during the loading and restored after.
+   */
+  @Test
+  public void test_connection_settings() throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      LoadOptions loadOptions = new LoadOptions().setReadOnly(true).setStreaming(true);
+      try (LoadOptions.ConnectionSettings settings = loadOptions.apply(connection)) {
+        assertThat(connection.isReadOnly()).isTrue();
+        assertThat(connection.getAutoCommit()).isFalse();
+      }
+      assertThat(connection.isReadOnly()).isFalse();
+      assertThat(connection.getAutoCommit()).isTrue();
+    }
+  }
+
+  /**
+   * This method tests the loadings with options.
+   */
+  @Test
+  public void test_loadings_with_options() {
+    LoadOptions loadOptions = new LoadOptions().setFetchSize(1).setReadOnly(true).setStreaming(true)
+                                               .setQueryTimeout(10);
+    Table table = new Table(source, "movie").setLoadOptions(loadOptions);
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    assertThat(table.getRowsList()).hasSize(3);
+    Request request = new Request(dataSource, "select * from movie where id > ?", 1).setLoadOptions(loadOptions);
+    assertThat(request.getRowsList()).hasSize(2);
+
+    Changes changes = new Changes(table).setStartPointNow();
+    assertThat(changes.getTablesAtStartPointList().get(0).getLoadOptions()).isSameAs(loadOptions);
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).isEmpty();
+  }
+}
@@ -0,0 +1,78 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the digest of a LOB.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class LobDigest_Test {
+
+  /**
+   * This method tests that the digests of the same content are equal.
+   */
+  @Test
+  public void test_equals() throws IOException {
+    byte[] bytes = new byte[20000];
+    for (int index = 0; index < bytes.length; index++) {
+      bytes[index] = (byte) index;
+    }
+    LobDigest lobDigest = LobDigest.of(bytes);
+    LobDigest lobDigest2 = LobDigest.of(new ByteArrayInputStream(bytes), 2);
+    assertThat(lobDigest).isEqualTo(lobDigest2);
+    assertThat(lobDigest.hashCode()).isEqualTo(lobDigest2.hashCode());
+    assertThat(lobDigest2.isText()).isFalse();
+    assertThat(lobDigest2.getLength()).isEqualTo(20000);
+    assertThat(lobDigest2.getDigest()).hasSize(32);
+    assertThat(lobDigest2.getPrefix()).isEqualTo("0001");
+    assertThat(lobDigest2.isDigestOf(bytes)).isTrue();
+    assertThat(lobDigest2.isDigestOf(new byte[] { 0, 1 })).isFalse();
+
+    bytes[19999]++;
+    assertThat(LobDigest.of(bytes)).isNotEqualTo(lobDigest);
+  }
+
+  /**
+   * This method tests the digests of the texts (with a character on two readings).
+   */
+  @Test
+  public void test_equals_with_text() throws IOException {
+    StringBuilder stringBuilder = new StringBuilder();
+    for (int index = 0; index < 8191; index++) {
+      stringBuilder.append('a');
+    }
+    stringBuilder.append("😀 é");
+    String text = stringBuilder.toString();
+    LobDigest lobDigest = LobDigest.of(new StringReader(text), 3);
+    assertThat(lobDigest).isEqualTo(LobDigest.of(text));
+    assertThat(lobDigest.isText()).isTrue();
+    assertThat(lobDigest.getLength()).isEqualTo(text.length());
+    assertThat(lobDigest.getPrefix()).isEqualTo("aaa");
+    assertThat(lobDigest.isDigestOf(text)).isTrue();
+    assertThat(lobDigest.isDigestOf(text.getBytes("UTF-8"))).isFalse();
+    assertThat(lobDigest.toString()).startsWith("CLOB(length=8195, sha-256=").endsWith(", prefix=aaa)");
+
+    assertThat(LobDigest.of((String) null)).isNull();
+    assertThat(LobDigest.of((byte[]) null)).isNull();
+  }
+}
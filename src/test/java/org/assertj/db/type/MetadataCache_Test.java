@@ -0,0 +1,191 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the cache of the metadata.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class MetadataCache_Test extends AbstractTest {
+
+  /**
+   * Enables the cache.
+   */
+  @Before
+  public void enable() {
+    MetadataCache.setEnabled(true);
+  }
+
+  /**
+   * Restores the default configuration of the cache.
+   */
+  @After
+  public void restoreDefault() {
+    MetadataCache.setEnabled(false);
+    MetadataCache.setMaxSize(MetadataCache.DEFAULT_MAX_SIZE);
+    MetadataCache.setTimeToLive(MetadataCache.DEFAULT_TIME_TO_LIVE);
+  }
+
+  /**
+   * This method tests that the primary keys are queried only once for the loadings of the same table.
+   */
+  @Test
+  public void test_primary_keys_cached() {
+    MetadataCache.invalidate();
+    new Table(source, "movie").getRowsList();
+    int count = MetadataCache.getMetadataQueriesCount();
+    Table table = new Table(source, "movie");
+    assertThat(table.getPksNameList()).containsExactly("ID");
+    new Table(new Source("jdbc:h2:mem:test", "sa", ""), "movie").getRowsList();
+    assertThat(MetadataCache.getMetadataQueriesCount()).isEqualTo(count);
+
+    new Table(dataSource, "movie").getRowsList();
+    assertThat(MetadataCache.getMetadataQueriesCount()).isEqualTo(count + 1);
+  }
+
+  /**
+   * This method tests that the names of the tables are queried only once for the start points of the changes.
+   */
+  @Test
+  public void test_tables_cached() {
+    MetadataCache.invalidate();
+    new Changes(source).setStartPointNow();
+    int count = MetadataCache.getMetadataQueriesCount();
+    Changes changes = new Changes(source).setStartPointNow();
+    assertThat(MetadataCache.getMetadataQueriesCount()).isEqualTo(count);
+    assertThat(changes.getTablesAtStartPointList()).hasSize(5);
+  }
+
+  /**
+   * This method tests the invalidation of the cache.
+   */
+  @Test
+  public void test_invalidate() {
+    MetadataCache.invalidate();
+    new Table(source, "movie").getRowsList();
+    new Table(dataSource, "movie").getRowsList();
+    assertThat(MetadataCache.getSize()).isEqualTo(2);
+
+    MetadataCache.invalidate(source);
+    assertThat(MetadataCache.getSize()).isEqualTo(1);
+    MetadataCache.invalidate(dataSource);
+    assertThat(MetadataCache.getSize()).isEqualTo(0);
+
+    int count = MetadataCache.getMetadataQueriesCount();
+    new Table(source, "movie").getRowsList();
+    assertThat(MetadataCache.getMetadataQueriesCount()).isEqualTo(count + 1);
+  }
+
+  /**
+   * This method tests the expiration of the entries and the maximum size.
+   */
+  @Test
+  public void test_time_to_live_and_max_size() {
+    MetadataCache.invalidate();
+    MetadataCache.setTimeToLive(0);
+    new Table(source, "movie").getRowsList();
+    int count = MetadataCache.getMetadataQueriesCount();
+    new Table(source, "movie").getRowsList();
+    assertThat(MetadataCache.getMetadataQueriesCount()).isEqualTo(count + 1);
+
+    MetadataCache.setTimeToLive(MetadataCache.DEFAULT_TIME_TO_LIVE);
+    new Table(source, "movie").getRowsList();
+    new Table(source, "actor").getRowsList();
+    assertThat(MetadataCache.getSize()).isEqualTo(2);
+    MetadataCache.setMaxSize(1);
+    assertThat(MetadataCache.getSize()).isEqualTo(1);
+  }
+
+  /**
+   * This method tests that nothing is cached when the cache is disabled.
+   */
+  @Test
+  public void test_disabled() {
+    MetadataCache.setEnabled(false);
+    assertThat(MetadataCache.isEnabled()).isFalse();
+    new Table(source, "movie").getRowsList();
+    int count = MetadataCache.getMetadataQueriesCount();
+    new Table(source, "movie").getRowsList();
+    assertThat(MetadataCache.getMetadataQueriesCount()).isEqualTo(count + 1);
+    assertThat(MetadataCache.getSize()).isEqualTo(0);
+  }
+
+  /**
+   * This method tests that a table created after a first start point is seen when the cache is disabled (the default).
+   */
+  @Test
+  public void test_table_created_seen_when_disabled() {
+    MetadataCache.setEnabled(false);
+    assertThat(new Changes(source).setStartPointNow().getTablesAtStartPointList()).hasSize(5);
+    update("create table created(id number primary key)");
+    try {
+      assertThat(new Changes(source).setStartPointNow().getTablesAtStartPointList()).hasSize(6);
+    } finally {
+      update("drop table created");
+    }
+  }
+
+  /**
+   * This method tests that the name of the database product and the quote of the identifiers are read only once by
+   * database : the closed connection is not used when they are cached.
+   */
+  @Test
+  public void test_database_information_cached() throws SQLException {
+    MetadataCache.invalidate();
+    Object databaseKey = MetadataCache.getDatabaseKey(source);
+    Connection connection = DriverManager.getConnection(source.getUrl(), source.getUser(), source.getPassword());
+    assertThat(MetadataCache.getDatabaseProductName(databaseKey, connection)).isEqualTo("H2");
+    assertThat(MetadataCache.getIdentifierQuoteString(databaseKey, connection)).isEqualTo("\"");
+    connection.close();
+    assertThat(MetadataCache.getDatabaseProductName(databaseKey, connection)).isEqualTo("H2");
+    assertThat(MetadataCache.getIdentifierQuoteString(databaseKey, connection)).isEqualTo("\"");
+
+    MetadataCache.invalidate(source);
+    try {
+      MetadataCache.getDatabaseProductName(databaseKey, connection);
+      fail("An exception must be raised");
+    } catch (SQLException e) {
+      // The information is read again from the closed connection
+    }
+  }
+
+  /**
+   * This method should fail because the maximum size is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_max_size_is_negative() {
+    MetadataCache.setMaxSize(-1);
+  }
+
+  /**
+   * This method should fail because the time to live is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_time_to_live_is_negative() {
+    MetadataCache.setTimeToLive(-1);
+  }
+}
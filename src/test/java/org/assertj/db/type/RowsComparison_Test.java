@@ -0,0 +1,165 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the comparison of the rows with the expected rows of a file.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class RowsComparison_Test extends AbstractTest {
+
+  /**
+   * This method tests the differences with a snapshot (with the table read row by row and loaded).
+   */
+  @Test
+  @NeedReload
+  public void test_compare_with_snapshot() throws IOException {
+    File file = File.createTempFile("assertj-db", ".snapshot");
+    file.deleteOnExit();
+    SnapshotFile.write(file, new Table(source, "actor"));
+    updateChangesForTests();
+
+    Table table = new Table(source, "actor");
+    List<Change> changesList = RowsComparison.compareWithSnapshot(table, file);
+    assertThat(changesList).hasSize(3);
+    assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(changesList.get(0).getPksValueList().get(0).getValue()).isEqualTo(new BigDecimal(1));
+    assertThat(changesList.get(0).getRowAtStartPoint().getColumnValue("NAME").getValue()).isEqualTo("Weaver");
+    assertThat(changesList.get(1).getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(changesList.get(1).getPksValueList().get(0).getValue()).isEqualTo(new BigDecimal(3));
+    assertThat(changesList.get(2).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changesList.get(2).getPksValueList().get(0).getValue()).isEqualTo(new BigDecimal(4));
+    assertThat(changesList.get(2).getDataName()).isEqualTo("actor");
+
+    table.getRowsList();
+    List<Change> changesList2 = RowsComparison.compareWithSnapshot(table, file);
+    assertThat(changesList2).hasSize(3);
+    for (int index = 0; index < changesList.size(); index++) {
+      assertThat(changesList2.get(index).getChangeType()).isEqualTo(changesList.get(index).getChangeType());
+    }
+  }
+
+  /**
+   * This method tests the comparison of a table without primary key (the rows are matched on all the values).
+   */
+  @Test
+  public void test_compare_without_primary_key() throws IOException {
+    File file = File.createTempFile("assertj-db", ".snapshot");
+    file.deleteOnExit();
+    Request request = new Request(source, "select title, year from movie order by title desc");
+    SnapshotFile.write(file, request);
+
+    assertThat(RowsComparison.compareWithSnapshot(new Request(source, "select title, year from movie"), file)).isEmpty();
+    List<Change> changesList = RowsComparison.compareWithSnapshot(
+            new Request(source, "select title, year from movie where year > 2000"), file);
+    assertThat(changesList).hasSize(1);
+    assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(changesList.get(0).getRowAtStartPoint().getColumnValue("TITLE").getValue()).isEqualTo("Alien");
+  }
+
+  /**
+   * This method tests the values of a CSV file (quotes, empty values and null values).
+   */
+  @Test
+  @NeedReload
+  public void test_compare_with_csv() throws IOException {
+    update("update movie set title = 'Alien, the \"8th\" passenger' where id = 1");
+    update("update movie set title = '' where id = 2");
+    update("update movie set year = null where id = 3");
+    File file = File.createTempFile("assertj-db", ".csv");
+    file.deleteOnExit();
+    try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8")) {
+      writer.write("ID,TITLE,YEAR,MOVIE_IMDB\n"
+                   + "1,\"Alien, the \"\"8th\"\" passenger\",1979,30B443AE-C0C9-4790-9BEC-CE1380808435\n"
+                   + "2,\"\",2004,16319617-AE95-4087-9264-D3D21BF611B6\n"
+                   + "3,Avatar,,D735221B-5DE5-4112-AA1E-49090CB75ADA");
+    }
+
+    assertThat(RowsComparison.compareWithCsv(new Table(source, "movie"), file)).isEmpty();
+  }
+
+  /**
+   * This method tests that the values of a CSV file are converted with the type of the first actual value which is not
+   * {@code null} (the first actual row contains a {@code null}).
+   */
+  @Test
+  @NeedReload
+  public void test_compare_with_csv_with_null_in_first_row() throws IOException {
+    update("update movie set year = null where id = 3");
+    File file = File.createTempFile("assertj-db", ".csv");
+    file.deleteOnExit();
+    try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8")) {
+      writer.write("YEAR,TITLE\n"
+                   + "1979,Alien\n"
+                   + "2004,The Village\n"
+                   + ",Avatar\n");
+    }
+
+    Request request = new Request(source, "select year, title from movie order by year");
+    assertThat(request.getRow(0).getColumnValue("YEAR").getValue()).isNull();
+    assertThat(RowsComparison.compareWithCsv(request, file)).isEmpty();
+  }
+
+  /**
+   * This method tests the comparison of a table without primary key which is not loaded.
+   */
+  @Test
+  @NeedReload
+  public void test_compare_table_without_primary_key() throws IOException {
+    File file = File.createTempFile("assertj-db", ".snapshot");
+    file.deleteOnExit();
+    SnapshotFile.write(file, new Table(source, "test2"));
+    assertThat(RowsComparison.compareWithSnapshot(new Table(source, "test2"), file)).isEmpty();
+
+    update("update test2 set var12 = 'another text' where var1 = 1");
+    Table table = new Table(source, "test2");
+    List<Change> changesList = RowsComparison.compareWithSnapshot(table, file);
+    assertThat(changesList).hasSize(2);
+    assertThat(table.isLoaded()).isFalse();
+  }
+
+  /**
+   * This method should fail because the columns are different.
+   */
+  @Test
+  public void should_fail_because_columns_are_different() throws IOException {
+    File file = File.createTempFile("assertj-db", ".snapshot");
+    file.deleteOnExit();
+    SnapshotFile.write(file, new Table(source, "movie"));
+
+    try {
+      RowsComparison.compareWithSnapshot(new Table(source, "actor"), file);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).startsWith("The columns [ID, TITLE, YEAR, MOVIE_IMDB] of ");
+    }
+  }
+}
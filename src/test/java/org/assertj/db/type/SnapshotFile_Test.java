@@ -0,0 +1,187 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the snapshot files.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class SnapshotFile_Test extends AbstractTest {
+
+  /**
+   * Returns a new temporary file.
+   *
+   * @return The file.
+   * @throws IOException I/O Exception.
+   */
+  private static File createFile() throws IOException {
+    File file = File.createTempFile("assertj-db", ".snapshot");
+    file.deleteOnExit();
+    return file;
+  }
+
+  /**
+   * This method tests that the rows read from a snapshot are the same as the rows written.
+   */
+  @Test
+  public void test_write_and_read_tables() throws IOException {
+    Table movie = new Table(source, "movie");
+    Table test = new Table(source, "test");
+    Table test2 = new Table(source, "test2");
+    File file = createFile();
+    SnapshotFile.write(file, movie, test, test2);
+
+    SnapshotFile.Snapshot snapshot = SnapshotFile.read(file);
+    assertThat(snapshot.getDataType()).isEqualTo(DataType.TABLE);
+    assertThat(snapshot.getDataList()).hasSize(3);
+    Table[] tables = { movie, test, test2 };
+    for (int index = 0; index < tables.length; index++) {
+      SnapshotFile.SnapshotData data = snapshot.getDataList().get(index);
+      assertThat(data.getName()).isEqualTo(tables[index].getName());
+      Table table = new Table();
+      data.setRowsOf(table);
+      assertThat(table.getColumnsNameList()).isEqualTo(tables[index].getColumnsNameList());
+      assertThat(table.getPksNameList()).isEqualTo(tables[index].getPksNameList());
+      List<Row> rowsList = table.getRowsList();
+      assertThat(rowsList).hasSameSizeAs(tables[index].getRowsList());
+      for (int rowIndex = 0; rowIndex < rowsList.size(); rowIndex++) {
+        assertThat(rowsList.get(rowIndex).hasValues(tables[index].getRow(rowIndex))).isTrue();
+        List<Value> valuesList = rowsList.get(rowIndex).getValuesList();
+        for (int valueIndex = 0; valueIndex < valuesList.size(); valueIndex++) {
+          Object expected = tables[index].getRow(rowIndex).getValuesList().get(valueIndex).getValue();
+          if (expected instanceof byte[]) {
+            assertThat((byte[]) valuesList.get(valueIndex).getValue()).isEqualTo((byte[]) expected);
+          } else {
+            assertThat(valuesList.get(valueIndex).getValue()).isEqualTo(expected);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * This method tests that the rows of a request are written and read.
+   */
+  @Test
+  public void test_write_and_read_request() throws IOException {
+    Request request = new Request(source, "select * from movie where year > ?", 2000).setPksName("id");
+    File file = createFile();
+    SnapshotFile.write(file, request);
+
+    SnapshotFile.Snapshot snapshot = SnapshotFile.read(file);
+    assertThat(snapshot.getDataType()).isEqualTo(DataType.REQUEST);
+    assertThat(snapshot.getDataList().get(0).getName()).isEqualTo("select * from movie where year > ?");
+    Request read = new Request();
+    snapshot.getDataList().get(0).setRowsOf(read);
+    assertThat(read.getRowsList()).hasSize(2);
+    assertThat(read.getPksNameList()).containsExactly("ID");
+  }
+
+  /**
+   * This method tests that the start point is saved and loaded by another {@code Changes}.
+   */
+  @Test
+  @NeedReload
+  public void test_save_and_load_start_point() throws IOException {
+    File file = createFile();
+    new Changes(source).setStartPointNow().saveStartPoint(file);
+    updateChangesForTests();
+
+    Changes changes = new Changes(source).loadStartPoint(file);
+    changes.setEndPointNow();
+    assertThat(changes.getTablesList()).hasSize(5);
+    assertThat(changes.getChangesList()).hasSize(8);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.MODIFICATION).getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(2);
+  }
+
+  /**
+   * This method should fail because the snapshot is not on the same tables.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_tables_are_different() throws IOException {
+    File file = createFile();
+    new Changes(new Table(source, "movie")).setStartPointNow().saveStartPoint(file);
+    new Changes(new Table(source, "actor")).loadStartPoint(file);
+  }
+
+  /**
+   * This method should fail because the file is not a snapshot.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_file_is_not_a_snapshot() throws IOException {
+    File file = createFile();
+    try (FileOutputStream outputStream = new FileOutputStream(file)) {
+      outputStream.write(new byte[] { 1, 2, 3, 4, 5, 6 });
+    }
+    SnapshotFile.read(file);
+  }
+
+  /**
+   * This method tests that the dates, the times and the timestamps are read with the same fields in another time zone.
+   */
+  @Test
+  public void test_dates_read_in_another_time_zone() throws IOException {
+    TimeZone timeZone = TimeZone.getDefault();
+    try {
+      TimeZone.setDefault(TimeZone.getTimeZone("GMT-08:00"));
+      Table test = new Table(source, "test");
+      Row row = test.getRow(0);
+      DateValue date = DateValue.from((Date) row.getColumnValue("VAR9").getValue());
+      TimeValue time = TimeValue.from((Time) row.getColumnValue("VAR8").getValue());
+      DateTimeValue dateTime = DateTimeValue.from((Timestamp) row.getColumnValue("VAR10").getValue());
+      File file = createFile();
+      SnapshotFile.write(file, test);
+
+      TimeZone.setDefault(TimeZone.getTimeZone("GMT+09:00"));
+      Table read = new Table();
+      SnapshotFile.read(file).getDataList().get(0).setRowsOf(read);
+      Row readRow = read.getRow(0);
+      assertThat(DateValue.from((Date) readRow.getColumnValue("VAR9").getValue())).isEqualTo(date);
+      assertThat(TimeValue.from((Time) readRow.getColumnValue("VAR8").getValue())).isEqualTo(time);
+      assertThat(DateTimeValue.from((Timestamp) readRow.getColumnValue("VAR10").getValue())).isEqualTo(dateTime);
+    } finally {
+      TimeZone.setDefault(timeZone);
+    }
+  }
+
+  /**
+   * This method should fail because the start point is captured by triggers.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_start_point_is_captured() throws IOException {
+    File file = createFile();
+    try (Changes changes = new Changes(new Table(source, "movie")).setTriggerCapture(true).setStartPointNow()) {
+      changes.saveStartPoint(file);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the projection of the request of a {@code Table} with columns to exclude.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Table_ColumnsToExclude_Projection_Test extends AbstractTest {
+
+  /**
+   * This method tests that the excluded columns are not selected.
+   */
+  @Test
+  public void test_projection_without_excluded_columns() {
+    Table table = new Table(dataSource, "movie", null, new String[] { "title" });
+    assertThat(table.getRequest()).isEqualTo("SELECT \"ID\", \"YEAR\", \"MOVIE_IMDB\" FROM movie");
+    assertThat(table.getColumnsNameList()).containsExactly("ID", "YEAR", "MOVIE_IMDB");
+    assertThat(table.getPksNameList()).containsExactly("ID");
+    assertThat(table.getRow(0).getColumnsNameList()).containsExactly("ID", "YEAR", "MOVIE_IMDB");
+  }
+
+  /**
+   * This method tests that the excluded columns are removed from the columns to check.
+   */
+  @Test
+  public void test_projection_with_columns_to_check() {
+    Table table = new Table(dataSource, "movie", new String[] { "id", "title", "year" }, new String[] { "title" });
+    assertThat(table.getRequest()).isEqualTo("SELECT ID, YEAR FROM movie");
+    assertThat(table.getColumnsNameList()).containsExactly("ID", "YEAR");
+  }
+
+  /**
+   * This method tests that the request is not changed without columns to exclude or when all the columns are excluded.
+   */
+  @Test
+  public void test_request_without_projection() {
+    Table table = new Table(dataSource, "movie");
+    assertThat(table.getRequest()).isEqualTo("SELECT * FROM movie");
+    Table table2 = new Table(dataSource, "movie", new String[] { "title" }, new String[] { "title" });
+    assertThat(table2.getRequest()).isEqualTo("SELECT TITLE FROM movie");
+    assertThat(table2.getColumnsNameList()).isEmpty();
+  }
+
+  /**
+   * This method tests that the changes use the projection.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_excluded_columns() {
+    Table table = new Table(dataSource, "movie", null, new String[] { "title" });
+    Changes changes = new Changes(table).setStartPointNow();
+    update("update movie set title = 'Alien 2' where id = 1");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).isEmpty();
+    assertThat(changes.getTablesAtStartPointList().get(0).getColumnsNameList())
+            .containsExactly("ID", "YEAR", "MOVIE_IMDB");
+  }
+}
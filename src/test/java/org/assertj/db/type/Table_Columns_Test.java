@@ -60,4 +60,27 @@ public class Table_Columns_Test extends AbstractTest {
     assertThat(columnFromIndex.getRowValue(1).getValue()).isEqualTo("The Village");
   }
 
+  /**
+   * This method test that the values of the columns are the values of the rows (without copy).
+   */
+  @Test
+  public void test_columns_values_are_the_values_of_the_rows() {
+    Table table = new Table(source, "movie");
+
+    Column columnFromIndex = table.getColumn(1);
+
+    assertThat(columnFromIndex.getValuesList()).hasSize(3);
+    assertThat(columnFromIndex.getRowValue(0)).isSameAs(table.getRow(0).getColumnValue(1));
+    assertThat(columnFromIndex.getRowValue(2)).isSameAs(table.getRow(2).getColumnValue(1));
+  }
+
+  /**
+   * This method should fail because the values of the column can not be modified.
+   */
+  @Test(expected = UnsupportedOperationException.class)
+  public void should_fail_because_values_of_column_can_not_be_modified() {
+    Table table = new Table(source, "movie");
+
+    table.getColumn(1).getValuesList().remove(0);
+  }
 }
@@ -0,0 +1,157 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the filter and the maximum number of rows of a {@code Table}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Table_Filter_Test extends AbstractTest {
+
+  /**
+   * This method tests the getters and the setters.
+   */
+  @Test
+  public void test_getters_and_setters() {
+    Table table = new Table(source, "movie");
+    assertThat(table.getFilter()).isNull();
+    assertThat(table.getFilterParameters()).isEmpty();
+    assertThat(table.getMaxRows()).isEqualTo(0);
+
+    assertThat(table.setFilter("year > ?", 2000)).isSameAs(table);
+    assertThat(table.getFilter()).isEqualTo("year > ?");
+    assertThat(table.getFilterParameters()).containsExactly(2000);
+    assertThat(table.getRequest()).isEqualTo("SELECT * FROM movie WHERE year > ?");
+    assertThat(table.setMaxRows(10)).isSameAs(table);
+    assertThat(table.getMaxRows()).isEqualTo(10);
+
+    table.setFilter(null);
+    assertThat(table.getFilter()).isNull();
+    assertThat(table.getRequest()).isEqualTo("SELECT * FROM movie");
+  }
+
+  /**
+   * This method should fail because the maximum number of rows is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_max_rows_is_negative() {
+    new Table(source, "movie").setMaxRows(-1);
+  }
+
+  /**
+   * This method tests that only the filtered rows are loaded and that the primary keys are detected.
+   */
+  @Test
+  public void test_filtered_rows() throws Exception {
+    Table table = new Table(source, "movie").setFilter("year > ?", 2000);
+    assertThat(table.getNumberOfRows()).isEqualTo(2);
+    assertThat(table.getColumn(1).getNumberOfNullValues()).isEqualTo(0);
+    assertThat(table.getRowsList()).hasSize(2);
+    assertThat(table.getPksNameList()).containsExactly("ID");
+    assertThat(table.getRow(0).getColumnValue("TITLE").getValue()).isEqualTo("The Village");
+    assertThat(table.getRowFromPksValues(getValue(null, new BigDecimal(3)))).isSameAs(table.getRow(1));
+  }
+
+  /**
+   * This method tests the maximum number of rows.
+   */
+  @Test
+  public void test_max_rows() {
+    Table table = new Table(source, "movie").setMaxRows(2);
+    assertThat(table.getNumberOfRows()).isEqualTo(2);
+    assertThat(table.getColumn(1).getNumberOfNullValues()).isEqualTo(0);
+    assertThat(table.getRowsList()).hasSize(2);
+    assertThat(table.getPksNameList()).containsExactly("ID");
+  }
+
+  /**
+   * This method tests that the changes only capture the filtered rows.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_filtered_table() {
+    Table table = new Table(source, "movie").setFilter("year > ?", 2000);
+    Changes changes = new Changes(table).setStartPointNow();
+    update("update movie set title = 'Alien 2' where id = 1");
+    update("update movie set title = 'The Village 2' where id = 2");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(changes.getTablesAtStartPointList().get(0).getRowsList()).hasSize(2);
+  }
+
+  /**
+   * This method tests that the filter on the primary keys values is added to the filter.
+   */
+  @Test
+  public void test_filter_on_pks_values_with_filter() {
+    List<List<Object>> pksValuesList = new ArrayList<>();
+    for (int id = 1; id <= 3; id++) {
+      pksValuesList.add(Arrays.<Object>asList(new BigDecimal(id)));
+    }
+    Table table = new Table(source, "movie").setFilter("year > ?", 2000)
+                                            .setFilterOnPksValues(Arrays.asList("ID"), pksValuesList);
+    assertThat(table.getFilter()).isEqualTo("year > ?");
+    assertThat(table.getNumberOfRows()).isEqualTo(2);
+    assertThat(table.getRow(0).getColumnValue("TITLE").getValue()).isEqualTo("The Village");
+  }
+
+  /**
+   * This method tests the filter on more primary keys values than the parameters of a request.
+   */
+  @Test
+  @NeedReload
+  public void test_filter_on_many_pks_values() {
+    update("insert into test(var1, var12) select x, 'value ' || x from system_range(2000, 4499)");
+    List<List<Object>> pksValuesList = new ArrayList<>();
+    for (int var1 = 2000; var1 < 4500; var1++) {
+      pksValuesList.add(Arrays.<Object>asList(var1));
+    }
+    Table table = new Table(source, "test").setFilter("var1 < ?", 4000)
+                                           .setFilterOnPksValues(Arrays.asList("VAR1"), pksValuesList);
+    assertThat(table.getRowsList()).hasSize(2000);
+    assertThat(table.getRow(1999).getColumnValue("VAR12").getValue()).isEqualTo("value 3999");
+  }
+
+  /**
+   * This method tests that the rows read by several batches of primary keys values are sorted like the other rows.
+   */
+  @Test
+  @NeedReload
+  public void test_filter_on_many_pks_values_sorts_the_rows() {
+    update("insert into test(var1, var12) select x, 'value ' || x from system_range(2000, 4499)");
+    List<List<Object>> pksValuesList = new ArrayList<>();
+    for (int var1 = 4499; var1 >= 2000; var1--) {
+      pksValuesList.add(Arrays.<Object>asList(var1));
+    }
+    Table table = new Table(source, "test").setFilterOnPksValues(Arrays.asList("VAR1"), pksValuesList);
+    assertThat(table.getRowsList()).hasSize(2500);
+    for (int index = 0; index < 2500; index++) {
+      assertThat(table.getRow(index).getColumnValue("VAR1").getValue()).isEqualTo(2000 + index);
+    }
+  }
+
+}
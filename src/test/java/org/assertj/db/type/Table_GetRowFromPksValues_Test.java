@@ -16,6 +16,7 @@ import org.assertj.db.common.AbstractTest;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -61,4 +62,37 @@ public class Table_GetRowFromPksValues_Test extends AbstractTest {
             .isEqualTo(UUID.fromString(
                                "30B443AE-C0C9-4790-9BEC-CE1380808435"));
   }
+
+  /**
+   * This method test getting a row from primary keys values with other types of numbers.
+   */
+  @Test
+  public void test_getting_row_from_primary_keys_values_with_other_types_of_numbers() throws Exception {
+    Table table = new Table(source, "movie");
+
+    assertThat(table.getRowFromPksValues(getValue(null, new BigDecimal("3.00"))).getValuesList().get(1).getValue())
+            .isEqualTo("Avatar");
+    assertThat(table.getRowFromPksValues(getValue(null, new BigInteger("2"))).getValuesList().get(1).getValue())
+            .isEqualTo("The Village");
+    assertThat(table.getRowFromPksValues(getValue(null, (short) 1)).getValuesList().get(1).getValue())
+            .isEqualTo("Alien");
+    assertThat(table.getRowFromPksValues(getValue(null, 1.5D))).isNull();
+    assertThat(table.getRowFromPksValues(getValue(null, "1")).getValuesList().get(1).getValue())
+            .isEqualTo("Alien");
+    assertThat(table.getRowFromPksValues(getValue(null, "4"))).isNull();
+  }
+
+  /**
+   * This method test getting a row from primary keys values given as text.
+   */
+  @Test
+  public void test_getting_row_from_primary_keys_values_as_text() throws Exception {
+    Request request = new Request(source, "select * from movie").setPksName("MOVIE_IMDB");
+
+    assertThat(request.getRowFromPksValues(getValue(null, UUID.fromString("D735221B-5DE5-4112-AA1E-49090CB75ADA")))
+                      .getValuesList().get(1).getValue()).isEqualTo("Avatar");
+    assertThat(request.getRowFromPksValues(getValue(null, "30B443AE-C0C9-4790-9BEC-CE1380808435"))
+                      .getValuesList().get(1).getValue()).isEqualTo("Alien");
+    assertThat(request.getRowFromPksValues(getValue(null, "30B443AE-C0C9-4790-9BEC-CE1380808436"))).isNull();
+  }
 }
@@ -100,6 +100,24 @@ public class TimeValue_Test extends AbstractTest {
     new TimeValue("09a01");
   }
 
+  /**
+   * This method should throw a {@code ParseException} because passing a parameter to constructor with a bad character
+   * on the separator of the nanoseconds.
+   */
+  @Test(expected = ParseException.class)
+  public void should_constructor_with_string_fail_if_time_has_bad_character_on_nano_separator() throws ParseException {
+    new TimeValue("09:01:06a000000003");
+  }
+
+  /**
+   * This method should throw a {@code ParseException} because passing a parameter to constructor with a bad character
+   * on the nanoseconds.
+   */
+  @Test(expected = ParseException.class)
+  public void should_constructor_with_string_fail_if_time_has_bad_character_on_nano() throws ParseException {
+    new TimeValue("09:01:06.00000000a");
+  }
+
   /**
    * This method tests the constructor with a {@code Calendar}.
    */
@@ -127,6 +145,18 @@ public class TimeValue_Test extends AbstractTest {
     assertThat(timeValue.getNanoSeconds()).isEqualTo(0);
   }
 
+  /**
+   * This method tests the constructor with a {@code Time} containing milliseconds.
+   */
+  @Test
+  public void test_contructor_with_time_containing_milliseconds() throws ParseException {
+    TimeValue timeValue = new TimeValue(new Time(Time.valueOf("09:01:06").getTime() + 123));
+    assertThat(timeValue.getHour()).isEqualTo(9);
+    assertThat(timeValue.getMinutes()).isEqualTo(1);
+    assertThat(timeValue.getSeconds()).isEqualTo(6);
+    assertThat(timeValue.getNanoSeconds()).isEqualTo(123000000);
+  }
+
   /**
    * This method should throw a {@code NullPointerException} because passing a {@code null} parameter to constructor
    * with a {@code Time}.
@@ -0,0 +1,100 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.Value;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on {@code isEqualTo} method of {@link ExpectedValue}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class ExpectedValue_IsEqualTo_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code isEqualTo} method with an expected {@code String} compared to many values.
+   */
+  @Test
+  public void test_is_equal_to_with_string() throws Exception {
+    ExpectedValue expectedValue = ExpectedValue.of("1");
+    assertThat(expectedValue.getExpected()).isEqualTo("1");
+    assertThat(expectedValue.isEqualTo(getValue(null, 1))).isTrue();
+    assertThat(expectedValue.isEqualTo(getValue(null, 2L))).isFalse();
+    assertThat(expectedValue.isEqualTo(getValue(null, new BigDecimal("1.0")))).isTrue();
+    assertThat(expectedValue.isEqualTo(getValue(null, 1.5D))).isFalse();
+    assertThat(expectedValue.isEqualTo(getValue(null, "1"))).isTrue();
+    assertThat(expectedValue.isEqualTo(getValue(null, "2"))).isFalse();
+    assertThat(expectedValue.isEqualTo(getValue(null, true))).isFalse();
+
+    ExpectedValue expectedDate = ExpectedValue.of("2007-12-23");
+    assertThat(expectedDate.isEqualTo(getValue(null, Date.valueOf("2007-12-23")))).isTrue();
+    assertThat(expectedDate.isEqualTo(getValue(null, Date.valueOf("2007-12-24")))).isFalse();
+    assertThat(expectedDate.isEqualTo(getValue(null, Timestamp.valueOf("2007-12-23 00:00:00")))).isTrue();
+    assertThat(expectedDate.isEqualTo(getValue(null, Timestamp.valueOf("2007-12-23 09:01:00")))).isFalse();
+
+    ExpectedValue expectedTime = ExpectedValue.of("09:01:06");
+    assertThat(expectedTime.isEqualTo(getValue(null, Time.valueOf("09:01:06")))).isTrue();
+    assertThat(expectedTime.isEqualTo(getValue(null, Time.valueOf("09:01:07")))).isFalse();
+
+    ExpectedValue expectedUUID = ExpectedValue.of("30B443AE-C0C9-4790-9BEC-CE1380808435");
+    assertThat(expectedUUID.isEqualTo(getValue(null, UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435"))))
+            .isTrue();
+    assertThat(expectedUUID.isEqualTo(getValue(null, UUID.fromString("16319617-AE95-4087-9264-D3D21BF611B6"))))
+            .isFalse();
+  }
+
+  /**
+   * This method tests the {@code isEqualTo} method with expected values which are not {@code String}s.
+   */
+  @Test
+  public void test_is_equal_to_with_other_values() throws Exception {
+    assertThat(ExpectedValue.of(1).isEqualTo(getValue(null, 1L))).isTrue();
+    assertThat(ExpectedValue.of(true).isEqualTo(getValue(null, true))).isTrue();
+    assertThat(ExpectedValue.of(null).isEqualTo(getValue(null, null))).isTrue();
+    assertThat(ExpectedValue.of(null).isEqualTo(getValue(null, "1"))).isFalse();
+
+    ExpectedValue[] expectedValues = ExpectedValue.arrayOf(new Object[] { "1", 2 });
+    assertThat(expectedValues).hasSize(2);
+    assertThat(expectedValues[0].isEqualTo(getValue(null, 1))).isTrue();
+    assertThat(expectedValues[1].isEqualTo(getValue(null, 2))).isTrue();
+  }
+
+  /**
+   * This method should fail because the expected {@code String} is not a number.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_string_is_not_a_number() throws Exception {
+    ExpectedValue.of("a").isEqualTo(getValue(null, 1));
+  }
+
+  /**
+   * This method should fail because the expected {@code String} is not a date.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_string_is_not_a_date() throws Exception {
+    Value value = getValue(null, Date.valueOf("2007-12-23"));
+    ExpectedValue.of("2007-12-23T").isEqualTo(value);
+  }
+}
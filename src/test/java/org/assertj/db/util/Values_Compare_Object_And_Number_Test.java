@@ -243,4 +243,17 @@ public class Values_Compare_Object_And_Number_Test extends AbstractTest {
     assertThat(Values.compare(getValue(null, "-"), 1));
   }
 
+  /**
+   * This method tests the {@code compare} method for integers near the limits of {@code long}.
+   */
+  @Test
+  public void test_compare_for_long_near_limits() throws Exception {
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE), Long.MAX_VALUE - 1)).isEqualTo(1);
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE - 1), Long.MAX_VALUE)).isEqualTo(-1);
+    assertThat(Values.compare(getValue(null, Long.MAX_VALUE), Long.MAX_VALUE)).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, Long.MIN_VALUE), new BigInteger("" + Long.MIN_VALUE))).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, Long.MIN_VALUE), new BigDecimal("" + Long.MIN_VALUE))).isEqualTo(0);
+    assertThat(Values.compare(getValue(null, new BigDecimal("9223372036854775806.5")), Long.MAX_VALUE)).isEqualTo(-1);
+  }
+
 }
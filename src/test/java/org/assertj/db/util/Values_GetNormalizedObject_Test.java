@@ -0,0 +1,78 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.TimeValue;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on {@code getNormalizedObject} method.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Values_GetNormalizedObject_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code getNormalizedObject} method for numbers.
+   */
+  @Test
+  public void test_get_normalized_object_for_numbers() throws Exception {
+    Object normalized = Values.getNormalizedObject(getValue(null, 1L));
+    assertThat(Values.getNormalizedObject(getValue(null, (byte) 1))).isEqualTo(normalized);
+    assertThat(Values.getNormalizedObject(getValue(null, (short) 1))).isEqualTo(normalized);
+    assertThat(Values.getNormalizedObject(getValue(null, 1))).isEqualTo(normalized);
+    assertThat(Values.getNormalizedObject(getValue(null, new BigInteger("1")))).isEqualTo(normalized);
+    assertThat(Values.getNormalizedObject(getValue(null, new BigDecimal("1.00")))).isEqualTo(normalized);
+    assertThat(Values.getNormalizedObject(getValue(null, 1F))).isEqualTo(normalized);
+    assertThat(Values.getNormalizedObject(getValue(null, 1D))).isEqualTo(normalized);
+    assertThat(Values.getNormalizedObject(getValue(null, 2L))).isNotEqualTo(normalized);
+    assertThat(Values.getNormalizedObject(getValue(null, new BigDecimal("0.00"))))
+            .isEqualTo(Values.getNormalizedObject(getValue(null, 0)));
+    assertThat(Values.getNormalizedObject(getValue(null, 1.5F)))
+            .isEqualTo(Values.getNormalizedObject(getValue(null, new BigDecimal("1.50"))));
+    assertThat(Values.getNormalizedObject(getValue(null, Double.NaN))).isEqualTo(Double.NaN);
+  }
+
+  /**
+   * This method tests the {@code getNormalizedObject} method for the other types.
+   */
+  @Test
+  public void test_get_normalized_object_for_other_types() throws Exception {
+    UUID uuid = UUID.fromString("30B443AE-C0C9-4790-9BEC-CE1380808435");
+    assertThat(Values.getNormalizedObject(getValue(null, null))).isNull();
+    assertThat(Values.getNormalizedObject(getValue(null, "text"))).isEqualTo("text");
+    assertThat(Values.getNormalizedObject(getValue(null, true))).isEqualTo(true);
+    assertThat(Values.getNormalizedObject(getValue(null, uuid))).isEqualTo(uuid);
+    assertThat(Values.getNormalizedObject(getValue(null, new byte[] { 1, 2 })))
+            .isEqualTo(Values.getNormalizedObject(getValue(null, new byte[] { 1, 2 })));
+    assertThat(Values.getNormalizedObject(getValue(null, Date.valueOf("2007-12-23"))))
+            .isEqualTo(DateTimeValue.of(DateValue.of(2007, 12, 23)));
+    assertThat(Values.getNormalizedObject(getValue(null, Time.valueOf("09:01:00"))))
+            .isEqualTo(TimeValue.of(9, 1));
+    assertThat(Values.getNormalizedObject(getValue(null, Timestamp.valueOf("2007-12-23 09:01:00"))))
+            .isEqualTo(DateTimeValue.of(DateValue.of(2007, 12, 23), TimeValue.of(9, 1)));
+  }
+}